@@ -0,0 +1,326 @@
+package com.reliaquest.api.cache;
+
+import com.reliaquest.api.external.EmployeeAPIs;
+import com.reliaquest.api.index.NameFolding;
+import com.reliaquest.api.models.Employee;
+import com.reliaquest.api.models.EmployeeChanges;
+import com.reliaquest.api.response.CacheStatsResponse;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Holds an immutable snapshot of the full employee list so that read endpoints do not hit the
+ * upstream on every request. An expired snapshot is still served while a single background refresh
+ * revalidates it; only a cold cache blocks the caller on the upstream call.
+ *
+ * <p>With {@code employee.cache.incremental-sync} enabled, revalidation asks the upstream only for
+ * the inserts and deletes since the snapshot's roster version, so a refresh costs in proportion to
+ * the churn rather than to the roster size.
+ *
+ * <p>A snapshot served past its TTL marks the request through {@link StaleReads}, so the response
+ * says how old the data is. This covers a revalidation that is still running or that failed,
+ * for example because the upstream circuit is open.
+ */
+@Slf4j
+@Component
+public class EmployeeCache {
+
+    private final EmployeeAPIs employeeApis;
+    private final Duration ttl;
+    private final NameFolding nameFolding;
+    private final Clock clock;
+    private final Executor refreshExecutor;
+    private final boolean incrementalSync;
+
+    private final AtomicReference<EmployeeSnapshot> snapshot = new AtomicReference<>();
+    private final AtomicBoolean refreshing = new AtomicBoolean();
+    private final ReentrantLock loadLock = new ReentrantLock();
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder staleHits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder refreshes = new LongAdder();
+    private final LongAdder refreshFailures = new LongAdder();
+
+    @Autowired
+    public EmployeeCache(EmployeeAPIs employeeApis, @Value("${employee.cache.ttl:30s}") Duration ttl,
+                         NameFolding nameFolding,
+                         @Value("${spring.threads.virtual.enabled:false}") boolean virtualThreads,
+                         @Value("${employee.cache.incremental-sync:true}") boolean incrementalSync) {
+        this(employeeApis, ttl, nameFolding, Clock.systemUTC(), refreshExecutor(virtualThreads), incrementalSync);
+    }
+
+    EmployeeCache(EmployeeAPIs employeeApis, Duration ttl, NameFolding nameFolding, Clock clock,
+                  Executor refreshExecutor) {
+        this(employeeApis, ttl, nameFolding, clock, refreshExecutor, false);
+    }
+
+    EmployeeCache(EmployeeAPIs employeeApis, Duration ttl, NameFolding nameFolding, Clock clock,
+                  Executor refreshExecutor, boolean incrementalSync) {
+        this.employeeApis = employeeApis;
+        this.ttl = ttl;
+        this.nameFolding = nameFolding;
+        this.clock = clock;
+        this.refreshExecutor = refreshExecutor;
+        this.incrementalSync = incrementalSync;
+    }
+
+    public List<Employee> getEmployees() {
+        return getSnapshot().getEmployees();
+    }
+
+    public EmployeeSnapshot getSnapshot() {
+        EmployeeSnapshot current = snapshot.get();
+        if (current == null) {
+            misses.increment();
+            return load();
+        }
+        Duration age = current.age(clock);
+        if (age.compareTo(ttl) > 0) {
+            staleHits.increment();
+            StaleReads.mark(age);
+            refreshAsync();
+        } else {
+            hits.increment();
+        }
+        return current;
+    }
+
+    /**
+     * Keeps a warm cache fresh between requests. A cold cache is left alone so that an idle
+     * instance does not spend the upstream request budget.
+     */
+    @Scheduled(initialDelayString = "${employee.cache.refresh-interval-ms:60000}",
+            fixedDelayString = "${employee.cache.refresh-interval-ms:60000}")
+    public void scheduledRefresh() {
+        if (snapshot.get() != null) {
+            refreshAsync();
+        }
+    }
+
+    /**
+     * Starts loading a cold cache in the background, for callers that answer the current request
+     * without it and want the next one served from the cache. A loaded cache is left alone.
+     */
+    public void warmAsync() {
+        if (snapshot.get() == null) {
+            refreshAsync();
+        }
+    }
+
+    /**
+     * Looks the employee up in the current snapshot without loading or refreshing it, for answering
+     * from the last known roster when the upstream cannot be reached. A hit marks the request stale.
+     */
+    public Optional<Employee> findCached(String id) {
+        EmployeeSnapshot current = snapshot.get();
+        if (current == null) {
+            return Optional.empty();
+        }
+        Optional<Employee> employee = current.findById(id);
+        employee.ifPresent(found -> StaleReads.mark(current.age(clock)));
+        return employee;
+    }
+
+    public void onEmployeeCreated(Employee employee) {
+        snapshot.updateAndGet(current -> current == null ? null : current.withEmployee(employee));
+    }
+
+    public void onEmployeeDeleted(String id) {
+        snapshot.updateAndGet(current -> current == null ? null : current.withoutEmployee(id));
+    }
+
+    public void onEmployeesCreated(List<Employee> employees) {
+        if (!employees.isEmpty()) {
+            snapshot.updateAndGet(current -> current == null ? null : current.withEmployees(employees));
+        }
+    }
+
+    public void onEmployeesDeleted(Collection<String> ids) {
+        if (!ids.isEmpty()) {
+            Set<String> removed = Set.copyOf(ids);
+            snapshot.updateAndGet(current -> current == null ? null : current.withoutEmployees(removed));
+        }
+    }
+
+    public void invalidate() {
+        snapshot.set(null);
+    }
+
+    /**
+     * Whether a snapshot is held, fresh or not, so that reads can be answered without loading one.
+     */
+    public boolean isLoaded() {
+        return snapshot.get() != null;
+    }
+
+    /**
+     * Number of employees in the current snapshot, or 0 while the cache is cold.
+     */
+    public int size() {
+        EmployeeSnapshot current = snapshot.get();
+        return current == null ? 0 : current.getEmployees().size();
+    }
+
+    public CacheStatsResponse getStats() {
+        EmployeeSnapshot current = snapshot.get();
+        return new CacheStatsResponse(
+                hits.sum(),
+                staleHits.sum(),
+                misses.sum(),
+                refreshes.sum(),
+                refreshFailures.sum(),
+                current == null ? 0 : current.getEmployees().size(),
+                current == null ? -1 : current.age(clock).toMillis());
+    }
+
+    @PreDestroy
+    void shutdown() {
+        if (refreshExecutor instanceof ExecutorService executorService) {
+            executorService.shutdownNow();
+        } else if (refreshExecutor instanceof SimpleAsyncTaskExecutor asyncTaskExecutor) {
+            asyncTaskExecutor.close();
+        }
+    }
+
+    private EmployeeSnapshot load() {
+        loadLock.lock();
+        try {
+            EmployeeSnapshot current = snapshot.get();
+            if (current != null) {
+                return current;
+            }
+            return refresh();
+        } finally {
+            loadLock.unlock();
+        }
+    }
+
+    private void refreshAsync() {
+        if (!refreshing.compareAndSet(false, true)) {
+            return;
+        }
+        try {
+            refreshExecutor.execute(() -> {
+                try {
+                    refresh();
+                } catch (RuntimeException e) {
+                    refreshFailures.increment();
+                    log.warn("Employee cache refresh failed, serving stale snapshot: {}", e.getMessage());
+                } finally {
+                    refreshing.set(false);
+                }
+            });
+        } catch (RuntimeException e) {
+            refreshing.set(false);
+            log.warn("Unable to schedule employee cache refresh: {}", e.getMessage());
+        }
+    }
+
+    private EmployeeSnapshot refresh() {
+        EmployeeSnapshot current = snapshot.get();
+        if (!incrementalSync) {
+            return install(current, employeeApis.getAllEmployees());
+        }
+        boolean versioned = current != null && current.getVersion() != EmployeeSnapshot.UNKNOWN_VERSION;
+        EmployeeChanges changes = employeeApis.getChangesSince(versioned ? current.getVersion() : 0);
+        if (!versioned || changes.isReset()) {
+            return install(current, changes.getInserted(), changes.getVersion());
+        }
+        EmployeeSnapshot synced = replace(current, current.withChanges(changes, clock));
+        log.info("Employee cache synced to version {} with {} inserts and {} deletes", changes.getVersion(),
+                changes.getInserted().size(), changes.getDeleted().size());
+        return synced;
+    }
+
+    private EmployeeSnapshot install(EmployeeSnapshot base, List<Employee> employees) {
+        return install(base, employees, EmployeeSnapshot.UNKNOWN_VERSION);
+    }
+
+    private EmployeeSnapshot install(EmployeeSnapshot base, List<Employee> employees, long version) {
+        EmployeeSnapshot refreshed = replace(base, EmployeeSnapshot.of(employees, version, clock, nameFolding));
+        log.info("Employee cache refreshed with {} employees", refreshed.getEmployees().size());
+        return refreshed;
+    }
+
+    /**
+     * Installs a snapshot fetched while {@code base} was current. Creates and deletes applied locally
+     * in the meantime are not in {@code base}, and the fetch may have missed them, so they are applied
+     * again on top of it rather than lost until the next refresh. A cold load that lost the race to
+     * another one keeps the snapshot already installed.
+     */
+    private EmployeeSnapshot replace(EmployeeSnapshot base, EmployeeSnapshot fetched) {
+        fetched.buildIndexes();
+        while (true) {
+            EmployeeSnapshot current = snapshot.get();
+            if (base == null && current != null) {
+                return current;
+            }
+            EmployeeSnapshot rebased = current == base || current == null ? fetched : reapply(base, current, fetched);
+            if (snapshot.compareAndSet(current, rebased.buildIndexes())) {
+                refreshes.increment();
+                return rebased;
+            }
+        }
+    }
+
+    private static EmployeeSnapshot reapply(EmployeeSnapshot base, EmployeeSnapshot current,
+                                            EmployeeSnapshot fetched) {
+        Set<String> before = ids(base.getEmployees());
+        Set<String> after = ids(current.getEmployees());
+        List<Employee> created = current.getEmployees().stream()
+                .filter(employee -> employee.getId() != null && !before.contains(employee.getId()))
+                .toList();
+        Set<String> deleted = new HashSet<>(before);
+        deleted.removeAll(after);
+        EmployeeSnapshot rebased = deleted.isEmpty() ? fetched : fetched.withoutEmployees(deleted);
+        return created.isEmpty() ? rebased : rebased.withEmployees(created);
+    }
+
+    private static Set<String> ids(List<Employee> employees) {
+        Set<String> ids = new HashSet<>(employees.size() * 2);
+        for (Employee employee : employees) {
+            if (employee.getId() != null) {
+                ids.add(employee.getId());
+            }
+        }
+        return ids;
+    }
+
+    /**
+     * Refreshes are serialized by {@link #refreshing}, so one thread is enough. It is a virtual
+     * thread per refresh when virtual threads are enabled and the JDK supports them.
+     */
+    private static Executor refreshExecutor(boolean virtualThreads) {
+        if (virtualThreads && Runtime.version().feature() >= 21) {
+            SimpleAsyncTaskExecutor executor = new SimpleAsyncTaskExecutor("employee-cache-refresh-");
+            executor.setVirtualThreads(true);
+            return executor;
+        }
+        return Executors.newSingleThreadExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "employee-cache-refresh");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+}
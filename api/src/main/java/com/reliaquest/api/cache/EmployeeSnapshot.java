@@ -0,0 +1,144 @@
+package com.reliaquest.api.cache;
+
+import com.reliaquest.api.index.EmployeeColumns;
+import com.reliaquest.api.index.NameFolding;
+import com.reliaquest.api.index.NameSearchIndex;
+import com.reliaquest.api.index.SalaryIndex;
+import com.reliaquest.api.models.Employee;
+import com.reliaquest.api.models.EmployeeChanges;
+import lombok.Getter;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+
+/**
+ * Immutable view of the full upstream employee list together with the instant it was fetched and
+ * the indexes derived from it. Indexes are built on first use, so a burst of local mutations does not
+ * rebuild them for snapshots nobody reads. Local mutations produce a new snapshot and keep the
+ * original fetch time, so the TTL still decides when the data is revalidated against the upstream.
+ *
+ * <p>{@code version} is the upstream roster version the snapshot was synced to, or
+ * {@link #UNKNOWN_VERSION} when it came from a plain list fetch.
+ */
+@Getter
+public final class EmployeeSnapshot {
+
+    public static final long UNKNOWN_VERSION = -1;
+
+    private final List<Employee> employees;
+    private final long version;
+    private final Instant fetchedAt;
+    private final NameFolding nameFolding;
+
+    @Getter(lazy = true)
+    private final EmployeeColumns columns = EmployeeColumns.of(employees);
+
+    @Getter(lazy = true)
+    private final SalaryIndex salaryIndex = SalaryIndex.of(employees, getColumns());
+
+    @Getter(lazy = true)
+    private final NameSearchIndex nameSearchIndex = NameSearchIndex.of(employees, nameFolding);
+
+    private EmployeeSnapshot(List<Employee> employees, long version, Instant fetchedAt, NameFolding nameFolding) {
+        this.employees = List.copyOf(employees);
+        this.version = version;
+        this.fetchedAt = Objects.requireNonNull(fetchedAt);
+        this.nameFolding = Objects.requireNonNull(nameFolding);
+    }
+
+    public static EmployeeSnapshot of(List<Employee> employees, Clock clock) {
+        return of(employees, clock, NameFolding.NONE);
+    }
+
+    public static EmployeeSnapshot of(List<Employee> employees, Clock clock, NameFolding nameFolding) {
+        return of(employees, UNKNOWN_VERSION, clock, nameFolding);
+    }
+
+    public static EmployeeSnapshot of(List<Employee> employees, long version, Clock clock, NameFolding nameFolding) {
+        return new EmployeeSnapshot(employees, version, clock.instant(), nameFolding);
+    }
+
+    public Duration age(Clock clock) {
+        return Duration.between(fetchedAt, clock.instant());
+    }
+
+    /**
+     * Lookup by id through the hashed id column of {@link #getColumns()}.
+     */
+    public Optional<Employee> findById(String id) {
+        int row = getColumns().indexOf(id);
+        return row < 0 ? Optional.empty() : Optional.of(employees.get(row));
+    }
+
+    /**
+     * Builds every index up front, for callers that create snapshots off the request path.
+     */
+    public EmployeeSnapshot buildIndexes() {
+        getColumns();
+        getSalaryIndex();
+        getNameSearchIndex();
+        return this;
+    }
+
+    public EmployeeSnapshot withEmployee(Employee employee) {
+        return withEmployees(List.of(employee));
+    }
+
+    /**
+     * Appends {@code added}, replacing any employee already held under the same id, so that applying
+     * the same create twice keeps one copy.
+     */
+    public EmployeeSnapshot withEmployees(Collection<Employee> added) {
+        Set<String> addedIds = new HashSet<>();
+        added.forEach(employee -> addedIds.add(employee.getId()));
+        List<Employee> updated = new ArrayList<>(employees.size() + added.size());
+        for (Employee employee : employees) {
+            if (employee.getId() == null || !addedIds.contains(employee.getId())) {
+                updated.add(employee);
+            }
+        }
+        updated.addAll(added);
+        return new EmployeeSnapshot(updated, version, fetchedAt, nameFolding);
+    }
+
+    public EmployeeSnapshot withoutEmployee(String id) {
+        return withoutEmployees(Set.of(id));
+    }
+
+    public EmployeeSnapshot withoutEmployees(Set<String> ids) {
+        List<Employee> updated = new ArrayList<>(employees.size());
+        for (Employee employee : employees) {
+            if (employee.getId() == null || !ids.contains(employee.getId())) {
+                updated.add(employee);
+            }
+        }
+        return updated.size() == employees.size() ? this
+                : new EmployeeSnapshot(updated, version, fetchedAt, nameFolding);
+    }
+
+    /**
+     * Applies an incremental upstream sync. Unlike local mutations this counts as a revalidation, so
+     * the result carries the new version and a fresh fetch time. Inserts already applied locally are
+     * not duplicated.
+     */
+    public EmployeeSnapshot withChanges(EmployeeChanges changes, Clock clock) {
+        Set<String> replaced = new HashSet<>(changes.getDeleted());
+        changes.getInserted().forEach(employee -> replaced.add(employee.getId()));
+        List<Employee> updated = new ArrayList<>(employees.size() + changes.getInserted().size());
+        for (Employee employee : employees) {
+            if (employee.getId() == null || !replaced.contains(employee.getId())) {
+                updated.add(employee);
+            }
+        }
+        updated.addAll(changes.getInserted());
+        return new EmployeeSnapshot(updated, changes.getVersion(), clock.instant(), nameFolding);
+    }
+}
@@ -0,0 +1,26 @@
+package com.reliaquest.api.cache;
+
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+
+import java.time.Duration;
+
+/**
+ * Marks the current request as answered from employee data that could not be revalidated in time,
+ * so that the response can say how old it is. Outside a request, e.g. on a background refresh,
+ * marking does nothing.
+ */
+public final class StaleReads {
+
+    public static final String AGE_ATTRIBUTE = StaleReads.class.getName() + ".AGE";
+
+    private StaleReads() {
+    }
+
+    public static void mark(Duration age) {
+        RequestAttributes attributes = RequestContextHolder.getRequestAttributes();
+        if (attributes != null) {
+            attributes.setAttribute(AGE_ATTRIBUTE, age, RequestAttributes.SCOPE_REQUEST);
+        }
+    }
+}
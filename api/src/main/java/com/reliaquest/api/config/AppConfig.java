@@ -1,18 +1,38 @@
 package com.reliaquest.api.config;
 
-import com.fasterxml.jackson.databind.ObjectMapper;
-import org.springframework.boot.web.client.RestTemplateBuilder;
+import com.reliaquest.api.index.NameFolding;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
-import org.springframework.web.client.RestTemplate;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+
+import java.net.http.HttpClient;
+import java.time.Duration;
+import java.util.concurrent.Executors;
 
 @Configuration
 public class AppConfig {
 
+    /**
+     * Transport for the non-blocking client. A few threads are enough because they only run
+     * completion callbacks; the calls themselves do not hold a thread while in flight.
+     */
     @Bean
-    public RestTemplate restTemplate(RestTemplateBuilder builder) {
-        return builder.build();
+    public HttpClient upstreamHttpClient(@Value("${employee.client.threads:4}") int threads,
+                                         @Value("${employee.client.connect-timeout:2s}") Duration connectTimeout) {
+        CustomizableThreadFactory threadFactory = new CustomizableThreadFactory("employee-client-");
+        threadFactory.setDaemon(true);
+        return HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .connectTimeout(connectTimeout)
+                .executor(Executors.newFixedThreadPool(threads, threadFactory))
+                .build();
     }
 
+    @Bean
+    public NameFolding nameFolding(@Value("${employee.search.case-insensitive:false}") boolean caseInsensitive,
+                                   @Value("${employee.search.accent-insensitive:false}") boolean accentInsensitive) {
+        return new NameFolding(caseInsensitive, accentInsensitive);
+    }
 
 }
\ No newline at end of file
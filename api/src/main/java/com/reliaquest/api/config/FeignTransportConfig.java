@@ -0,0 +1,108 @@
+package com.reliaquest.api.config;
+
+import com.reliaquest.api.external.FeignTransport;
+import feign.Client;
+import feign.Request;
+import feign.hc5.ApacheHttp5Client;
+import feign.http2client.Http2Client;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.hc.client5.http.config.ConnectionConfig;
+import org.apache.hc.client5.http.impl.classic.CloseableHttpClient;
+import org.apache.hc.client5.http.impl.classic.HttpClients;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManager;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManagerBuilder;
+import org.apache.hc.core5.pool.PoolReusePolicy;
+import org.apache.hc.core5.util.TimeValue;
+import org.apache.hc.core5.util.Timeout;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Lazy;
+
+import java.net.http.HttpClient;
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Transport of the Feign {@code EmployeeClient}. Defining the {@link Client} and the pooled
+ * {@link CloseableHttpClient} here makes Spring Cloud OpenFeign's own HttpClient 5 setup back off,
+ * so that the pool is sized by the {@code employee.client.pool} settings alone.
+ *
+ * <p>Connect and request timeouts are the {@code employee.client} ones the non-blocking client
+ * uses. They are applied to every call as {@link Request.Options}.
+ */
+@Slf4j
+@Configuration
+public class FeignTransportConfig {
+
+    private static final int PLATFORM_MAX_PER_ROUTE = 50;
+
+    @Bean
+    public Client employeeFeignClient(@Value("${employee.client.transport:apache-hc5}") FeignTransport transport,
+                                      ObjectProvider<CloseableHttpClient> pooledHttpClient,
+                                      @Value("${employee.client.connect-timeout:2s}") Duration connectTimeout) {
+        log.info("Employee client transport is {}", transport);
+        return switch (transport) {
+            case URL_CONNECTION -> new Client.Default(null, null);
+            case APACHE_HC5 -> new ApacheHttp5Client(pooledHttpClient.getObject());
+            case HTTP2 -> new Http2Client(HttpClient.newBuilder()
+                    .version(HttpClient.Version.HTTP_2)
+                    .connectTimeout(connectTimeout)
+                    .build());
+        };
+    }
+
+    /**
+     * Only created for the {@code apache-hc5} transport; the context closes it, and with it the pool,
+     * on shutdown.
+     *
+     * <p>Every upstream call goes to the same route. On platform threads the Tomcat pool already bounds
+     * the calls in flight, so the per-route default stays at {@value #PLATFORM_MAX_PER_ROUTE}. On
+     * virtual threads nothing else does, and a smaller route cap would queue requests that could be
+     * waiting on the upstream, so the default is {@code max-connections} instead.
+     */
+    @Bean
+    @Lazy
+    public CloseableHttpClient pooledHttpClient(@Value("${employee.client.pool.max-connections:200}") int maxConnections,
+                                                @Value("${employee.client.pool.max-per-route:#{null}}") Integer maxPerRoute,
+                                                @Value("${spring.threads.virtual.enabled:false}") boolean virtualThreads,
+                                                @Value("${employee.client.pool.idle-eviction:30s}") Duration idleEviction,
+                                                @Value("${employee.client.pool.time-to-live:5m}") Duration timeToLive,
+                                                @Value("${employee.client.connect-timeout:2s}") Duration connectTimeout) {
+        int perRoute = maxPerRoute(maxPerRoute, virtualThreads, maxConnections);
+        log.info("Employee client pool allows {} connections, {} per route", maxConnections, perRoute);
+        PoolingHttpClientConnectionManager connectionManager = PoolingHttpClientConnectionManagerBuilder.create()
+                .setMaxConnTotal(maxConnections)
+                .setMaxConnPerRoute(perRoute)
+                // reuse the most recently returned connection so that surplus ones go idle and get evicted
+                .setConnPoolPolicy(PoolReusePolicy.LIFO)
+                .setDefaultConnectionConfig(ConnectionConfig.custom()
+                        .setConnectTimeout(Timeout.of(connectTimeout))
+                        .setTimeToLive(TimeValue.of(timeToLive))
+                        .setValidateAfterInactivity(TimeValue.ofSeconds(2))
+                        .build())
+                .build();
+        return HttpClients.custom()
+                .setConnectionManager(connectionManager)
+                .evictExpiredConnections()
+                .evictIdleConnections(TimeValue.of(idleEviction))
+                .disableCookieManagement()
+                .disableAutomaticRetries()
+                .build();
+    }
+
+    static int maxPerRoute(Integer configured, boolean virtualThreads, int maxConnections) {
+        if (configured != null) {
+            return configured;
+        }
+        return virtualThreads ? maxConnections : PLATFORM_MAX_PER_ROUTE;
+    }
+
+    @Bean
+    public Request.Options employeeRequestOptions(@Value("${employee.client.connect-timeout:2s}") Duration connectTimeout,
+                                                  @Value("${employee.client.request-timeout:10s}") Duration requestTimeout) {
+        return new Request.Options(connectTimeout.toMillis(), TimeUnit.MILLISECONDS,
+                requestTimeout.toMillis(), TimeUnit.MILLISECONDS, true);
+    }
+}
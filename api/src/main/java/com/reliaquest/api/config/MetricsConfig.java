@@ -0,0 +1,23 @@
+package com.reliaquest.api.config;
+
+import com.reliaquest.api.cache.EmployeeCache;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Meters that are read from existing state rather than updated on the request path. Upstream calls
+ * are timed in {@code UpstreamMetrics}, and endpoint latency comes from Actuator's
+ * {@code http.server.requests}.
+ */
+@Configuration
+public class MetricsConfig {
+
+    @Bean
+    public MeterBinder employeeCacheMetrics(EmployeeCache employeeCache) {
+        return registry -> Gauge.builder("employee.cache.employees", employeeCache, EmployeeCache::size)
+                .description("Employees in the cached list")
+                .register(registry);
+    }
+}
@@ -0,0 +1,35 @@
+package com.reliaquest.api.config;
+
+import com.reliaquest.api.external.UpstreamCodec;
+import feign.RequestInterceptor;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.converter.smile.MappingJackson2SmileHttpMessageConverter;
+
+/**
+ * Content negotiation with the upstream for the Feign {@code EmployeeClient}. The Smile converter
+ * lets Feign's decoder read Smile bodies; JSON keeps its place ahead of it, so the api's own
+ * endpoints still answer JSON unless a caller asks for Smile.
+ */
+@Configuration
+public class WireFormatConfig {
+
+    @Bean
+    public MappingJackson2SmileHttpMessageConverter smileHttpMessageConverter(UpstreamCodec upstreamCodec) {
+        return new MappingJackson2SmileHttpMessageConverter(upstreamCodec.getSmileMapper());
+    }
+
+    /**
+     * Asks for the configured format on every call that does not name one itself, such as the NDJSON stream.
+     */
+    @Bean
+    public RequestInterceptor wireFormatRequestInterceptor(UpstreamCodec upstreamCodec) {
+        String accept = upstreamCodec.accept();
+        return template -> {
+            if (!template.headers().containsKey(HttpHeaders.ACCEPT)) {
+                template.header(HttpHeaders.ACCEPT, accept);
+            }
+        };
+    }
+}
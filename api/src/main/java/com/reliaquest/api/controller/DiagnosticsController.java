@@ -0,0 +1,48 @@
+package com.reliaquest.api.controller;
+
+import com.reliaquest.api.cache.EmployeeCache;
+import com.reliaquest.api.external.EmployeeAPIs;
+import com.reliaquest.api.external.UpstreamCallExecutor;
+import com.reliaquest.api.response.CacheStatsResponse;
+import com.reliaquest.api.response.CircuitBreakerStatsResponse;
+import com.reliaquest.api.response.RateLimiterStatsResponse;
+import com.reliaquest.api.response.SingleFlightStatsResponse;
+import lombok.AllArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.Map;
+
+@RestController
+@RequestMapping("/api/v1/diagnostics")
+@AllArgsConstructor
+public class DiagnosticsController {
+
+    private final EmployeeCache employeeCache;
+
+    private final EmployeeAPIs employeeApis;
+
+    private final UpstreamCallExecutor upstreamCallExecutor;
+
+    @GetMapping("/cache")
+    public ResponseEntity<CacheStatsResponse> getCacheStats() {
+        return ResponseEntity.ok(employeeCache.getStats());
+    }
+
+    @GetMapping("/singleFlight")
+    public ResponseEntity<SingleFlightStatsResponse> getSingleFlightStats() {
+        return ResponseEntity.ok(employeeApis.getSingleFlightStats());
+    }
+
+    @GetMapping("/circuitBreakers")
+    public ResponseEntity<Map<String, CircuitBreakerStatsResponse>> getCircuitBreakerStats() {
+        return ResponseEntity.ok(upstreamCallExecutor.getCircuitBreakerStats());
+    }
+
+    @GetMapping("/rateLimiter")
+    public ResponseEntity<RateLimiterStatsResponse> getRateLimiterStats() {
+        return ResponseEntity.ok(upstreamCallExecutor.getStats());
+    }
+}
@@ -1,15 +1,27 @@
 package com.reliaquest.api.controller;
 
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import com.reliaquest.api.models.Employee;
+import com.reliaquest.api.models.EmployeePage;
+import com.reliaquest.api.response.BatchResponse;
 import com.reliaquest.api.response.DeleteEmployeeResponse;
+import com.reliaquest.api.service.EmployeeBatchService;
 import com.reliaquest.api.service.EmployeeService;
 import lombok.AllArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.Iterator;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.stream.Stream;
 
 @RestController
 @Slf4j
@@ -17,8 +29,14 @@ import java.util.List;
 @AllArgsConstructor
 public class EmployeeController implements IEmployeeController{
 
+    public static final String NDJSON_VALUE = "application/x-ndjson";
+
     private final EmployeeService employeeService;
 
+    private final ObjectMapper objectMapper;
+
+    private final EmployeeBatchService employeeBatchService;
+
     @Override
     @GetMapping()
     public ResponseEntity<List<Employee>> getAllEmployees() {
@@ -26,6 +44,22 @@ public class EmployeeController implements IEmployeeController{
         return ResponseEntity.ok(employeeService.getAllEmployees());
     }
 
+    @GetMapping("/page")
+    public ResponseEntity<EmployeePage> getEmployeePage(@RequestParam(defaultValue = "100") int limit,
+                                                        @RequestParam(required = false) String cursor) {
+        log.info("called api to get a page of {} employees", limit);
+        return ResponseEntity.ok(employeeService.getEmployeePage(limit, cursor));
+    }
+
+    @GetMapping(value = "/stream", produces = NDJSON_VALUE)
+    public ResponseEntity<StreamingResponseBody> streamAllEmployees() {
+        log.info("called api to stream all employees");
+        Stream<Employee> employees = employeeService.streamAllEmployees();
+        return ResponseEntity.ok()
+                .contentType(MediaType.parseMediaType(NDJSON_VALUE))
+                .body(outputStream -> writeNdjson(employees, outputStream));
+    }
+
     @Override
     @GetMapping("/search/{searchString}")
     public ResponseEntity<List<Employee>> getEmployeesByNameSearch(@PathVariable String searchString) {
@@ -33,6 +67,13 @@ public class EmployeeController implements IEmployeeController{
         return ResponseEntity.ok(employeeService.getEmployeesByNameSearch(searchString));
     }
 
+    @GetMapping("/autocomplete/{prefix}")
+    public ResponseEntity<List<String>> getEmployeeNameSuggestions(@PathVariable String prefix,
+                                                                   @RequestParam(defaultValue = "10") int limit) {
+        log.info("called api to autocomplete employee names starting with {}", prefix);
+        return ResponseEntity.ok(employeeService.getEmployeeNameSuggestions(prefix, limit));
+    }
+
     @Override
     @GetMapping("/{id}")
     public ResponseEntity<Employee> getEmployeeById(String id) {
@@ -54,6 +95,12 @@ public class EmployeeController implements IEmployeeController{
         return ResponseEntity.ok(employeeService.getTopTenHighestEarningEmployeeNames());
     }
 
+    @GetMapping("/topHighestEarning")
+    public ResponseEntity<List<Employee>> getTopHighestEarningEmployees(@RequestParam(defaultValue = "10") int limit) {
+        log.info("called api to fetch top {} earning employees", limit);
+        return ResponseEntity.ok(employeeService.getTopHighestEarningEmployees(limit));
+    }
+
     @Override
     @PostMapping
     public ResponseEntity<Employee> createEmployee(@RequestBody Object employeeInput) {
@@ -67,4 +114,36 @@ public class EmployeeController implements IEmployeeController{
         log.info("called api to delete employee details");
         return ResponseEntity.ok(employeeService.deleteEmployeeById(id));
     }
+
+    @PostMapping("/batch")
+    public CompletableFuture<ResponseEntity<BatchResponse>> createEmployees(@RequestBody List<Object> employeeInputs) {
+        log.info("called api to submit a batch of employee details");
+        return employeeBatchService.createEmployees(employeeInputs)
+                .thenApply(response -> batchResult(response, HttpStatus.CREATED));
+    }
+
+    @DeleteMapping("/batch")
+    public CompletableFuture<ResponseEntity<BatchResponse>> deleteEmployees(@RequestBody List<String> ids) {
+        log.info("called api to delete a batch of employees");
+        return employeeBatchService.deleteEmployees(ids)
+                .thenApply(response -> batchResult(response, HttpStatus.OK));
+    }
+
+    /**
+     * A batch where some items were not applied answers 207 so that callers look at the per-item results.
+     */
+    private static ResponseEntity<BatchResponse> batchResult(BatchResponse response, HttpStatus allSucceeded) {
+        return ResponseEntity.status(response.getFailed() == 0 ? allSucceeded : HttpStatus.MULTI_STATUS).body(response);
+    }
+
+    private void writeNdjson(Stream<Employee> employees, OutputStream outputStream) throws IOException {
+        try (employees; JsonGenerator generator = objectMapper.createGenerator(outputStream)) {
+            generator.setRootValueSeparator(null);
+            Iterator<Employee> iterator = employees.iterator();
+            while (iterator.hasNext()) {
+                objectMapper.writeValue(generator, iterator.next());
+                generator.writeRaw('\n');
+            }
+        }
+    }
 }
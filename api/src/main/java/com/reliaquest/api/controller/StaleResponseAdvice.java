@@ -0,0 +1,41 @@
+package com.reliaquest.api.controller;
+
+import com.reliaquest.api.cache.StaleReads;
+import org.springframework.core.MethodParameter;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.http.server.ServerHttpRequest;
+import org.springframework.http.server.ServerHttpResponse;
+import org.springframework.http.server.ServletServerHttpRequest;
+import org.springframework.web.bind.annotation.ControllerAdvice;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyAdvice;
+
+import java.time.Duration;
+
+/**
+ * Adds {@code Age} and {@code Warning: 110} to responses served from a stale employee snapshot,
+ * e.g. while the upstream is down and its circuit is open.
+ */
+@ControllerAdvice
+public class StaleResponseAdvice implements ResponseBodyAdvice<Object> {
+
+    static final String STALE_WARNING = "110 - \"Response is Stale\"";
+
+    @Override
+    public boolean supports(MethodParameter returnType, Class<? extends HttpMessageConverter<?>> converterType) {
+        return true;
+    }
+
+    @Override
+    public Object beforeBodyWrite(Object body, MethodParameter returnType, MediaType selectedContentType,
+                                  Class<? extends HttpMessageConverter<?>> selectedConverterType,
+                                  ServerHttpRequest request, ServerHttpResponse response) {
+        if (request instanceof ServletServerHttpRequest servletRequest
+                && servletRequest.getServletRequest().getAttribute(StaleReads.AGE_ATTRIBUTE) instanceof Duration age) {
+            response.getHeaders().set(HttpHeaders.AGE, Long.toString(Math.max(0, age.toSeconds())));
+            response.getHeaders().set(HttpHeaders.WARNING, STALE_WARNING);
+        }
+        return body;
+    }
+}
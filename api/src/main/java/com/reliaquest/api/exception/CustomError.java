@@ -16,7 +16,13 @@ public enum CustomError {
     NEGATIVE_AGE_NOT_ALLOWED("ERR-010", "Age cannot be negative"),
     INVALID_AGE_LIMIT("ERR-011", "Age must be greater than 15 and less than 76"),
     REST_API_CALL_FAILURE("ERR-012", "Unable to process the request at this time. Please try again later"),
-    EMPLOYEE_API_RATE_LIMIT_EXCEEDED("ERR-013", "Employee api rate limit exceeded");
+    EMPLOYEE_API_RATE_LIMIT_EXCEEDED("ERR-013", "Employee api rate limit exceeded"),
+    INVALID_LIMIT("ERR-014", "Limit must be a positive number"),
+    INVALID_EMPLOYEE_ID("ERR-015", "Employee ID must be a valid UUID"),
+    DUPLICATE_EMPLOYEE_ID("ERR-016", "Employee ID appears more than once in the batch"),
+    INVALID_BATCH_SIZE("ERR-017", "Batch must not be empty or exceed the maximum batch size"),
+    INVALID_EMPLOYEE_INPUT("ERR-018", "Employee input must be a JSON object"),
+    EMPLOYEE_API_UNAVAILABLE("ERR-019", "Employee api is unavailable. Please try again later");
 
     private final String code;
     private final String message;
@@ -0,0 +1,203 @@
+package com.reliaquest.api.external;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Client-side limiter that learns the upstream request budget from the 429 responses it sees.
+ *
+ * <p>The upstream accepts a fixed number of requests and then rejects everything until a cooldown
+ * has passed since the last accepted request. The limiter mirrors that model: the number of calls
+ * accepted before the first 429 becomes the learned budget per window, and the cooldown is
+ * estimated from the configured initial window, growing whenever a call made right after a
+ * cooldown is still rejected. Once the budget is known, calls are paced so that the window is not
+ * exceeded in the first place.
+ *
+ * <p>State is guarded by a {@link ReentrantLock} rather than a monitor so that callers parked in
+ * {@link #acquire} do not pin their carrier thread when running on virtual threads.
+ */
+public class AdaptiveRateLimiter {
+
+    private static final double WINDOW_GROWTH = 1.5;
+
+    private final long maxWindowNanos;
+    private long windowNanos;
+
+    private int learnedLimit;
+    private int grantedInWindow;
+    private int acceptedInWindow;
+    private long lastGrantedAt;
+    private long lastAcceptedAt;
+    private boolean hasAccepted;
+
+    private boolean blocked;
+    private long blockedUntil;
+    private boolean probing;
+
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Condition windowOpened = lock.newCondition();
+
+    private final LongAdder rateLimited = new LongAdder();
+    private final LongAdder throttled = new LongAdder();
+
+    public AdaptiveRateLimiter(Duration initialWindow, Duration maxWindow) {
+        this.windowNanos = initialWindow.toNanos();
+        this.maxWindowNanos = Math.max(maxWindow.toNanos(), windowNanos);
+    }
+
+    /**
+     * Waits for a permit until {@code deadlineNanos} (a {@link System#nanoTime()} value). Returns
+     * {@code false} straight away when the upstream is known to stay closed past the deadline.
+     */
+    public boolean acquire(long deadlineNanos) {
+        lock.lock();
+        try {
+            while (true) {
+                long wait = reserve(deadlineNanos);
+                if (wait <= 0) {
+                    return wait == 0;
+                }
+                try {
+                    windowOpened.awaitNanos(wait);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    throttled.increment();
+                    return false;
+                }
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Non-blocking form of {@link #acquire}: returns {@code 0} when a permit was granted, {@code -1}
+     * when the upstream stays closed past {@code deadlineNanos}, and otherwise the nanoseconds to
+     * wait before asking again.
+     */
+    public long tryAcquire(long deadlineNanos) {
+        lock.lock();
+        try {
+            return reserve(deadlineNanos);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Records a call the upstream accepted, i.e. any response other than 429.
+     */
+    public void onAccepted() {
+        lock.lock();
+        try {
+            acceptedInWindow++;
+            lastAcceptedAt = System.nanoTime();
+            hasAccepted = true;
+            probing = false;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public void onRateLimited() {
+        lock.lock();
+        try {
+            rateLimited.increment();
+            long now = System.nanoTime();
+            if (acceptedInWindow > 0) {
+                learnedLimit = acceptedInWindow;
+            }
+            if (probing) {
+                windowNanos = Math.min(maxWindowNanos, (long) (windowNanos * WINDOW_GROWTH));
+                probing = false;
+            }
+            long cooldownFrom = hasAccepted ? lastAcceptedAt : now;
+            long until = Math.max(cooldownFrom + windowNanos, now + windowNanos / 10);
+            if (!blocked || until - blockedUntil > 0) {
+                block(until);
+                // waiters re-check, and those whose deadline the longer block passes give up now
+                windowOpened.signalAll();
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public int getLearnedLimit() {
+        lock.lock();
+        try {
+            return learnedLimit;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public Duration getWindow() {
+        lock.lock();
+        try {
+            return Duration.ofNanos(windowNanos);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public Duration getBlockedFor() {
+        lock.lock();
+        try {
+            long remaining = blocked ? blockedUntil - System.nanoTime() : 0;
+            return Duration.ofNanos(Math.max(0, remaining));
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public long getRateLimitedCount() {
+        return rateLimited.sum();
+    }
+
+    public long getThrottledCount() {
+        return throttled.sum();
+    }
+
+    private long reserve(long deadlineNanos) {
+        long now = System.nanoTime();
+        if (blocked && now - blockedUntil >= 0) {
+            openWindow();
+        }
+        if (!blocked && learnedLimit > 0 && grantedInWindow >= learnedLimit) {
+            block(lastGrantedAt + windowNanos);
+            if (now - blockedUntil >= 0) {
+                openWindow();
+            }
+        }
+        if (!blocked) {
+            grantedInWindow++;
+            lastGrantedAt = now;
+            return 0;
+        }
+        if (blockedUntil - deadlineNanos > 0) {
+            throttled.increment();
+            return -1;
+        }
+        return blockedUntil - now;
+    }
+
+    private void block(long until) {
+        blocked = true;
+        blockedUntil = until;
+    }
+
+    /**
+     * Called by whichever caller first finds the block expired; the others parked in {@link #acquire}
+     * are woken to take their permits instead of each sleeping out its own estimate.
+     */
+    private void openWindow() {
+        blocked = false;
+        grantedInWindow = 0;
+        acceptedInWindow = 0;
+        probing = true;
+        windowOpened.signalAll();
+    }
+}
@@ -0,0 +1,159 @@
+package com.reliaquest.api.external;
+
+import com.reliaquest.api.exception.CustomError;
+import com.reliaquest.api.exception.CustomException;
+import com.reliaquest.api.request.EmployeeRequest;
+import com.reliaquest.api.response.DeleteEmployeeResponse;
+import com.reliaquest.api.response.EmployeeChangesResponse;
+import com.reliaquest.api.response.EmployeeResponse;
+import com.reliaquest.api.response.GetEmployeeResponse;
+import feign.FeignException;
+import feign.Request;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.URLEncoder;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Non-blocking counterpart of {@link com.reliaquest.api.feignClient.EmployeeClient} built on the JDK
+ * {@link HttpClient}. Error statuses fail the returned future with the same {@link FeignException}
+ * subtypes the Feign client throws, so rate limiting, retries and error mapping work unchanged for
+ * both transports.
+ */
+@Slf4j
+@Component
+public class AsyncEmployeeClient {
+
+    private final HttpClient httpClient;
+    private final UpstreamCodec upstreamCodec;
+    private final String baseUrl;
+    private final Duration requestTimeout;
+
+    public AsyncEmployeeClient(HttpClient upstreamHttpClient, UpstreamCodec upstreamCodec,
+                               @Value("${employee.upstream.url:http://localhost:8112/api/v1/employee}") String baseUrl,
+                               @Value("${employee.client.request-timeout:10s}") Duration requestTimeout) {
+        this.httpClient = upstreamHttpClient;
+        this.upstreamCodec = upstreamCodec;
+        this.baseUrl = baseUrl;
+        this.requestTimeout = requestTimeout;
+    }
+
+    /**
+     * Conditional list request; sends {@code ifNoneMatch} when present and completes with a
+     * not-modified result on 304.
+     */
+    public CompletableFuture<EmployeeListResult> getAllEmployees(String ifNoneMatch) {
+        HttpRequest.Builder builder = request("").GET();
+        if (ifNoneMatch != null) {
+            builder.header(HttpHeaders.IF_NONE_MATCH, ifNoneMatch);
+        }
+        return exchange("getAllEmployees", builder.build(), true).thenApply(response -> {
+            String etag = response.headers().firstValue(HttpHeaders.ETAG).orElse(null);
+            return response.statusCode() == HttpStatus.NOT_MODIFIED.value()
+                    ? EmployeeListResult.notModified(etag)
+                    : new EmployeeListResult(etag, read("getAllEmployees", response, EmployeeResponse.class));
+        });
+    }
+
+    public CompletableFuture<EmployeeChangesResponse> getChanges(long since) {
+        return send("getChanges", request("/changes?since=" + since).GET().build(), EmployeeChangesResponse.class);
+    }
+
+    public CompletableFuture<GetEmployeeResponse> getEmployeeById(String id) {
+        String path = "/" + URLEncoder.encode(id, StandardCharsets.UTF_8);
+        return send("getEmployeeById", request(path).GET().build(), GetEmployeeResponse.class);
+    }
+
+    public CompletableFuture<GetEmployeeResponse> submitEmployee(EmployeeRequest employeeRequest) {
+        return send("submitEmployee", request("").POST(json(employeeRequest)).build(), GetEmployeeResponse.class);
+    }
+
+    public CompletableFuture<DeleteEmployeeResponse> deleteEmployee(EmployeeRequest employeeRequest) {
+        return send("deleteEmployee", request("").method("DELETE", json(employeeRequest)).build(),
+                DeleteEmployeeResponse.class);
+    }
+
+    public CompletableFuture<EmployeeResponse> submitEmployees(List<EmployeeRequest> requests) {
+        return send("submitEmployees", request("/batch").POST(json(requests)).build(), EmployeeResponse.class);
+    }
+
+    public CompletableFuture<EmployeeResponse> deleteEmployees(List<String> ids) {
+        return send("deleteEmployees", request("/batch").method("DELETE", json(ids)).build(), EmployeeResponse.class);
+    }
+
+    private HttpRequest.Builder request(String path) {
+        return HttpRequest.newBuilder(URI.create(baseUrl + path))
+                .timeout(requestTimeout)
+                .header("Accept", upstreamCodec.accept())
+                .header("Content-Type", "application/json");
+    }
+
+    private HttpRequest.BodyPublisher json(Object body) {
+        try {
+            return HttpRequest.BodyPublishers.ofByteArray(upstreamCodec.writeJson(body));
+        } catch (IOException e) {
+            throw new CustomException(CustomError.REST_API_CALL_FAILURE, HttpStatus.INTERNAL_SERVER_ERROR);
+        }
+    }
+
+    private <T> CompletableFuture<T> send(String method, HttpRequest request, Class<T> type) {
+        return exchange(method, request, false).thenApply(response -> read(method, response, type));
+    }
+
+    /**
+     * Sends the request and fails the future on transport errors and on error statuses; 304 passes
+     * through when {@code notModifiedAllowed} is set.
+     */
+    private CompletableFuture<HttpResponse<byte[]>> exchange(String method, HttpRequest request,
+                                                             boolean notModifiedAllowed) {
+        return httpClient.sendAsync(request, HttpResponse.BodyHandlers.ofByteArray())
+                .handle((response, failure) -> {
+                    if (failure != null) {
+                        log.error("Error calling employee api {}: {}", method, failure.getMessage());
+                        throw new CustomException(CustomError.REST_API_CALL_FAILURE, HttpStatus.INTERNAL_SERVER_ERROR);
+                    }
+                    boolean notModified = notModifiedAllowed && response.statusCode() == HttpStatus.NOT_MODIFIED.value();
+                    if (response.statusCode() / 100 != 2 && !notModified) {
+                        throw FeignException.errorStatus("AsyncEmployeeClient#" + method, toFeignResponse(response));
+                    }
+                    return response;
+                });
+    }
+
+    private <T> T read(String method, HttpResponse<byte[]> response, Class<T> type) {
+        try {
+            String contentType = response.headers().firstValue(HttpHeaders.CONTENT_TYPE).orElse(null);
+            return upstreamCodec.read(response.body(), contentType, type);
+        } catch (IOException e) {
+            log.error("Error reading employee api {} response: {}", method, e.getMessage());
+            throw new CustomException(CustomError.REST_API_CALL_FAILURE, HttpStatus.INTERNAL_SERVER_ERROR);
+        }
+    }
+
+    private static feign.Response toFeignResponse(HttpResponse<byte[]> response) {
+        HttpRequest request = response.request();
+        Map<String, Collection<String>> headers = new LinkedHashMap<>(response.headers().map());
+        return feign.Response.builder()
+                .status(response.statusCode())
+                .request(Request.create(Request.HttpMethod.valueOf(request.method()), request.uri().toString(),
+                        Map.of(), Request.Body.empty(), null))
+                .headers(headers)
+                .body(response.body())
+                .build();
+    }
+}
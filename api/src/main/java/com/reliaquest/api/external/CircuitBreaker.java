@@ -0,0 +1,141 @@
+package com.reliaquest.api.external;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Consecutive-failure circuit breaker for one upstream operation.
+ *
+ * <p>After {@code failureThreshold} failures in a row the breaker opens and {@link #tryAcquire}
+ * refuses calls for {@code openDuration}, so callers fail fast instead of each waiting on a
+ * timeout. The first call after that is let through as a probe while the breaker is half-open
+ * and every other call is still refused. The probe's outcome closes the breaker or opens it for
+ * another {@code openDuration}.
+ *
+ * <p>Every permitted call must end in {@link #onSuccess}, {@link #onFailure} or {@link #release},
+ * so that a half-open probe slot is handed back.
+ */
+public class CircuitBreaker {
+
+    public enum State {
+        CLOSED,
+        OPEN,
+        HALF_OPEN
+    }
+
+    private final int failureThreshold;
+    private final long openNanos;
+
+    private State state = State.CLOSED;
+    private int consecutiveFailures;
+    private long openedAt;
+    private boolean probeInFlight;
+
+    private final ReentrantLock lock = new ReentrantLock();
+
+    private final LongAdder opened = new LongAdder();
+    private final LongAdder rejected = new LongAdder();
+
+    public CircuitBreaker(int failureThreshold, Duration openDuration) {
+        this.failureThreshold = Math.max(1, failureThreshold);
+        this.openNanos = openDuration.toNanos();
+    }
+
+    public boolean tryAcquire() {
+        lock.lock();
+        try {
+            switch (state) {
+                case CLOSED:
+                    return true;
+                case OPEN:
+                    if (System.nanoTime() - openedAt < openNanos) {
+                        rejected.increment();
+                        return false;
+                    }
+                    state = State.HALF_OPEN;
+                    probeInFlight = true;
+                    return true;
+                default:
+                    if (probeInFlight) {
+                        rejected.increment();
+                        return false;
+                    }
+                    probeInFlight = true;
+                    return true;
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * The upstream answered, even if with a client error: it is reachable.
+     */
+    public void onSuccess() {
+        lock.lock();
+        try {
+            consecutiveFailures = 0;
+            probeInFlight = false;
+            state = State.CLOSED;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * The upstream did not answer, or answered with a server error.
+     */
+    public void onFailure() {
+        lock.lock();
+        try {
+            probeInFlight = false;
+            consecutiveFailures++;
+            if (state == State.HALF_OPEN || (state == State.CLOSED && consecutiveFailures >= failureThreshold)) {
+                state = State.OPEN;
+                openedAt = System.nanoTime();
+                opened.increment();
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Hands back a permit whose call was never made, without counting it either way.
+     */
+    public void release() {
+        lock.lock();
+        try {
+            probeInFlight = false;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public State getState() {
+        lock.lock();
+        try {
+            return state;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public int getConsecutiveFailures() {
+        lock.lock();
+        try {
+            return consecutiveFailures;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public long getOpenedCount() {
+        return opened.sum();
+    }
+
+    public long getRejectedCount() {
+        return rejected.sum();
+    }
+}
@@ -0,0 +1,16 @@
+package com.reliaquest.api.external;
+
+/**
+ * Transport used for upstream employee calls, selected with {@code employee.client.mode}.
+ */
+public enum ClientMode {
+    /**
+     * OpenFeign on the calling thread; async variants complete before they return.
+     */
+    BLOCKING,
+    /**
+     * JDK {@link java.net.http.HttpClient} with {@link java.util.concurrent.CompletableFuture}s, so
+     * in-flight calls do not hold a thread.
+     */
+    NON_BLOCKING
+}
@@ -1,37 +1,259 @@
 package com.reliaquest.api.external;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
 import com.reliaquest.api.exception.CustomError;
 import com.reliaquest.api.exception.CustomException;
 import com.reliaquest.api.exception.TooManyRequestException;
 import com.reliaquest.api.exception.ValidationException;
 import com.reliaquest.api.feignClient.EmployeeClient;
 import com.reliaquest.api.models.Employee;
+import com.reliaquest.api.models.EmployeeAggregates;
+import com.reliaquest.api.models.EmployeeChanges;
+import com.reliaquest.api.models.EmployeePage;
+import com.reliaquest.api.models.EmployeeQuery;
+import com.reliaquest.api.models.EmployeeStats;
 import com.reliaquest.api.request.EmployeeRequest;
 import com.reliaquest.api.response.DeleteEmployeeResponse;
+import com.reliaquest.api.response.EmployeeAggregatesResponse;
+import com.reliaquest.api.response.EmployeeChangesResponse;
+import com.reliaquest.api.response.EmployeePageResponse;
 import com.reliaquest.api.response.EmployeeResponse;
+import com.reliaquest.api.response.EmployeeStatsResponse;
 import com.reliaquest.api.response.GetEmployeeResponse;
+import com.reliaquest.api.response.SingleFlightStatsResponse;
 import feign.FeignException;
-import lombok.AllArgsConstructor;
+import feign.Response;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Component;
 
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Collection;
 import java.util.List;
 import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
 
 @Slf4j
-@AllArgsConstructor
 @Component
 public class EmployeeAPIs {
 
+    private static final String ALL_EMPLOYEES_KEY = "all";
+
     private final EmployeeClient employeeClient;
 
+    private final UpstreamCallExecutor upstreamCallExecutor;
+
+    private final ObjectMapper objectMapper;
+
+    private final AsyncEmployeeClient asyncEmployeeClient;
+
+    private final UpstreamCodec upstreamCodec;
+
+    private final ClientMode clientMode;
+
+    private final AtomicReference<TaggedEmployees> lastEmployees = new AtomicReference<>();
+
+    private final SingleFlight<String, List<Employee>> allEmployeesFlight = new SingleFlight<>();
+    private final SingleFlight<String, Employee> employeeByIdFlight = new SingleFlight<>();
+
+    public EmployeeAPIs(EmployeeClient employeeClient, UpstreamCallExecutor upstreamCallExecutor,
+                        ObjectMapper objectMapper, AsyncEmployeeClient asyncEmployeeClient,
+                        UpstreamCodec upstreamCodec,
+                        @Value("${employee.client.mode:blocking}") ClientMode clientMode) {
+        this.employeeClient = employeeClient;
+        this.upstreamCallExecutor = upstreamCallExecutor;
+        this.objectMapper = objectMapper;
+        this.asyncEmployeeClient = asyncEmployeeClient;
+        this.upstreamCodec = upstreamCodec;
+        this.clientMode = clientMode;
+    }
+
     public List<Employee> getAllEmployees() {
+        return allEmployeesFlight.execute(ALL_EMPLOYEES_KEY, this::fetchAllEmployees);
+    }
+
+    public Employee getEmployeeById(String id) {
+        return employeeByIdFlight.execute(id, () -> fetchEmployeeById(id));
+    }
+
+    public CompletableFuture<Employee> getEmployeeByIdAsync(String id) {
+        return employeeByIdFlight.executeAsync(id, () -> translateFailures(
+                callAsync("getEmployeeById", () -> employeeClient.getEmployeeById(id),
+                        () -> asyncEmployeeClient.getEmployeeById(id))
+                        .thenApply(GetEmployeeResponse::getData)));
+    }
+
+    /**
+     * Creates one chunk of employees in a single upstream call; the result keeps request order.
+     */
+    public CompletableFuture<List<Employee>> submitEmployeesAsync(List<EmployeeRequest> requests) {
+        return translateFailures(callAsync("submitEmployees", () -> employeeClient.submitEmployees(requests),
+                () -> asyncEmployeeClient.submitEmployees(requests))
+                .thenApply(EmployeeResponse::getData));
+    }
+
+    /**
+     * Deletes one chunk of employees by id in a single upstream call, without looking each one up
+     * first, and returns those that existed.
+     */
+    public CompletableFuture<List<Employee>> deleteEmployeesAsync(List<String> ids) {
+        return translateFailures(callAsync("deleteEmployees", () -> employeeClient.deleteEmployees(ids),
+                () -> asyncEmployeeClient.deleteEmployees(ids))
+                .thenApply(EmployeeResponse::getData));
+    }
+
+    /**
+     * Inserts and deletes since roster version {@code since}, for keeping a local copy in sync without
+     * refetching the full list.
+     */
+    public EmployeeChanges getChangesSince(long since) {
         try {
-            log.info("Fetching all employees...");
-            EmployeeResponse response = employeeClient.getAllEmployees();
-            log.info("Successfully fetched employees: {}", response);
+            log.info("Fetching employee changes since version {}", since);
+            EmployeeChangesResponse response = call("getChanges", () -> employeeClient.getChanges(since),
+                    () -> asyncEmployeeClient.getChanges(since));
+            EmployeeChanges changes = response.getData();
+            log.info("Fetched {} inserts and {} deletes up to version {}{}", changes.getInserted().size(),
+                    changes.getDeleted().size(), changes.getVersion(), changes.isReset() ? " (reset)" : "");
+            return changes;
+        } catch (FeignException.TooManyRequests e) {
+            log.error("Error fetching employee changes: {}", e.getMessage(), e);
+            throw new TooManyRequestException(CustomError.EMPLOYEE_API_RATE_LIMIT_EXCEEDED);
+        } catch (FeignException e) {
+            log.error("Error fetching employee changes: {}", e.getMessage(), e);
+            throw new CustomException(CustomError.REST_API_CALL_FAILURE, HttpStatus.INTERNAL_SERVER_ERROR);
+        }
+    }
+
+    /**
+     * Employees matching {@code query}, filtered and ordered by the upstream so that only the result
+     * crosses the wire. Blocking transport only, like {@link #getEmployeePage}.
+     */
+    public List<Employee> queryEmployees(EmployeeQuery query) {
+        try {
+            log.info("Querying employees with {}", query);
+            EmployeeResponse response = upstreamCallExecutor.execute("queryEmployees",
+                    () -> employeeClient.queryEmployees(query));
+            return response.getData() == null ? List.of() : response.getData();
+        } catch (FeignException.TooManyRequests e) {
+            log.error("Error querying employees: {}", e.getMessage(), e);
+            throw new TooManyRequestException(CustomError.EMPLOYEE_API_RATE_LIMIT_EXCEEDED);
+        } catch (FeignException e) {
+            log.error("Error querying employees: {}", e.getMessage(), e);
+            throw new CustomException(CustomError.REST_API_CALL_FAILURE, HttpStatus.INTERNAL_SERVER_ERROR);
+        }
+    }
+
+    /**
+     * Aggregates over the employees matching {@code query}, computed by the upstream. Per-title counts
+     * are only sent with {@code countByTitle}, as they grow with the number of distinct titles.
+     */
+    public EmployeeAggregates aggregateEmployees(EmployeeQuery query, List<Double> percentiles,
+                                                 boolean countByTitle) {
+        try {
+            log.info("Aggregating employees with {}", query);
+            EmployeeAggregatesResponse response = upstreamCallExecutor.execute("aggregateEmployees",
+                    () -> employeeClient.aggregateEmployees(query, percentiles, countByTitle));
+            return response.getData();
+        } catch (FeignException.TooManyRequests e) {
+            log.error("Error aggregating employees: {}", e.getMessage(), e);
+            throw new TooManyRequestException(CustomError.EMPLOYEE_API_RATE_LIMIT_EXCEEDED);
+        } catch (FeignException e) {
+            log.error("Error aggregating employees: {}", e.getMessage(), e);
+            throw new CustomException(CustomError.REST_API_CALL_FAILURE, HttpStatus.INTERNAL_SERVER_ERROR);
+        }
+    }
+
+    public EmployeeStats getEmployeeStats(boolean countByTitle) {
+        try {
+            log.info("Fetching employee stats");
+            EmployeeStatsResponse response = upstreamCallExecutor.execute("getEmployeeStats",
+                    () -> employeeClient.getStats(countByTitle));
+            return response.getData();
+        } catch (FeignException.TooManyRequests e) {
+            log.error("Error fetching employee stats: {}", e.getMessage(), e);
+            throw new TooManyRequestException(CustomError.EMPLOYEE_API_RATE_LIMIT_EXCEEDED);
+        } catch (FeignException e) {
+            log.error("Error fetching employee stats: {}", e.getMessage(), e);
+            throw new CustomException(CustomError.REST_API_CALL_FAILURE, HttpStatus.INTERNAL_SERVER_ERROR);
+        }
+    }
+
+    public EmployeePage getEmployeePage(int limit, String cursor) {
+        try {
+            log.info("Fetching {} employees after cursor {}", limit, cursor);
+            EmployeePageResponse response =
+                    upstreamCallExecutor.execute("getEmployeePage",
+                            () -> employeeClient.getEmployeePage(limit, cursor));
             return response.getData();
+        } catch (FeignException.TooManyRequests e) {
+            log.error("Error fetching employee page: {}", e.getMessage(), e);
+            throw new TooManyRequestException(CustomError.EMPLOYEE_API_RATE_LIMIT_EXCEEDED);
+        } catch (FeignException e) {
+            log.error("Error fetching employee page: {}", e.getMessage(), e);
+            throw new CustomException(CustomError.REST_API_CALL_FAILURE, HttpStatus.INTERNAL_SERVER_ERROR);
+        }
+    }
+
+    /**
+     * Opens the upstream NDJSON stream and parses employees lazily as the returned stream is consumed.
+     * The upstream status is checked before returning, so failures surface before any output is written.
+     * The caller must close the stream to release the connection.
+     */
+    public Stream<Employee> streamEmployees() {
+        Response response;
+        try {
+            log.info("Opening employee stream...");
+            response = upstreamCallExecutor.execute("streamEmployees", this::openEmployeeStream);
+        } catch (FeignException.TooManyRequests e) {
+            log.error("Error opening employee stream: {}", e.getMessage(), e);
+            throw new TooManyRequestException(CustomError.EMPLOYEE_API_RATE_LIMIT_EXCEEDED);
+        } catch (FeignException e) {
+            log.error("Error opening employee stream: {}", e.getMessage(), e);
+            throw new CustomException(CustomError.REST_API_CALL_FAILURE, HttpStatus.INTERNAL_SERVER_ERROR);
+        }
+        if (response.body() == null) {
+            response.close();
+            return Stream.empty();
+        }
+        try {
+            BufferedReader reader = new BufferedReader(
+                    new InputStreamReader(response.body().asInputStream(), StandardCharsets.UTF_8));
+            return reader.lines()
+                    .filter(line -> !line.isBlank())
+                    .map(this::readEmployee)
+                    .onClose(response::close);
+        } catch (IOException e) {
+            response.close();
+            log.error("Error reading employee stream: {}", e.getMessage(), e);
+            throw new CustomException(CustomError.REST_API_CALL_FAILURE, HttpStatus.INTERNAL_SERVER_ERROR);
+        }
+    }
+
+    public SingleFlightStatsResponse getSingleFlightStats() {
+        return new SingleFlightStatsResponse(
+                allEmployeesFlight.getIssuedCount() + employeeByIdFlight.getIssuedCount(),
+                allEmployeesFlight.getCoalescedCount() + employeeByIdFlight.getCoalescedCount(),
+                allEmployeesFlight.getInFlightCount() + employeeByIdFlight.getInFlightCount());
+    }
+
+    private List<Employee> fetchAllEmployees() {
+        try {
+            log.info("Fetching all employees...");
+            TaggedEmployees last = lastEmployees.get();
+            String ifNoneMatch = last == null ? null : last.etag();
+            EmployeeListResult result = call("getAllEmployees", () -> fetchEmployeeList(ifNoneMatch),
+                    () -> asyncEmployeeClient.getAllEmployees(ifNoneMatch));
+            return resolve(result, last);
         } catch (FeignException.TooManyRequests e) {
             log.error("Error fetching employees: {}", e.getMessage(), e);
             throw new TooManyRequestException(CustomError.EMPLOYEE_API_RATE_LIMIT_EXCEEDED);
@@ -41,11 +263,135 @@ public class EmployeeAPIs {
         }
     }
 
-    public Employee getEmployeeById(String id) {
+    /**
+     * Conditional list request on the Feign client. A 304 is returned as a not-modified result
+     * rather than an error.
+     */
+    private EmployeeListResult fetchEmployeeList(String ifNoneMatch) {
+        try (Response response = employeeClient.getAllEmployees(ifNoneMatch)) {
+            Collection<String> etags = response.headers().getOrDefault(HttpHeaders.ETAG, List.of());
+            String etag = etags.isEmpty() ? null : etags.iterator().next();
+            if (response.status() == HttpStatus.NOT_MODIFIED.value()) {
+                return EmployeeListResult.notModified(etag);
+            }
+            if (response.status() / 100 != 2) {
+                throw FeignException.errorStatus("EmployeeClient#getAllEmployees(String)", response);
+            }
+            if (response.body() == null) {
+                throw new CustomException(CustomError.REST_API_CALL_FAILURE, HttpStatus.INTERNAL_SERVER_ERROR);
+            }
+            Collection<String> contentTypes = response.headers().getOrDefault(HttpHeaders.CONTENT_TYPE, List.of());
+            String contentType = contentTypes.isEmpty() ? null : contentTypes.iterator().next();
+            return new EmployeeListResult(etag,
+                    upstreamCodec.read(response.body().asInputStream(), contentType, EmployeeResponse.class));
+        } catch (IOException e) {
+            log.error("Error reading employee list: {}", e.getMessage(), e);
+            throw new CustomException(CustomError.REST_API_CALL_FAILURE, HttpStatus.INTERNAL_SERVER_ERROR);
+        }
+    }
+
+    /**
+     * Returns the list a conditional request stands for: the last decoded list when the upstream
+     * answered 304, otherwise the new one, remembered with its tag for the next request.
+     */
+    private List<Employee> resolve(EmployeeListResult result, TaggedEmployees last) {
+        if (result.isNotModified()) {
+            if (last == null) {
+                log.error("Employee api answered 304 to an unconditional request");
+                throw new CustomException(CustomError.REST_API_CALL_FAILURE, HttpStatus.INTERNAL_SERVER_ERROR);
+            }
+            log.info("Employee list unchanged upstream, reusing the last {} employees", last.employees().size());
+            return last.employees();
+        }
+        List<Employee> data = result.response().getData();
+        List<Employee> employees = data == null ? List.of() : List.copyOf(data);
+        log.info("Successfully fetched {} employees", employees.size());
+        lastEmployees.set(result.etag() == null ? null : new TaggedEmployees(result.etag(), employees));
+        return employees;
+    }
+
+    /**
+     * Runs a call on the configured transport and waits for it.
+     */
+    private <T> T call(String method, Supplier<T> blocking, Supplier<CompletableFuture<T>> nonBlocking) {
+        if (clientMode == ClientMode.NON_BLOCKING) {
+            try {
+                return upstreamCallExecutor.executeAsync(method, nonBlocking).join();
+            } catch (CompletionException e) {
+                if (e.getCause() instanceof RuntimeException cause) {
+                    throw cause;
+                }
+                throw e;
+            }
+        }
+        return upstreamCallExecutor.execute(method, blocking);
+    }
+
+    /**
+     * Starts a call on the configured transport. In blocking mode the call runs on the caller's
+     * thread and the returned future is already complete.
+     */
+    private <T> CompletableFuture<T> callAsync(String method, Supplier<T> blocking,
+                                               Supplier<CompletableFuture<T>> nonBlocking) {
+        if (clientMode == ClientMode.NON_BLOCKING) {
+            return upstreamCallExecutor.executeAsync(method, nonBlocking);
+        }
+        try {
+            return CompletableFuture.completedFuture(upstreamCallExecutor.execute(method, blocking));
+        } catch (RuntimeException e) {
+            return CompletableFuture.failedFuture(e);
+        }
+    }
+
+    /**
+     * Applies the error mapping of the blocking methods to a future's failure.
+     */
+    private static <T> CompletableFuture<T> translateFailures(CompletableFuture<T> future) {
+        return future.handle((value, failure) -> {
+            if (failure == null) {
+                return value;
+            }
+            Throwable cause = failure instanceof CompletionException && failure.getCause() != null
+                    ? failure.getCause() : failure;
+            if (cause instanceof FeignException.TooManyRequests) {
+                log.error("Employee rate limit reached : {}", cause.getMessage());
+                throw new TooManyRequestException(CustomError.EMPLOYEE_API_RATE_LIMIT_EXCEEDED);
+            }
+            if (cause instanceof FeignException.NotFound) {
+                throw new CustomException(CustomError.EMPLOYEE_NOT_FOUNT_BY_ID, HttpStatus.NOT_FOUND);
+            }
+            if (cause instanceof RuntimeException runtimeException && !(cause instanceof FeignException)) {
+                throw runtimeException;
+            }
+            log.error("Error calling employee api: {}", cause.getMessage(), cause);
+            throw new CustomException(CustomError.REST_API_CALL_FAILURE, HttpStatus.INTERNAL_SERVER_ERROR);
+        });
+    }
+
+    private Response openEmployeeStream() {
+        Response response = employeeClient.streamEmployees();
+        if (response.status() / 100 != 2) {
+            FeignException failure = FeignException.errorStatus("EmployeeClient#streamEmployees()", response);
+            response.close();
+            throw failure;
+        }
+        return response;
+    }
+
+    private Employee readEmployee(String line) {
+        try {
+            return objectMapper.readValue(line, Employee.class);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private Employee fetchEmployeeById(String id) {
         try {
             log.info("Fetching employee with ID: {}", id);
-            GetEmployeeResponse response = employeeClient.getEmployeeById(id);
-            log.info("Successfully fetched employee: {}", response);
+            GetEmployeeResponse response = call("getEmployeeById", () -> employeeClient.getEmployeeById(id),
+                    () -> asyncEmployeeClient.getEmployeeById(id));
+            log.info("Successfully fetched employee {}", id);
 
             return response.getData();
         } catch (FeignException.NotFound e) {
@@ -62,9 +408,11 @@ public class EmployeeAPIs {
 
     public Employee submitEmployee(EmployeeRequest request) {
         try {
-            log.info("Submitting employee data: {}", request);
-            GetEmployeeResponse response = employeeClient.submitEmployee(request);
-            log.info("Successfully submitted employee: {}", response);
+            log.info("Submitting employee {}", request.getName());
+            GetEmployeeResponse response = call("submitEmployee", () -> employeeClient.submitEmployee(request),
+                    () -> asyncEmployeeClient.submitEmployee(request));
+            log.info("Successfully submitted employee {}",
+                    response.getData() == null ? null : response.getData().getId());
             return response.getData();
         }  catch (FeignException e) {
             log.error("Error fetching employees: {}", e.getMessage(), e);
@@ -74,16 +422,13 @@ public class EmployeeAPIs {
 
     public DeleteEmployeeResponse deleteEmployee(String id) {
         try {
-            Employee employee = getEmployeeById(id);
-            log.info("Deleting employee: {}", employee);
-
-            EmployeeRequest request = new EmployeeRequest();
-            request.setName(employee.getName());
+            log.info("Deleting employee {}", id);
+            List<String> ids = List.of(id);
+            EmployeeResponse response = call("deleteEmployee", () -> employeeClient.deleteEmployees(ids),
+                    () -> asyncEmployeeClient.deleteEmployees(ids));
+            log.info("Deleted employee {}", id);
 
-            DeleteEmployeeResponse response = employeeClient.deleteEmployee(request);
-            log.info("Successfully deleted employee: {}", response);
-
-            return response;
+            return deletedById(id, response);
         } catch (FeignException.TooManyRequests e) {
             log.error("Employee rate limit reached : {}", e.getMessage(), e);
             throw new TooManyRequestException(CustomError.EMPLOYEE_API_RATE_LIMIT_EXCEEDED);
@@ -95,4 +440,19 @@ public class EmployeeAPIs {
             throw new CustomException(CustomError.REST_API_CALL_FAILURE, HttpStatus.INTERNAL_SERVER_ERROR);
         }
     }
+
+    /**
+     * Single deletes go by id through the batch endpoint, since the upstream's own delete matches by
+     * name and would also remove namesakes. The upstream leaves unknown ids out, which is reported as
+     * not found.
+     */
+    private static DeleteEmployeeResponse deletedById(String id, EmployeeResponse response) {
+        if (response.getData() == null || response.getData().isEmpty()) {
+            log.error("Employee not found with ID: {}", id);
+            throw new CustomException(CustomError.EMPLOYEE_NOT_FOUNT_BY_ID, HttpStatus.NOT_FOUND);
+        }
+        return new DeleteEmployeeResponse(true, response.getStatus());
+    }
+
+    private record TaggedEmployees(String etag, List<Employee> employees) {}
 }
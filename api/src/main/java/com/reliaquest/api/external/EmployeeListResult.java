@@ -0,0 +1,18 @@
+package com.reliaquest.api.external;
+
+import com.reliaquest.api.response.EmployeeResponse;
+
+/**
+ * Outcome of a conditional list request: the entity tag the upstream sent, and the decoded list, or
+ * {@code null} when the upstream answered 304 because the tag sent still matched.
+ */
+public record EmployeeListResult(String etag, EmployeeResponse response) {
+
+    public static EmployeeListResult notModified(String etag) {
+        return new EmployeeListResult(etag, null);
+    }
+
+    public boolean isNotModified() {
+        return response == null;
+    }
+}
@@ -0,0 +1,22 @@
+package com.reliaquest.api.external;
+
+/**
+ * HTTP client under the blocking {@code EmployeeClient}, selected with
+ * {@code employee.client.transport}.
+ */
+public enum FeignTransport {
+    /**
+     * Feign's default {@link java.net.HttpURLConnection} client, with only the JDK's implicit
+     * keep-alive cache and nothing to size or evict.
+     */
+    URL_CONNECTION,
+    /**
+     * Apache HttpClient 5 over a bounded connection pool with idle and expired connection eviction.
+     */
+    APACHE_HC5,
+    /**
+     * JDK {@link java.net.http.HttpClient} preferring HTTP/2, which multiplexes calls over one
+     * connection when the upstream supports it and falls back to HTTP/1.1 otherwise.
+     */
+    HTTP2
+}
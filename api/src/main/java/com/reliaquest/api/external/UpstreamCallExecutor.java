@@ -0,0 +1,266 @@
+package com.reliaquest.api.external;
+
+import com.reliaquest.api.exception.CustomError;
+import com.reliaquest.api.exception.CustomException;
+import com.reliaquest.api.exception.TooManyRequestException;
+import com.reliaquest.api.response.CircuitBreakerStatsResponse;
+import com.reliaquest.api.response.RateLimiterStatsResponse;
+import feign.FeignException;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+/**
+ * Runs every {@code EmployeeClient} call through the {@link AdaptiveRateLimiter} and retries 429
+ * responses once the limiter reopens, after a jittered exponential backoff. A call waits for a permit
+ * for at most the queue timeout; when the upstream is known to stay closed beyond that, it fails fast
+ * with a {@link TooManyRequestException} instead of spending another request on a guaranteed 429.
+ *
+ * <p>Each client method also has its own {@link CircuitBreaker}. While it is open, calls fail fast
+ * with a 503 {@link CustomException} instead of waiting on an upstream that is down. Connection
+ * failures, timeouts and 5xx responses count as failures. 429s do not, because the rate limiter
+ * already handles them.
+ *
+ * <p>Each attempt is timed by {@link UpstreamMetrics} under the given client method name.
+ *
+ * <p>{@link #executeAsync} applies the same policy to non-blocking calls without parking a thread:
+ * waiting for a permit and backing off are scheduled as delays instead.
+ */
+@Slf4j
+@Component
+public class UpstreamCallExecutor {
+
+    private final AdaptiveRateLimiter rateLimiter;
+    private final UpstreamMetrics metrics;
+    private final int failureThreshold;
+    private final Duration openDuration;
+    private final ConcurrentMap<String, CircuitBreaker> circuitBreakers = new ConcurrentHashMap<>();
+    private final int maxAttempts;
+    private final Duration queueTimeout;
+    private final Duration initialBackoff;
+    private final Duration maxBackoff;
+
+    private final LongAdder retries = new LongAdder();
+
+    public UpstreamCallExecutor(
+            @Value("${employee.upstream.max-attempts:3}") int maxAttempts,
+            @Value("${employee.upstream.queue-timeout:5s}") Duration queueTimeout,
+            @Value("${employee.upstream.backoff.initial:100ms}") Duration initialBackoff,
+            @Value("${employee.upstream.backoff.max:2s}") Duration maxBackoff,
+            @Value("${employee.upstream.rate-limit.initial-window:30s}") Duration initialWindow,
+            @Value("${employee.upstream.rate-limit.max-window:90s}") Duration maxWindow,
+            @Value("${employee.upstream.circuit-breaker.failure-threshold:5}") int failureThreshold,
+            @Value("${employee.upstream.circuit-breaker.open-duration:10s}") Duration openDuration,
+            UpstreamMetrics metrics) {
+        this.rateLimiter = new AdaptiveRateLimiter(initialWindow, maxWindow);
+        this.failureThreshold = failureThreshold;
+        this.openDuration = openDuration;
+        this.metrics = metrics;
+        this.maxAttempts = Math.max(1, maxAttempts);
+        this.queueTimeout = queueTimeout;
+        this.initialBackoff = initialBackoff;
+        this.maxBackoff = maxBackoff;
+    }
+
+    public <T> T execute(String method, Supplier<T> call) {
+        CircuitBreaker circuitBreaker = circuitBreaker(method);
+        long deadline = System.nanoTime() + queueTimeout.toNanos();
+        for (int attempt = 1; ; attempt++) {
+            if (!circuitBreaker.tryAcquire()) {
+                throw unavailable(method);
+            }
+            if (!rateLimiter.acquire(deadline)) {
+                circuitBreaker.release();
+                log.warn("Employee api request budget exhausted for the next {} ms",
+                        rateLimiter.getBlockedFor().toMillis());
+                throw new TooManyRequestException(CustomError.EMPLOYEE_API_RATE_LIMIT_EXCEEDED);
+            }
+            long start = System.nanoTime();
+            try {
+                T result = call.get();
+                metrics.record(method, start, null);
+                circuitBreaker.onSuccess();
+                rateLimiter.onAccepted();
+                return result;
+            } catch (FeignException.TooManyRequests e) {
+                metrics.record(method, start, e);
+                circuitBreaker.onSuccess();
+                rateLimiter.onRateLimited();
+                if (attempt >= maxAttempts) {
+                    throw e;
+                }
+                long wait = retryWaitNanos(attempt, deadline);
+                // otherwise the limiter stays closed past the deadline and the next acquire fails fast
+                if (wait >= 0) {
+                    retries.increment();
+                    log.info("Employee api rate limited, retry {} in {} ms", attempt,
+                            TimeUnit.NANOSECONDS.toMillis(wait));
+                    sleep(wait, e);
+                }
+            } catch (RuntimeException e) {
+                metrics.record(method, start, e);
+                recordOutcome(circuitBreaker, e);
+                if (e instanceof FeignException feignException && feignException.status() > 0) {
+                    rateLimiter.onAccepted();
+                }
+                throw e;
+            }
+        }
+    }
+
+    public <T> CompletableFuture<T> executeAsync(String method, Supplier<CompletableFuture<T>> call) {
+        CompletableFuture<T> result = new CompletableFuture<>();
+        attemptAsync(method, call, 1, System.nanoTime() + queueTimeout.toNanos(), result);
+        return result;
+    }
+
+    public Map<String, CircuitBreakerStatsResponse> getCircuitBreakerStats() {
+        Map<String, CircuitBreakerStatsResponse> stats = new TreeMap<>();
+        circuitBreakers.forEach((method, circuitBreaker) -> stats.put(method, new CircuitBreakerStatsResponse(
+                circuitBreaker.getState().name(), circuitBreaker.getConsecutiveFailures(),
+                circuitBreaker.getOpenedCount(), circuitBreaker.getRejectedCount())));
+        return stats;
+    }
+
+    public RateLimiterStatsResponse getStats() {
+        return new RateLimiterStatsResponse(
+                rateLimiter.getLearnedLimit(),
+                rateLimiter.getWindow().toMillis(),
+                rateLimiter.getBlockedFor().toMillis(),
+                rateLimiter.getRateLimitedCount(),
+                rateLimiter.getThrottledCount(),
+                retries.sum());
+    }
+
+    private <T> void attemptAsync(String method, Supplier<CompletableFuture<T>> call, int attempt, long deadline,
+                                  CompletableFuture<T> result) {
+        CircuitBreaker circuitBreaker = circuitBreaker(method);
+        if (!circuitBreaker.tryAcquire()) {
+            result.completeExceptionally(unavailable(method));
+            return;
+        }
+        long wait = rateLimiter.tryAcquire(deadline);
+        if (wait < 0) {
+            circuitBreaker.release();
+            log.warn("Employee api request budget exhausted for the next {} ms",
+                    rateLimiter.getBlockedFor().toMillis());
+            result.completeExceptionally(new TooManyRequestException(CustomError.EMPLOYEE_API_RATE_LIMIT_EXCEEDED));
+            return;
+        }
+        if (wait > 0) {
+            circuitBreaker.release();
+            CompletableFuture.delayedExecutor(wait, TimeUnit.NANOSECONDS)
+                    .execute(() -> attemptAsync(method, call, attempt, deadline, result));
+            return;
+        }
+        long start = System.nanoTime();
+        CompletableFuture<T> response;
+        try {
+            response = call.get();
+        } catch (RuntimeException e) {
+            metrics.record(method, start, e);
+            recordOutcome(circuitBreaker, e);
+            result.completeExceptionally(e);
+            return;
+        }
+        response.whenComplete((value, failure) -> {
+            metrics.record(method, start, failure);
+            if (failure == null) {
+                circuitBreaker.onSuccess();
+                rateLimiter.onAccepted();
+                result.complete(value);
+                return;
+            }
+            Throwable cause = failure instanceof CompletionException && failure.getCause() != null
+                    ? failure.getCause() : failure;
+            recordOutcome(circuitBreaker, cause);
+            if (cause instanceof FeignException.TooManyRequests) {
+                rateLimiter.onRateLimited();
+                if (attempt >= maxAttempts) {
+                    result.completeExceptionally(cause);
+                    return;
+                }
+                long retryWait = retryWaitNanos(attempt, deadline);
+                if (retryWait < 0) {
+                    attemptAsync(method, call, attempt + 1, deadline, result);
+                    return;
+                }
+                retries.increment();
+                log.info("Employee api rate limited, retry {} in {} ms", attempt,
+                        TimeUnit.NANOSECONDS.toMillis(retryWait));
+                CompletableFuture.delayedExecutor(retryWait, TimeUnit.NANOSECONDS)
+                        .execute(() -> attemptAsync(method, call, attempt + 1, deadline, result));
+                return;
+            }
+            if (cause instanceof FeignException e && e.status() > 0) {
+                rateLimiter.onAccepted();
+            }
+            result.completeExceptionally(cause);
+        });
+    }
+
+    private CircuitBreaker circuitBreaker(String method) {
+        return circuitBreakers.computeIfAbsent(method, key -> new CircuitBreaker(failureThreshold, openDuration));
+    }
+
+    /**
+     * A response, even an error status below 500, shows that the upstream is reachable. No response,
+     * a 5xx, or a failed non-blocking exchange (reported as a {@link CustomException}) does not.
+     */
+    private static void recordOutcome(CircuitBreaker circuitBreaker, Throwable failure) {
+        boolean upstreamFailure = failure instanceof FeignException e
+                ? e.status() <= 0 || e.status() >= 500
+                : failure instanceof CustomException;
+        if (upstreamFailure) {
+            circuitBreaker.onFailure();
+        } else {
+            circuitBreaker.onSuccess();
+        }
+    }
+
+    private static CustomException unavailable(String method) {
+        log.warn("Employee api circuit open for {}, failing fast", method);
+        return new CustomException(CustomError.EMPLOYEE_API_UNAVAILABLE, HttpStatus.SERVICE_UNAVAILABLE);
+    }
+
+    /**
+     * Wait before retrying a 429: until the limiter reopens, then a jittered backoff clamped to what is
+     * left of the queue timeout, so that retries queued behind the same block do not all fire at once.
+     * Returns {@code -1} when the limiter stays closed past the deadline and a retry could only be refused.
+     */
+    private long retryWaitNanos(int attempt, long deadline) {
+        long reopensIn = rateLimiter.getBlockedFor().toNanos();
+        long spare = deadline - System.nanoTime() - reopensIn;
+        if (spare < 0) {
+            return -1;
+        }
+        return reopensIn + Math.min(backoffNanos(attempt), spare);
+    }
+
+    private long backoffNanos(int attempt) {
+        long ceiling = Math.min(maxBackoff.toNanos(), initialBackoff.toNanos() << Math.min(attempt - 1, 20));
+        return ThreadLocalRandom.current().nextLong(ceiling + 1);
+    }
+
+    private static void sleep(long nanos, FeignException cause) {
+        try {
+            TimeUnit.NANOSECONDS.sleep(nanos);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw cause;
+        }
+    }
+}
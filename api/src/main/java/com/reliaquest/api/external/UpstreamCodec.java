@@ -0,0 +1,62 @@
+package com.reliaquest.api.external;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.InputStream;
+
+/**
+ * Reads upstream bodies in whichever format the upstream answered with, and names the format to ask
+ * for. Both mappers share the application {@link ObjectMapper}'s settings.
+ */
+@Component
+public class UpstreamCodec {
+
+    private final ObjectMapper jsonMapper;
+    private final ObjectMapper smileMapper;
+    private final WireFormat wireFormat;
+
+    public UpstreamCodec(ObjectMapper objectMapper,
+                         @Value("${employee.client.wire-format:json}") WireFormat wireFormat) {
+        this.jsonMapper = objectMapper;
+        this.smileMapper = objectMapper.copyWith(new SmileFactory());
+        this.wireFormat = wireFormat;
+    }
+
+    public WireFormat getWireFormat() {
+        return wireFormat;
+    }
+
+    /**
+     * {@code Accept} header for upstream calls; Smile requests fall back to JSON should the upstream
+     * not support it.
+     */
+    public String accept() {
+        return wireFormat == WireFormat.JSON
+                ? WireFormat.JSON.getMediaType()
+                : wireFormat.getMediaType() + ", " + WireFormat.JSON.getMediaType() + ";q=0.5";
+    }
+
+    public ObjectMapper getSmileMapper() {
+        return smileMapper;
+    }
+
+    public byte[] writeJson(Object value) throws IOException {
+        return jsonMapper.writeValueAsBytes(value);
+    }
+
+    public <T> T read(byte[] body, String contentType, Class<T> type) throws IOException {
+        return mapper(contentType).readValue(body, type);
+    }
+
+    public <T> T read(InputStream body, String contentType, Class<T> type) throws IOException {
+        return mapper(contentType).readValue(body, type);
+    }
+
+    private ObjectMapper mapper(String contentType) {
+        return WireFormat.fromContentType(contentType) == WireFormat.SMILE ? smileMapper : jsonMapper;
+    }
+}
@@ -0,0 +1,58 @@
+package com.reliaquest.api.external;
+
+import feign.FeignException;
+import io.micrometer.core.instrument.Meter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Times every upstream request attempt as {@value #REQUESTS}, tagged with the {@code EmployeeClient}
+ * method and the outcome: {@code success}, {@code not_found}, {@code too_many_requests} or
+ * {@code error}. Retried 429s are recorded once per attempt, so the timer's count doubles as the
+ * request counter for each outcome.
+ */
+@Component
+public class UpstreamMetrics {
+
+    public static final String REQUESTS = "employee.upstream.requests";
+
+    static final String SUCCESS = "success";
+    static final String NOT_FOUND = "not_found";
+    static final String TOO_MANY_REQUESTS = "too_many_requests";
+    static final String ERROR = "error";
+
+    private final Meter.MeterProvider<Timer> requests;
+
+    public UpstreamMetrics(MeterRegistry meterRegistry) {
+        this.requests = Timer.builder(REQUESTS)
+                .description("Requests to the employee api, by client method and outcome")
+                .publishPercentileHistogram()
+                .withRegistry(meterRegistry);
+    }
+
+    public void record(String method, long startNanos, Throwable failure) {
+        requests.withTags("method", method, "outcome", outcome(failure))
+                .record(System.nanoTime() - startNanos, TimeUnit.NANOSECONDS);
+    }
+
+    static String outcome(Throwable failure) {
+        if (failure == null) {
+            return SUCCESS;
+        }
+        Throwable cause = failure instanceof CompletionException && failure.getCause() != null
+                ? failure.getCause() : failure;
+        if (cause instanceof FeignException e) {
+            if (e.status() == 404) {
+                return NOT_FOUND;
+            }
+            if (e.status() == 429) {
+                return TOO_MANY_REQUESTS;
+            }
+        }
+        return ERROR;
+    }
+}
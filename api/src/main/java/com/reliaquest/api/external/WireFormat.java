@@ -0,0 +1,36 @@
+package com.reliaquest.api.external;
+
+import org.springframework.http.MediaType;
+
+/**
+ * Body encoding the api asks the upstream for, selected with {@code employee.client.wire-format}.
+ * Request bodies stay JSON either way.
+ */
+public enum WireFormat {
+    /**
+     * The upstream's public contract, with the {@code employee_}-prefixed keys spelled out on every record.
+     */
+    JSON(MediaType.APPLICATION_JSON_VALUE),
+    /**
+     * Jackson's binary JSON: the same document model, with keys and repeated string values sent once
+     * and referenced after that.
+     */
+    SMILE("application/x-jackson-smile");
+
+    private final String mediaType;
+
+    WireFormat(String mediaType) {
+        this.mediaType = mediaType;
+    }
+
+    public String getMediaType() {
+        return mediaType;
+    }
+
+    /**
+     * Format of a response body from its {@code Content-Type}; anything that is not Smile is read as JSON.
+     */
+    public static WireFormat fromContentType(String contentType) {
+        return contentType != null && contentType.startsWith(SMILE.mediaType) ? SMILE : JSON;
+    }
+}
@@ -1,17 +1,70 @@
 package com.reliaquest.api.feignClient;
 
+import com.reliaquest.api.models.EmployeeQuery;
+import com.reliaquest.api.request.EmployeeRequest;
 import com.reliaquest.api.response.DeleteEmployeeResponse;
+import com.reliaquest.api.response.EmployeeAggregatesResponse;
+import com.reliaquest.api.response.EmployeeChangesResponse;
+import com.reliaquest.api.response.EmployeePageResponse;
 import com.reliaquest.api.response.EmployeeResponse;
+import com.reliaquest.api.response.EmployeeStatsResponse;
 import com.reliaquest.api.response.GetEmployeeResponse;
-import com.reliaquest.api.request.EmployeeRequest;
+import feign.Response;
 import org.springframework.cloud.openfeign.FeignClient;
+import org.springframework.cloud.openfeign.SpringQueryMap;
+import org.springframework.http.HttpHeaders;
 import org.springframework.web.bind.annotation.*;
 
-@FeignClient(name = "employeeClient", url = "http://localhost:8112/api/v1/employee")
+import java.util.List;
+
+@FeignClient(name = "employeeClient", url = "${employee.upstream.url:http://localhost:8112/api/v1/employee}")
 public interface EmployeeClient {
 
+    /**
+     * Raw response so that a 304 reaches the caller instead of the error decoder; the caller checks
+     * the status, decodes the body and must close the response.
+     */
     @GetMapping
-    EmployeeResponse getAllEmployees();
+    Response getAllEmployees(@RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch);
+
+    @GetMapping
+    EmployeePageResponse getEmployeePage(@RequestParam("limit") int limit,
+                                         @RequestParam(value = "cursor", required = false) String cursor);
+
+    /**
+     * Raw NDJSON stream; the caller reads the body line by line and must close the response.
+     */
+    @GetMapping(value = "/stream", produces = "application/x-ndjson")
+    Response streamEmployees();
+
+    /**
+     * Inserts and deletes since roster version {@code since}; 0 returns the whole roster.
+     */
+    @GetMapping("/changes")
+    EmployeeChangesResponse getChanges(@RequestParam("since") long since);
+
+    /**
+     * Employees matching the query, filtered, ordered and limited by the upstream.
+     */
+    @GetMapping("/query")
+    EmployeeResponse queryEmployees(@SpringQueryMap EmployeeQuery query);
+
+    /**
+     * Count, salary statistics and optionally per-title counts over the employees matching the query's
+     * filters; the upstream picks its default percentiles when none are given.
+     */
+    @GetMapping("/aggregate")
+    EmployeeAggregatesResponse aggregateEmployees(@SpringQueryMap EmployeeQuery query,
+                                                  @RequestParam(value = "percentiles", required = false)
+                                                  List<Double> percentiles,
+                                                  @RequestParam("countByTitle") boolean countByTitle);
+
+    /**
+     * Statistics the upstream maintains as the roster changes, so this does not scale with its size.
+     * Per-title counts, which do grow with the number of titles, are only sent with {@code countByTitle}.
+     */
+    @GetMapping("/stats")
+    EmployeeStatsResponse getStats(@RequestParam("countByTitle") boolean countByTitle);
 
     @GetMapping("/{id}")
     GetEmployeeResponse getEmployeeById(@PathVariable("id") String id);
@@ -21,4 +74,13 @@ public interface EmployeeClient {
 
     @DeleteMapping
     DeleteEmployeeResponse deleteEmployee(@RequestBody EmployeeRequest request);
+
+    @PostMapping("/batch")
+    EmployeeResponse submitEmployees(@RequestBody List<EmployeeRequest> requests);
+
+    /**
+     * Deletes by id and returns the employees that existed; unknown ids are left out.
+     */
+    @DeleteMapping("/batch")
+    EmployeeResponse deleteEmployees(@RequestBody List<String> ids);
 }
@@ -0,0 +1,230 @@
+package com.reliaquest.api.index;
+
+import com.reliaquest.api.models.Employee;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.UUID;
+
+/**
+ * Column-per-field copy of an employee snapshot, built once per snapshot like the other indexes.
+ * Salaries and ages are {@code int} columns, titles are codes into a dictionary of distinct titles,
+ * ids are packed into two {@code long}s each and names and emails are UTF-8 bytes in one shared array
+ * per column. Ids that are not canonical UUID strings are kept as strings on the side, so every id
+ * round-trips exactly. {@link #get(int)} rebuilds an equal {@link Employee}.
+ *
+ * <p>{@link #indexOf(String)} is a constant-time lookup: packed ids are hashed into an open-addressing
+ * table of rows, and irregular ids are mapped to their rows directly.
+ */
+public final class EmployeeColumns {
+
+    public static final int NO_TITLE = -1;
+
+    private final int size;
+    private final long[] idBits;
+    private final Map<Integer, String> irregularIds = new TreeMap<>();
+    private final Map<String, Integer> irregularRows = new HashMap<>();
+    private final int[] rowSlots;
+    private final Utf8Column names;
+    private final int[] salaries;
+    private final int[] ages;
+    private final int[] titleCodes;
+    private final String[] titles;
+    private final Utf8Column emails;
+
+    private EmployeeColumns(List<Employee> employees) {
+        size = employees.size();
+        idBits = new long[size * 2];
+        names = new Utf8Column(size);
+        salaries = new int[size];
+        ages = new int[size];
+        titleCodes = new int[size];
+        emails = new Utf8Column(size);
+        Map<String, Integer> codes = new HashMap<>();
+        for (int row = 0; row < size; row++) {
+            Employee employee = employees.get(row);
+            UUID id = canonicalUuid(employee.getId());
+            if (id == null) {
+                irregularIds.put(row, employee.getId());
+                irregularRows.putIfAbsent(employee.getId(), row);
+            } else {
+                idBits[row * 2] = id.getMostSignificantBits();
+                idBits[row * 2 + 1] = id.getLeastSignificantBits();
+            }
+            names.add(employee.getName());
+            salaries[row] = employee.getSalary();
+            ages[row] = employee.getAge();
+            titleCodes[row] = employee.getTitle() == null ? NO_TITLE
+                    : codes.computeIfAbsent(employee.getTitle(), ignored -> codes.size());
+            emails.add(employee.getEmail());
+        }
+        titles = new String[codes.size()];
+        codes.forEach((title, code) -> titles[code] = title);
+        names.trim();
+        emails.trim();
+        rowSlots = new int[Math.max(2, Integer.highestOneBit(Math.max(1, size) * 2 - 1) << 1)];
+        for (int row = 0; row < size; row++) {
+            if (!irregularIds.containsKey(row)) {
+                hashRow(row);
+            }
+        }
+    }
+
+    public static EmployeeColumns of(List<Employee> employees) {
+        return new EmployeeColumns(employees);
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public Employee get(int row) {
+        return new Employee(id(row), names.get(row), salaries[row], ages[row], title(row), emails.get(row));
+    }
+
+    public String id(int row) {
+        return irregularIds.containsKey(row) ? irregularIds.get(row)
+                : new UUID(idBits[row * 2], idBits[row * 2 + 1]).toString();
+    }
+
+    public int salary(int row) {
+        return salaries[row];
+    }
+
+    public int age(int row) {
+        return ages[row];
+    }
+
+    public String title(int row) {
+        return titleCodes[row] == NO_TITLE ? null : titles[titleCodes[row]];
+    }
+
+    /**
+     * Row of the first employee with this id, or -1. A UUID id is compared as two longs rather than
+     * as a string.
+     */
+    public int indexOf(String id) {
+        UUID uuid = canonicalUuid(id);
+        if (uuid == null) {
+            return irregularRows.getOrDefault(id, -1);
+        }
+        long most = uuid.getMostSignificantBits();
+        long least = uuid.getLeastSignificantBits();
+        int mask = rowSlots.length - 1;
+        for (int slot = slot(most, least, mask); rowSlots[slot] != 0; slot = (slot + 1) & mask) {
+            int row = rowSlots[slot] - 1;
+            if (idBits[row * 2] == most && idBits[row * 2 + 1] == least) {
+                return row;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Bytes held by the column arrays, the id lookup table, the title dictionary and any irregular ids,
+     * excluding object headers.
+     */
+    public long dataBytes() {
+        long bytes = (long) idBits.length * Long.BYTES
+                + (long) (salaries.length + ages.length + titleCodes.length + rowSlots.length) * Integer.BYTES
+                + names.dataBytes()
+                + emails.dataBytes();
+        for (String title : titles) {
+            bytes += title.length();
+        }
+        for (String id : irregularIds.values()) {
+            bytes += id == null ? 0 : id.length();
+        }
+        return bytes;
+    }
+
+    /**
+     * Puts {@code row} in the first free slot of its probe sequence, unless an earlier row already holds
+     * the same id. Slots hold {@code row + 1} so that 0 marks a free one; the table is at least twice the
+     * row count, so probes stay short.
+     */
+    private void hashRow(int row) {
+        long most = idBits[row * 2];
+        long least = idBits[row * 2 + 1];
+        int mask = rowSlots.length - 1;
+        int slot = slot(most, least, mask);
+        for (; rowSlots[slot] != 0; slot = (slot + 1) & mask) {
+            int held = rowSlots[slot] - 1;
+            if (idBits[held * 2] == most && idBits[held * 2 + 1] == least) {
+                return;
+            }
+        }
+        rowSlots[slot] = row + 1;
+    }
+
+    private static int slot(long most, long least, int mask) {
+        long hash = (most ^ least) * 0x9E3779B97F4A7C15L;
+        return (int) (hash ^ (hash >>> 32)) & mask;
+    }
+
+    /**
+     * The UUID an id string spells in canonical form, or null when it does not, so that packing it
+     * and printing it back gives the same string.
+     */
+    private static UUID canonicalUuid(String id) {
+        if (id == null || id.length() != 36) {
+            return null;
+        }
+        try {
+            UUID uuid = UUID.fromString(id);
+            return uuid.toString().equals(id) ? uuid : null;
+        } catch (IllegalArgumentException e) {
+            return null;
+        }
+    }
+
+    /**
+     * Nullable strings as UTF-8 bytes back to back, with row {@code i} between offsets {@code i} and
+     * {@code i + 1}.
+     */
+    private static final class Utf8Column {
+
+        private final int[] offsets;
+        private final BitSet nulls = new BitSet();
+        private byte[] bytes;
+        private int rows;
+
+        Utf8Column(int size) {
+            offsets = new int[size + 1];
+            bytes = new byte[Math.max(16, size * 16)];
+        }
+
+        void add(String value) {
+            int end = offsets[rows];
+            if (value == null) {
+                nulls.set(rows);
+            } else {
+                byte[] encoded = value.getBytes(StandardCharsets.UTF_8);
+                if (end + encoded.length > bytes.length) {
+                    bytes = Arrays.copyOf(bytes, Math.max(end + encoded.length, bytes.length * 2));
+                }
+                System.arraycopy(encoded, 0, bytes, end, encoded.length);
+                end += encoded.length;
+            }
+            offsets[++rows] = end;
+        }
+
+        void trim() {
+            bytes = Arrays.copyOf(bytes, offsets[rows]);
+        }
+
+        String get(int row) {
+            return nulls.get(row) ? null
+                    : new String(bytes, offsets[row], offsets[row + 1] - offsets[row], StandardCharsets.UTF_8);
+        }
+
+        long dataBytes() {
+            return bytes.length + (long) offsets.length * Integer.BYTES + nulls.size() / Byte.SIZE;
+        }
+    }
+}
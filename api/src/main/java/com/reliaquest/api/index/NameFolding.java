@@ -0,0 +1,29 @@
+package com.reliaquest.api.index;
+
+import java.text.Normalizer;
+import java.util.Locale;
+import java.util.regex.Pattern;
+
+/**
+ * Normalisation applied to employee names and search queries before they are compared.
+ */
+public record NameFolding(boolean caseInsensitive, boolean accentInsensitive) {
+
+    public static final NameFolding NONE = new NameFolding(false, false);
+
+    private static final Pattern COMBINING_MARKS = Pattern.compile("\\p{M}+");
+
+    public String fold(String value) {
+        if (value == null) {
+            return "";
+        }
+        String folded = value;
+        if (accentInsensitive) {
+            folded = COMBINING_MARKS.matcher(Normalizer.normalize(folded, Normalizer.Form.NFD)).replaceAll("");
+        }
+        if (caseInsensitive) {
+            folded = folded.toLowerCase(Locale.ROOT);
+        }
+        return folded;
+    }
+}
@@ -0,0 +1,219 @@
+package com.reliaquest.api.index;
+
+import com.reliaquest.api.models.Employee;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Substring and prefix search over employee names, built once per employee snapshot.
+ *
+ * <p>Substring queries of three or more characters intersect the posting lists of the query's
+ * trigrams and only verify the surviving candidates, so the cost follows the number of names
+ * sharing those trigrams rather than the roster size. Shorter queries match too many names for an
+ * index to help and are answered by a scan over the pre-folded names. Results are ranked by where
+ * the match starts (start of the name, start of a word, anywhere else) and then by roster order.
+ *
+ * <p>Prefix queries for autocomplete binary-search a sorted array holding every word of every name
+ * and every full name.
+ */
+public final class NameSearchIndex {
+
+    private static final int GRAM = 3;
+
+    private static final int RANK_NAME_START = 0;
+    private static final int RANK_WORD_START = 1;
+    private static final int RANK_INSIDE_WORD = 2;
+
+    private final NameFolding folding;
+    private final Employee[] employees;
+    private final String[] foldedNames;
+    private final Map<String, int[]> postings;
+    private final String[] prefixTerms;
+    private final int[] prefixDocs;
+
+    private NameSearchIndex(NameFolding folding, Employee[] employees, String[] foldedNames,
+                            Map<String, int[]> postings, String[] prefixTerms, int[] prefixDocs) {
+        this.folding = folding;
+        this.employees = employees;
+        this.foldedNames = foldedNames;
+        this.postings = postings;
+        this.prefixTerms = prefixTerms;
+        this.prefixDocs = prefixDocs;
+    }
+
+    public static NameSearchIndex of(List<Employee> employees, NameFolding folding) {
+        int size = employees.size();
+        Employee[] docs = employees.toArray(new Employee[0]);
+        String[] foldedNames = new String[size];
+        Map<String, IntList> gramDocs = new HashMap<>();
+        List<PrefixTerm> terms = new ArrayList<>(size * 3);
+
+        for (int doc = 0; doc < size; doc++) {
+            String folded = folding.fold(docs[doc].getName());
+            foldedNames[doc] = folded;
+            for (int i = 0; i + GRAM <= folded.length(); i++) {
+                gramDocs.computeIfAbsent(folded.substring(i, i + GRAM), gram -> new IntList()).addDistinct(doc);
+            }
+            terms.add(new PrefixTerm(folded, doc));
+            for (int start = 0; start < folded.length(); start++) {
+                if (isWordStart(folded, start) && start > 0) {
+                    int end = start;
+                    while (end < folded.length() && !Character.isWhitespace(folded.charAt(end))) {
+                        end++;
+                    }
+                    terms.add(new PrefixTerm(folded.substring(start, end), doc));
+                }
+            }
+        }
+
+        Map<String, int[]> postings = new HashMap<>(gramDocs.size() * 2);
+        gramDocs.forEach((gram, docsWithGram) -> postings.put(gram, docsWithGram.toArray()));
+
+        terms.sort(Comparator.comparing(PrefixTerm::term).thenComparingInt(PrefixTerm::doc));
+        String[] prefixTerms = new String[terms.size()];
+        int[] prefixDocs = new int[terms.size()];
+        for (int i = 0; i < terms.size(); i++) {
+            prefixTerms[i] = terms.get(i).term();
+            prefixDocs[i] = terms.get(i).doc();
+        }
+        return new NameSearchIndex(folding, docs, foldedNames, postings, prefixTerms, prefixDocs);
+    }
+
+    public NameFolding getFolding() {
+        return folding;
+    }
+
+    /**
+     * Employees whose name contains {@code query}, best matches first.
+     */
+    public List<Employee> search(String query) {
+        String folded = folding.fold(query);
+        int[] candidates = folded.length() >= GRAM ? candidatesFor(folded) : null;
+        int candidateCount = candidates == null ? employees.length : candidates.length;
+
+        long[] ranked = new long[candidateCount];
+        int matches = 0;
+        for (int i = 0; i < candidateCount; i++) {
+            int doc = candidates == null ? i : candidates[i];
+            int position = foldedNames[doc].indexOf(folded);
+            if (position >= 0) {
+                ranked[matches++] = ((long) rank(foldedNames[doc], position) << 32) | doc;
+            }
+        }
+        Arrays.sort(ranked, 0, matches);
+
+        Employee[] result = new Employee[matches];
+        for (int i = 0; i < matches; i++) {
+            result[i] = employees[(int) ranked[i]];
+        }
+        return List.of(result);
+    }
+
+    /**
+     * Distinct names having a word, or the full name, starting with {@code prefix}, in term order.
+     */
+    public List<String> autocomplete(String prefix, int limit) {
+        String folded = folding.fold(prefix);
+        Set<String> names = new LinkedHashSet<>();
+        for (int i = lowerBound(folded); i < prefixTerms.length && names.size() < limit; i++) {
+            if (!prefixTerms[i].startsWith(folded)) {
+                break;
+            }
+            names.add(employees[prefixDocs[i]].getName());
+        }
+        return Collections.unmodifiableList(new ArrayList<>(names));
+    }
+
+    private int[] candidatesFor(String folded) {
+        int[][] lists = new int[folded.length() - GRAM + 1][];
+        for (int i = 0; i < lists.length; i++) {
+            int[] docs = postings.get(folded.substring(i, i + GRAM));
+            if (docs == null) {
+                return new int[0];
+            }
+            lists[i] = docs;
+        }
+        Arrays.sort(lists, Comparator.comparingInt(docs -> docs.length));
+
+        int[] candidates = lists[0];
+        for (int i = 1; i < lists.length && candidates.length > 0; i++) {
+            candidates = intersect(candidates, lists[i]);
+        }
+        return candidates;
+    }
+
+    private int lowerBound(String folded) {
+        int low = 0;
+        int high = prefixTerms.length;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (prefixTerms[mid].compareTo(folded) < 0) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    private static int[] intersect(int[] smaller, int[] larger) {
+        int[] result = new int[smaller.length];
+        int count = 0;
+        int from = 0;
+        for (int doc : smaller) {
+            int found = Arrays.binarySearch(larger, from, larger.length, doc);
+            if (found >= 0) {
+                result[count++] = doc;
+                from = found + 1;
+            } else {
+                from = -found - 1;
+            }
+            if (from == larger.length) {
+                break;
+            }
+        }
+        return Arrays.copyOf(result, count);
+    }
+
+    private static int rank(String name, int position) {
+        if (position == 0) {
+            return RANK_NAME_START;
+        }
+        return isWordStart(name, position) ? RANK_WORD_START : RANK_INSIDE_WORD;
+    }
+
+    private static boolean isWordStart(String name, int position) {
+        return !Character.isWhitespace(name.charAt(position))
+                && (position == 0 || Character.isWhitespace(name.charAt(position - 1)));
+    }
+
+    private record PrefixTerm(String term, int doc) {
+    }
+
+    private static final class IntList {
+        private int[] values = new int[4];
+        private int size;
+
+        void addDistinct(int value) {
+            if (size > 0 && values[size - 1] == value) {
+                return;
+            }
+            if (size == values.length) {
+                values = Arrays.copyOf(values, size * 2);
+            }
+            values[size++] = value;
+        }
+
+        int[] toArray() {
+            return Arrays.copyOf(values, size);
+        }
+    }
+}
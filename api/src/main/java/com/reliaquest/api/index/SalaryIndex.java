@@ -0,0 +1,74 @@
+package com.reliaquest.api.index;
+
+import com.reliaquest.api.models.Employee;
+
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Employees ordered by salary, highest first, built once per employee snapshot from its salary column.
+ * Ties keep the order of the source list. The highest salary is a constant-time read and the top N
+ * returns the snapshot's own {@link Employee} objects for the first N rows.
+ */
+public final class SalaryIndex {
+
+    private static final SalaryIndex EMPTY = new SalaryIndex(List.of(), new int[0], new int[0]);
+
+    private final List<Employee> employees;
+    private final int[] rowsBySalary;
+    private final int[] salaries;
+
+    private SalaryIndex(List<Employee> employees, int[] rowsBySalary, int[] salaries) {
+        this.employees = employees;
+        this.rowsBySalary = rowsBySalary;
+        this.salaries = salaries;
+    }
+
+    public static SalaryIndex of(List<Employee> employees) {
+        return of(employees, EmployeeColumns.of(employees));
+    }
+
+    /**
+     * Builds the index from {@code columns}, which must be the columns of {@code employees}.
+     */
+    public static SalaryIndex of(List<Employee> employees, EmployeeColumns columns) {
+        int size = columns.size();
+        if (size == 0) {
+            return EMPTY;
+        }
+
+        // Pack (salary, reversed position) into one long so a primitive sort orders by salary and
+        // keeps ties in source order once the array is walked from the end.
+        long[] keys = new long[size];
+        for (int i = 0; i < size; i++) {
+            keys[i] = ((long) columns.salary(i) << 32) | (size - 1 - i);
+        }
+        Arrays.sort(keys);
+
+        int[] rowsBySalary = new int[size];
+        int[] salaries = new int[size];
+        for (int rank = 0; rank < size; rank++) {
+            long key = keys[size - 1 - rank];
+            rowsBySalary[rank] = size - 1 - (int) key;
+            salaries[rank] = (int) (key >> 32);
+        }
+        return new SalaryIndex(employees, rowsBySalary, salaries);
+    }
+
+    public int size() {
+        return salaries.length;
+    }
+
+    public int getHighestSalary() {
+        return salaries.length == 0 ? 0 : salaries[0];
+    }
+
+    public List<Employee> getTopEarning(int limit) {
+        int count = Math.min(limit, rowsBySalary.length);
+        Employee[] top = new Employee[count];
+        for (int rank = 0; rank < count; rank++) {
+            top[rank] = employees.get(rowsBySalary[rank]);
+        }
+        return List.of(top);
+    }
+}
@@ -0,0 +1,62 @@
+package com.reliaquest.api.logging;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Logs the outcome of hot-path operations as one {@code key=value} line holding the event name, a
+ * size, id or value, and the duration, never the employees themselves. Only a sample of the events
+ * is logged, set by {@code employee.logging.sample-rate} between 0 (none) and 1 (all). Events that
+ * are not sampled allocate nothing.
+ *
+ * <p>Events are logged under {@value #LOGGER}, so they can be switched off or routed separately.
+ */
+@Slf4j(topic = EmployeeEventLog.LOGGER)
+@Component
+public class EmployeeEventLog {
+
+    public static final String LOGGER = "com.reliaquest.api.events";
+
+    private final double sampleRate;
+
+    public EmployeeEventLog(@Value("${employee.logging.sample-rate:1.0}") double sampleRate) {
+        this.sampleRate = Math.max(0, Math.min(1, sampleRate));
+    }
+
+    public void size(String event, int size, long startNanos) {
+        if (sampled()) {
+            log.info("event={} size={} durationMicros={}", event, size, micros(startNanos));
+        }
+    }
+
+    public void id(String event, String id, long startNanos) {
+        if (sampled()) {
+            log.info("event={} id={} durationMicros={}", event, id, micros(startNanos));
+        }
+    }
+
+    public void value(String event, long value, long startNanos) {
+        if (sampled()) {
+            log.info("event={} value={} durationMicros={}", event, value, micros(startNanos));
+        }
+    }
+
+    public double getSampleRate() {
+        return sampleRate;
+    }
+
+    private boolean sampled() {
+        if (sampleRate <= 0 || !log.isInfoEnabled()) {
+            return false;
+        }
+        return sampleRate >= 1 || ThreadLocalRandom.current().nextDouble() < sampleRate;
+    }
+
+    private static long micros(long startNanos) {
+        return TimeUnit.NANOSECONDS.toMicros(System.nanoTime() - startNanos);
+    }
+}
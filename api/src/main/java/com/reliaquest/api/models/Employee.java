@@ -1,9 +1,14 @@
 package com.reliaquest.api.models;
 
+import com.fasterxml.jackson.annotation.JsonFormat;
 import com.fasterxml.jackson.annotation.JsonProperty;
 import lombok.AllArgsConstructor;
 import lombok.Data;
 
+/**
+ * Salary and age are held as primitives and parsed once when the upstream payload is read. They are
+ * still written as strings so the JSON contract of the employee endpoints does not change.
+ */
 @Data
 @AllArgsConstructor
 public class Employee {
@@ -14,14 +19,16 @@ public class Employee {
     private String name;
 
     @JsonProperty("employee_salary")
-    private String salary;
+    @JsonFormat(shape = JsonFormat.Shape.STRING)
+    private int salary;
 
     @JsonProperty("employee_age")
-    private String age;
+    @JsonFormat(shape = JsonFormat.Shape.STRING)
+    private int age;
 
     @JsonProperty("employee_title")
     private String title;
 
     @JsonProperty("employee_email")
     private String email;
-}
\ No newline at end of file
+}
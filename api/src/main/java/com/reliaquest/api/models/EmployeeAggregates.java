@@ -0,0 +1,30 @@
+package com.reliaquest.api.models;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.Map;
+
+/**
+ * Aggregates the upstream computed over the employees matching a query. {@code salary} is absent
+ * when no matching employee has one.
+ */
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class EmployeeAggregates {
+    private long count;
+    private SalaryStats salary;
+    private Map<String, Long> countByTitle;
+
+    @Data
+    @AllArgsConstructor
+    @NoArgsConstructor
+    public static class SalaryStats {
+        private int min;
+        private int max;
+        private double average;
+        private Map<String, Integer> percentiles;
+    }
+}
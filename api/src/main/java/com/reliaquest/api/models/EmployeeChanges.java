@@ -0,0 +1,21 @@
+package com.reliaquest.api.models;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * Net inserts and deletes between the requested roster version and {@code version}. When
+ * {@code reset} is set the upstream could not serve the range and {@code inserted} is the full roster.
+ */
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class EmployeeChanges {
+    private long version;
+    private boolean reset;
+    private List<Employee> inserted;
+    private List<String> deleted;
+}
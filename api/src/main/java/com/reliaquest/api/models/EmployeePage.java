@@ -0,0 +1,21 @@
+package com.reliaquest.api.models;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * One page of the roster. {@code nextCursor} is opaque, passed back as-is to fetch the next page,
+ * and absent on the last page.
+ */
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class EmployeePage {
+    private List<Employee> employees;
+    private String nextCursor;
+}
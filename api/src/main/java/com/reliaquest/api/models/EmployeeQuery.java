@@ -0,0 +1,28 @@
+package com.reliaquest.api.models;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Query parameters of the upstream's {@code /query} and {@code /aggregate} endpoints. Unset fields
+ * are left out of the request and do not filter; {@code sort} names an employee field and
+ * {@code order} is {@code asc} or {@code desc}.
+ */
+@Data
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+public class EmployeeQuery {
+    private String name;
+    private Boolean ignoreCase;
+    private Boolean ignoreAccents;
+    private Integer minSalary;
+    private Integer maxSalary;
+    private Integer minAge;
+    private Integer maxAge;
+    private String sort;
+    private String order;
+    private Integer limit;
+}
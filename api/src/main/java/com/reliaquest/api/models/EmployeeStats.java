@@ -0,0 +1,35 @@
+package com.reliaquest.api.models;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.Map;
+
+/**
+ * Roster-wide statistics the upstream keeps up to date as employees are created and deleted, as of
+ * its roster {@code version}. {@code salary} and {@code age} are absent while no employee has one;
+ * {@code salaryHistogram} maps the lower bound of each non-empty bucket to its count.
+ */
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class EmployeeStats {
+    private long version;
+    private long count;
+    private Summary salary;
+    private Summary age;
+    private Map<String, Long> countByTitle;
+    private int salaryBucketWidth;
+    private Map<Integer, Long> salaryHistogram;
+
+    @Data
+    @AllArgsConstructor
+    @NoArgsConstructor
+    public static class Summary {
+        private int min;
+        private int max;
+        private long sum;
+        private double average;
+    }
+}
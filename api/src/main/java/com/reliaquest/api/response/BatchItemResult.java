@@ -0,0 +1,24 @@
+package com.reliaquest.api.response;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.reliaquest.api.models.Employee;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Outcome of one batch item. {@code index} is the item's position in the request; {@code error}
+ * and {@code message} are only present when the item was not applied.
+ */
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class BatchItemResult {
+    private int index;
+    private String id;
+    private BatchItemStatus status;
+    private Employee employee;
+    private String error;
+    private String message;
+}
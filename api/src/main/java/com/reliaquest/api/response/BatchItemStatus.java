@@ -0,0 +1,9 @@
+package com.reliaquest.api.response;
+
+public enum BatchItemStatus {
+    CREATED,
+    DELETED,
+    NOT_FOUND,
+    INVALID,
+    FAILED
+}
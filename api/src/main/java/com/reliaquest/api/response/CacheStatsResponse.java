@@ -0,0 +1,18 @@
+package com.reliaquest.api.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class CacheStatsResponse {
+    private long hits;
+    private long staleHits;
+    private long misses;
+    private long refreshes;
+    private long refreshFailures;
+    private int size;
+    private long ageMillis;
+}
@@ -0,0 +1,15 @@
+package com.reliaquest.api.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class CircuitBreakerStatsResponse {
+    private String state;
+    private int consecutiveFailures;
+    private long opened;
+    private long rejected;
+}
@@ -0,0 +1,14 @@
+package com.reliaquest.api.response;
+
+import com.reliaquest.api.models.EmployeeAggregates;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class EmployeeAggregatesResponse {
+    private String status;
+    private EmployeeAggregates data;
+}
@@ -0,0 +1,14 @@
+package com.reliaquest.api.response;
+
+import com.reliaquest.api.models.EmployeeChanges;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class EmployeeChangesResponse {
+    private String status;
+    private EmployeeChanges data;
+}
@@ -0,0 +1,14 @@
+package com.reliaquest.api.response;
+
+import com.reliaquest.api.models.EmployeePage;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class EmployeePageResponse {
+    private String status;
+    private EmployeePage data;
+}
@@ -0,0 +1,14 @@
+package com.reliaquest.api.response;
+
+import com.reliaquest.api.models.EmployeeStats;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class EmployeeStatsResponse {
+    private String status;
+    private EmployeeStats data;
+}
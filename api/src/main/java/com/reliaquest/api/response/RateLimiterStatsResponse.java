@@ -0,0 +1,17 @@
+package com.reliaquest.api.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class RateLimiterStatsResponse {
+    private int learnedLimit;
+    private long windowMillis;
+    private long blockedForMillis;
+    private long rateLimited;
+    private long throttled;
+    private long retries;
+}
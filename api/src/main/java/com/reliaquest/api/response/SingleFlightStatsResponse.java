@@ -0,0 +1,14 @@
+package com.reliaquest.api.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class SingleFlightStatsResponse {
+    private long issued;
+    private long coalesced;
+    private int inFlight;
+}
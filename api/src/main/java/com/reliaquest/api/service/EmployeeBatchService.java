@@ -0,0 +1,245 @@
+package com.reliaquest.api.service;
+
+import com.reliaquest.api.cache.EmployeeCache;
+import com.reliaquest.api.exception.CustomError;
+import com.reliaquest.api.exception.CustomException;
+import com.reliaquest.api.exception.TooManyRequestException;
+import com.reliaquest.api.exception.ValidationException;
+import com.reliaquest.api.external.EmployeeAPIs;
+import com.reliaquest.api.models.Employee;
+import com.reliaquest.api.request.EmployeeRequest;
+import com.reliaquest.api.response.BatchItemResult;
+import com.reliaquest.api.response.BatchItemStatus;
+import com.reliaquest.api.response.BatchResponse;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+/**
+ * Applies batches of creates and deletes. Every item is validated before anything is sent; the
+ * valid ones go upstream in chunks of {@code employee.batch.chunk-size}, with up to
+ * {@code employee.batch.max-in-flight} chunks outstanding at once. Chunks are sent from a pool of that
+ * many threads, so a blocking client neither holds the request thread nor exceeds the limit. A failed
+ * chunk only fails its own items, and the response reports each item in request order.
+ */
+@Slf4j
+@Service
+public class EmployeeBatchService {
+
+    private final EmployeeService employeeService;
+    private final EmployeeAPIs employeeApis;
+    private final EmployeeCache employeeCache;
+    private final int maxSize;
+    private final int chunkSize;
+    private final int maxInFlight;
+    private final Executor batchExecutor;
+
+    @Autowired
+    public EmployeeBatchService(EmployeeService employeeService, EmployeeAPIs employeeApis, EmployeeCache employeeCache,
+                                @Value("${employee.batch.max-size:50000}") int maxSize,
+                                @Value("${employee.batch.chunk-size:500}") int chunkSize,
+                                @Value("${employee.batch.max-in-flight:4}") int maxInFlight) {
+        this(employeeService, employeeApis, employeeCache, maxSize, chunkSize, maxInFlight,
+                batchExecutor(Math.max(1, maxInFlight)));
+    }
+
+    EmployeeBatchService(EmployeeService employeeService, EmployeeAPIs employeeApis, EmployeeCache employeeCache,
+                         int maxSize, int chunkSize, int maxInFlight, Executor batchExecutor) {
+        this.employeeService = employeeService;
+        this.employeeApis = employeeApis;
+        this.employeeCache = employeeCache;
+        this.maxSize = maxSize;
+        this.chunkSize = Math.max(1, chunkSize);
+        this.maxInFlight = Math.max(1, maxInFlight);
+        this.batchExecutor = batchExecutor;
+    }
+
+    public CompletableFuture<BatchResponse> createEmployees(List<Object> employeeInputs) {
+        checkSize(employeeInputs);
+        log.info("Batch create request with {} items", employeeInputs.size());
+        BatchItemResult[] results = new BatchItemResult[employeeInputs.size()];
+        List<Integer> pending = new ArrayList<>(employeeInputs.size());
+        EmployeeRequest[] requests = new EmployeeRequest[employeeInputs.size()];
+        for (int i = 0; i < employeeInputs.size(); i++) {
+            try {
+                requests[i] = validate(employeeInputs.get(i));
+                pending.add(i);
+            } catch (ValidationException e) {
+                results[i] = failure(i, null, BatchItemStatus.INVALID, e.getError());
+            }
+        }
+
+        return pipeline(pending, chunk -> {
+            List<EmployeeRequest> chunkRequests = chunk.stream().map(index -> requests[index]).toList();
+            return employeeApis.submitEmployeesAsync(chunkRequests).handle((created, failure) -> {
+                if (failure != null) {
+                    CustomError error = errorOf(failure);
+                    chunk.forEach(index -> results[index] = failure(index, null, BatchItemStatus.FAILED, error));
+                    return null;
+                }
+                for (int k = 0; k < chunk.size(); k++) {
+                    int index = chunk.get(k);
+                    results[index] = k < created.size()
+                            ? new BatchItemResult(index, created.get(k).getId(), BatchItemStatus.CREATED, created.get(k),
+                                    null, null)
+                            : failure(index, null, BatchItemStatus.FAILED, CustomError.REST_API_CALL_FAILURE);
+                }
+                employeeCache.onEmployeesCreated(created);
+                return null;
+            });
+        }).thenApply(ignored -> response(results));
+    }
+
+    public CompletableFuture<BatchResponse> deleteEmployees(List<String> ids) {
+        checkSize(ids);
+        log.info("Batch delete request with {} items", ids.size());
+        BatchItemResult[] results = new BatchItemResult[ids.size()];
+        List<Integer> pending = new ArrayList<>(ids.size());
+        Set<String> seen = new HashSet<>();
+        for (int i = 0; i < ids.size(); i++) {
+            String id = ids.get(i);
+            if (!isUuid(id)) {
+                results[i] = failure(i, id, BatchItemStatus.INVALID, CustomError.INVALID_EMPLOYEE_ID);
+            } else if (!seen.add(id)) {
+                results[i] = failure(i, id, BatchItemStatus.INVALID, CustomError.DUPLICATE_EMPLOYEE_ID);
+            } else {
+                pending.add(i);
+            }
+        }
+
+        return pipeline(pending, chunk -> {
+            List<String> chunkIds = chunk.stream().map(ids::get).toList();
+            return employeeApis.deleteEmployeesAsync(chunkIds).handle((deleted, failure) -> {
+                if (failure != null) {
+                    CustomError error = errorOf(failure);
+                    chunk.forEach(index -> results[index] =
+                            failure(index, ids.get(index), BatchItemStatus.FAILED, error));
+                    return null;
+                }
+                Map<String, Employee> deletedById = new HashMap<>();
+                deleted.forEach(employee -> deletedById.put(employee.getId(), employee));
+                for (int index : chunk) {
+                    Employee employee = deletedById.get(ids.get(index));
+                    results[index] = employee != null
+                            ? new BatchItemResult(index, employee.getId(), BatchItemStatus.DELETED, employee, null, null)
+                            : failure(index, ids.get(index), BatchItemStatus.NOT_FOUND,
+                                    CustomError.EMPLOYEE_NOT_FOUNT_BY_ID);
+                }
+                employeeCache.onEmployeesDeleted(deletedById.keySet());
+                return null;
+            });
+        }).thenApply(ignored -> response(results));
+    }
+
+    @PreDestroy
+    void shutdown() {
+        if (batchExecutor instanceof ExecutorService executorService) {
+            executorService.shutdownNow();
+        }
+    }
+
+    /**
+     * Splits the pending items into chunks and spreads them over {@link #maxInFlight} lanes. Each lane
+     * sends its chunks one after another on the batch executor, so at most that many upstream calls are
+     * outstanding and the caller gets the future back before the first one is sent.
+     */
+    private CompletableFuture<Void> pipeline(List<Integer> pending,
+                                             Function<List<Integer>, CompletableFuture<Void>> sendChunk) {
+        List<List<Integer>> chunks = new ArrayList<>();
+        for (int from = 0; from < pending.size(); from += chunkSize) {
+            chunks.add(pending.subList(from, Math.min(pending.size(), from + chunkSize)));
+        }
+        int lanes = Math.min(maxInFlight, chunks.size());
+        CompletableFuture<?>[] laneResults = new CompletableFuture<?>[lanes];
+        for (int lane = 0; lane < lanes; lane++) {
+            CompletableFuture<Void> tail = CompletableFuture.completedFuture(null);
+            for (int c = lane; c < chunks.size(); c += lanes) {
+                List<Integer> chunk = chunks.get(c);
+                tail = tail.thenComposeAsync(ignored -> sendChunk.apply(chunk), batchExecutor);
+            }
+            laneResults[lane] = tail;
+        }
+        return CompletableFuture.allOf(laneResults);
+    }
+
+    private static Executor batchExecutor(int threads) {
+        AtomicInteger count = new AtomicInteger();
+        return Executors.newFixedThreadPool(threads, runnable -> {
+            Thread thread = new Thread(runnable, "employee-batch-" + count.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    private EmployeeRequest validate(Object employeeInput) {
+        if (!(employeeInput instanceof Map<?, ?> employeeMap)) {
+            throw new ValidationException(CustomError.INVALID_EMPLOYEE_INPUT);
+        }
+        @SuppressWarnings("unchecked")
+        Map<String, Object> input = (Map<String, Object>) employeeMap;
+        return employeeService.validateEmployeeRequest(input);
+    }
+
+    private void checkSize(List<?> items) {
+        if (items == null || items.isEmpty() || items.size() > maxSize) {
+            throw new ValidationException(CustomError.INVALID_BATCH_SIZE);
+        }
+    }
+
+    private static boolean isUuid(String id) {
+        if (id == null) {
+            return false;
+        }
+        try {
+            UUID.fromString(id);
+            return true;
+        } catch (IllegalArgumentException e) {
+            return false;
+        }
+    }
+
+    private static CustomError errorOf(Throwable failure) {
+        Throwable cause = failure instanceof CompletionException && failure.getCause() != null
+                ? failure.getCause() : failure;
+        if (cause instanceof TooManyRequestException e) {
+            return e.getError();
+        }
+        if (cause instanceof CustomException e) {
+            return e.getError();
+        }
+        log.error("Batch chunk failed: {}", cause.getMessage(), cause);
+        return CustomError.REST_API_CALL_FAILURE;
+    }
+
+    private static BatchItemResult failure(int index, String id, BatchItemStatus status, CustomError error) {
+        return new BatchItemResult(index, id, status, null, error.getCode(), error.getMessage());
+    }
+
+    private static BatchResponse response(BatchItemResult[] results) {
+        int succeeded = 0;
+        for (BatchItemResult result : results) {
+            if (result.getStatus() == BatchItemStatus.CREATED || result.getStatus() == BatchItemStatus.DELETED) {
+                succeeded++;
+            }
+        }
+        return new BatchResponse(results.length, succeeded, results.length - succeeded, Arrays.asList(results));
+    }
+}
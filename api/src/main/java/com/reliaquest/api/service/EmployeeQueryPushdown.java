@@ -0,0 +1,71 @@
+package com.reliaquest.api.service;
+
+import com.reliaquest.api.cache.EmployeeCache;
+import com.reliaquest.api.external.EmployeeAPIs;
+import com.reliaquest.api.index.NameFolding;
+import com.reliaquest.api.index.NameSearchIndex;
+import com.reliaquest.api.models.Employee;
+import com.reliaquest.api.models.EmployeeQuery;
+import com.reliaquest.api.models.EmployeeStats;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.OptionalInt;
+
+/**
+ * Answers salary and name reads with upstream queries while the employee cache is cold, so that a
+ * max or a top ten moves a handful of records instead of the whole roster. Each such read also
+ * starts loading the cache in the background; once it holds a snapshot its indexes answer without
+ * an upstream call and this steps aside.
+ */
+@Component
+public class EmployeeQueryPushdown {
+
+    private final EmployeeAPIs employeeApis;
+    private final EmployeeCache employeeCache;
+    private final NameFolding nameFolding;
+    private final boolean enabled;
+
+    public EmployeeQueryPushdown(EmployeeAPIs employeeApis, EmployeeCache employeeCache, NameFolding nameFolding,
+                                 @Value("${employee.query.pushdown:true}") boolean enabled) {
+        this.employeeApis = employeeApis;
+        this.employeeCache = employeeCache;
+        this.nameFolding = nameFolding;
+        this.enabled = enabled;
+    }
+
+    public boolean isActive() {
+        return enabled && !employeeCache.isLoaded();
+    }
+
+    /**
+     * Highest salary on the roster, or empty when no employee has one. Read from the upstream's running
+     * stats, which answer without a pass over the roster.
+     */
+    public OptionalInt getHighestSalary() {
+        employeeCache.warmAsync();
+        EmployeeStats stats = employeeApis.getEmployeeStats(false);
+        return stats == null || stats.getSalary() == null
+                ? OptionalInt.empty()
+                : OptionalInt.of(stats.getSalary().getMax());
+    }
+
+    public List<Employee> getTopEarning(int limit) {
+        employeeCache.warmAsync();
+        return employeeApis.queryEmployees(EmployeeQuery.builder().sort("salary").order("desc").limit(limit).build());
+    }
+
+    /**
+     * Matches come back in roster order and are ranked here the way the cached name index ranks them.
+     */
+    public List<Employee> search(String name) {
+        employeeCache.warmAsync();
+        List<Employee> matches = employeeApis.queryEmployees(EmployeeQuery.builder()
+                .name(name)
+                .ignoreCase(nameFolding.caseInsensitive())
+                .ignoreAccents(nameFolding.accentInsensitive())
+                .build());
+        return matches.size() < 2 ? matches : NameSearchIndex.of(matches, nameFolding).search(name);
+    }
+}
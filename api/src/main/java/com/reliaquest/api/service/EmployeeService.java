@@ -1,11 +1,16 @@
 package com.reliaquest.api.service;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.reliaquest.api.cache.EmployeeCache;
+import com.reliaquest.api.cache.EmployeeSnapshot;
 import com.reliaquest.api.exception.CustomError;
 import com.reliaquest.api.exception.CustomException;
+import com.reliaquest.api.exception.TooManyRequestException;
 import com.reliaquest.api.exception.ValidationException;
 import com.reliaquest.api.external.EmployeeAPIs;
+import com.reliaquest.api.logging.EmployeeEventLog;
 import com.reliaquest.api.models.Employee;
+import com.reliaquest.api.models.EmployeePage;
 import com.reliaquest.api.request.EmployeeRequest;
 import com.reliaquest.api.response.DeleteEmployeeResponse;
 import lombok.AllArgsConstructor;
@@ -16,7 +21,7 @@ import org.springframework.stereotype.Service;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
-import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 @Service
 @Slf4j
@@ -25,79 +30,152 @@ public class EmployeeService {
 
     private final EmployeeAPIs employeeApis;
 
+    private final EmployeeCache employeeCache;
+
     private final ObjectMapper objectMapper;
 
+    private final EmployeeEventLog eventLog;
+
+    private final EmployeeQueryPushdown queryPushdown;
+
     public List<Employee> getAllEmployees() {
-        List<Employee> allEmployees = employeeApis.getAllEmployees();
+        long start = System.nanoTime();
+        List<Employee> allEmployees = employeeCache.getEmployees();
         if(allEmployees.isEmpty()){
             throw new CustomException(CustomError.NO_EMPLOYEES_FOUND, HttpStatus.NOT_FOUND);
         }
 
-        log.info("List of Employees details {}", allEmployees);
+        eventLog.size("getAllEmployees", allEmployees.size(), start);
         return allEmployees;
     }
 
+    public EmployeePage getEmployeePage(int limit, String cursor) {
+        if (limit < 1) {
+            throw new ValidationException(CustomError.INVALID_LIMIT);
+        }
+        return employeeApis.getEmployeePage(limit, cursor);
+    }
+
+    /**
+     * Streams the upstream roster without buffering it; the caller must close the stream.
+     */
+    public Stream<Employee> streamAllEmployees() {
+        return employeeApis.streamEmployees();
+    }
+
     public Employee getEmployeeById(String id) {
         if(Objects.isNull(id)){
             throw new CustomException(CustomError.NULL_EMPLOYEE_ID, HttpStatus.BAD_REQUEST);
         }
-        Employee employee = employeeApis.getEmployeeById(id);
+        long start = System.nanoTime();
+        Employee employee = getEmployeeOrCached(id);
         if(Objects.isNull(employee)){
             throw new CustomException(CustomError.NO_EMPLOYEES_FOUND, HttpStatus.NOT_FOUND);
         }
-        log.info("Employee details {}", employee);
+        eventLog.id("getEmployeeById", id, start);
         return employee;
 
     }
 
+    /**
+     * Asks the upstream, and when it is down or rate limiting answers from the cached roster
+     * instead. The response is then marked stale. Not-found and other client errors are not
+     * covered.
+     */
+    private Employee getEmployeeOrCached(String id) {
+        try {
+            return employeeApis.getEmployeeById(id);
+        } catch (CustomException e) {
+            if (!e.getStatusCode().is5xxServerError()) {
+                throw e;
+            }
+            return cachedOrRethrow(id, e);
+        } catch (TooManyRequestException e) {
+            return cachedOrRethrow(id, e);
+        }
+    }
+
+    private Employee cachedOrRethrow(String id, RuntimeException failure) {
+        Employee cached = employeeCache.findCached(id).orElseThrow(() -> failure);
+        log.warn("Employee api unavailable ({}), answering employee {} from the cached roster", failure.getMessage(), id);
+        return cached;
+    }
+
     public List<Employee> getEmployeesByNameSearch(String name) {
-        List<Employee> employeesFoundByName = getAllEmployees().stream()
-                .filter(employee -> employee.getName().contains(name))
-                .collect(Collectors.toList());
+        long start = System.nanoTime();
+        List<Employee> employeesFoundByName = queryPushdown.isActive()
+                ? queryPushdown.search(name)
+                : getNonEmptySnapshot().getNameSearchIndex().search(name);
         if(employeesFoundByName.isEmpty()) {
             throw new CustomException(CustomError.EMPLOYEE_NOT_FOUND_BY_NAME, HttpStatus.NOT_FOUND);
         }
-        log.info("Employees with name {} are : {}", name, employeesFoundByName);
+        eventLog.size("getEmployeesByNameSearch", employeesFoundByName.size(), start);
         return employeesFoundByName;
     }
 
+    public List<String> getEmployeeNameSuggestions(String prefix, int limit) {
+        if (limit < 1) {
+            throw new ValidationException(CustomError.INVALID_LIMIT);
+        }
+        return getNonEmptySnapshot().getNameSearchIndex().autocomplete(prefix, limit);
+    }
+
     public int getHighestSalaryOfEmployees() {
-        int highestSalaryOfEmployees = getAllEmployees().stream()
-                .map(employee -> Integer.parseInt(employee.getSalary()))
-                .reduce(Integer::max)
-                .orElse(0);
-        log.info("The highest salary among employees is {}", highestSalaryOfEmployees);
+        long start = System.nanoTime();
+        int highestSalaryOfEmployees = queryPushdown.isActive()
+                ? queryPushdown.getHighestSalary().orElseThrow(
+                        () -> new CustomException(CustomError.NO_EMPLOYEES_FOUND, HttpStatus.NOT_FOUND))
+                : getNonEmptySnapshot().getSalaryIndex().getHighestSalary();
+        eventLog.value("getHighestSalaryOfEmployees", highestSalaryOfEmployees, start);
         return highestSalaryOfEmployees;
     }
 
     public List<Employee> getTopTenHighestEarningEmployeeNames() {
-        List<Employee> topTenHighestEarningEmployees = getAllEmployees().stream()
-                .sorted((e1, e2) -> Integer.parseInt(e2.getSalary()) - Integer.parseInt(e1.getSalary()))
-                .limit(10)
-                .collect(Collectors.toList());
+        long start = System.nanoTime();
+        List<Employee> topTenHighestEarningEmployees = getTopHighestEarningEmployees(10);
 
-        log.info("Top 10 highest earning employee names: {}", topTenHighestEarningEmployees);
+        eventLog.size("getTopTenHighestEarningEmployeeNames", topTenHighestEarningEmployees.size(), start);
         return topTenHighestEarningEmployees;
     }
 
+    public List<Employee> getTopHighestEarningEmployees(int limit) {
+        if (limit < 1) {
+            throw new ValidationException(CustomError.INVALID_LIMIT);
+        }
+        if (queryPushdown.isActive()) {
+            List<Employee> topEarning = queryPushdown.getTopEarning(limit);
+            if (topEarning.isEmpty()) {
+                throw new CustomException(CustomError.NO_EMPLOYEES_FOUND, HttpStatus.NOT_FOUND);
+            }
+            return topEarning;
+        }
+        return getNonEmptySnapshot().getSalaryIndex().getTopEarning(limit);
+    }
+
     public Employee submitEmployee(Object employeeObject){
+        long start = System.nanoTime();
         Map<String, Object> employeeMap = (Map<String, Object>) employeeObject;
-        log.info("Submit employee request {}", employeeMap);
 
         EmployeeRequest employeeRequest = validateEmployeeRequest(employeeMap);
 
 
         Employee employee = employeeApis.submitEmployee(employeeRequest);
-        log.info("Details of newly created employee {}", employee);
+        employeeCache.onEmployeeCreated(employee);
+        eventLog.id("submitEmployee", employee.getId(), start);
         return employee;
     }
 
     public DeleteEmployeeResponse deleteEmployeeById(String id){
-        log.info("Delete employee request with id {}", id);
         if(Objects.isNull(id)){
             throw new ValidationException(CustomError.NULL_EMPLOYEE_ID);
         }
-        return employeeApis.deleteEmployee(id);
+        long start = System.nanoTime();
+        DeleteEmployeeResponse response = employeeApis.deleteEmployee(id);
+        if (response.isData()) {
+            employeeCache.onEmployeeDeleted(id);
+        }
+        eventLog.id("deleteEmployeeById", id, start);
+        return response;
     }
 
     public EmployeeRequest validateEmployeeRequest(Map<String, Object> employeeInput) throws ValidationException {
@@ -137,4 +215,12 @@ public class EmployeeService {
                 .title((String) employeeInput.get("title"))
                 .build();
     }
+
+    private EmployeeSnapshot getNonEmptySnapshot() {
+        EmployeeSnapshot snapshot = employeeCache.getSnapshot();
+        if (snapshot.getEmployees().isEmpty()) {
+            throw new CustomException(CustomError.NO_EMPLOYEES_FOUND, HttpStatus.NOT_FOUND);
+        }
+        return snapshot;
+    }
 }
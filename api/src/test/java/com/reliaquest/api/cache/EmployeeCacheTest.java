@@ -0,0 +1,237 @@
+package com.reliaquest.api.cache;
+
+import com.reliaquest.api.exception.CustomError;
+import com.reliaquest.api.exception.TooManyRequestException;
+import com.reliaquest.api.external.EmployeeAPIs;
+import com.reliaquest.api.index.NameFolding;
+import com.reliaquest.api.models.Employee;
+import com.reliaquest.api.models.EmployeeChanges;
+import com.reliaquest.api.response.CacheStatsResponse;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class EmployeeCacheTest {
+
+    @Mock
+    private EmployeeAPIs employeeApis;
+
+    @Mock
+    private Clock clock;
+
+    private EmployeeCache employeeCache;
+
+    private Employee employee;
+    private Employee employee2;
+    private Instant now;
+
+    @BeforeEach
+    void setUp() {
+        now = Instant.parse("2024-01-01T00:00:00Z");
+        lenient().when(clock.instant()).thenAnswer(invocation -> now);
+        employeeCache = new EmployeeCache(employeeApis, Duration.ofSeconds(30), NameFolding.NONE, clock, Runnable::run);
+
+        employee = new Employee("1", "John Doe", 50000, 25, "Software Engineer", "john.doe@example.com");
+        employee2 = new Employee("2", "Jane Doe", 60000, 30, "Architect", "jane.doe@example.com");
+    }
+
+    @Test
+    void getEmployees_ShouldLoadOnceAndServeFromCache() {
+        when(employeeApis.getAllEmployees()).thenReturn(List.of(employee));
+
+        assertEquals(List.of(employee), employeeCache.getEmployees());
+        assertEquals(List.of(employee), employeeCache.getEmployees());
+
+        verify(employeeApis, times(1)).getAllEmployees();
+        CacheStatsResponse stats = employeeCache.getStats();
+        assertEquals(1, stats.getMisses());
+        assertEquals(1, stats.getHits());
+        assertEquals(1, stats.getSize());
+    }
+
+    @Test
+    void warmAsync_ShouldLoadColdCacheInBackground_AndLeaveLoadedCacheAlone() {
+        when(employeeApis.getAllEmployees()).thenReturn(List.of(employee));
+
+        employeeCache.warmAsync();
+        employeeCache.warmAsync();
+
+        assertTrue(employeeCache.isLoaded());
+        assertEquals(List.of(employee), employeeCache.getEmployees());
+        verify(employeeApis, times(1)).getAllEmployees();
+        assertEquals(0, employeeCache.getStats().getMisses());
+    }
+
+    @Test
+    void getEmployees_ShouldServeStaleSnapshotAndRevalidate_WhenTtlExpired() {
+        when(employeeApis.getAllEmployees()).thenReturn(List.of(employee), List.of(employee, employee2));
+        employeeCache.getEmployees();
+
+        now = now.plusSeconds(31);
+
+        assertEquals(List.of(employee), employeeCache.getEmployees());
+        assertEquals(List.of(employee, employee2), employeeCache.getEmployees());
+        assertEquals(1, employeeCache.getStats().getStaleHits());
+        assertEquals(2, employeeCache.getStats().getRefreshes());
+    }
+
+    @Test
+    void getSnapshot_ShouldMarkRequestStale_OnlyPastTtl() {
+        MockHttpServletRequest request = new MockHttpServletRequest();
+        RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(request));
+        try {
+            when(employeeApis.getAllEmployees()).thenReturn(List.of(employee));
+            employeeCache.getEmployees();
+            assertNull(request.getAttribute(StaleReads.AGE_ATTRIBUTE));
+
+            when(employeeApis.getAllEmployees()).thenThrow(new TooManyRequestException(
+                    CustomError.EMPLOYEE_API_RATE_LIMIT_EXCEEDED));
+            now = now.plusSeconds(45);
+            employeeCache.getEmployees();
+
+            assertEquals(Duration.ofSeconds(45), request.getAttribute(StaleReads.AGE_ATTRIBUTE));
+        } finally {
+            RequestContextHolder.resetRequestAttributes();
+        }
+    }
+
+    @Test
+    void findCached_ShouldLookUpCurrentSnapshotWithoutLoading() {
+        assertTrue(employeeCache.findCached("1").isEmpty());
+        verifyNoInteractions(employeeApis);
+
+        when(employeeApis.getAllEmployees()).thenReturn(List.of(employee, employee2));
+        employeeCache.getEmployees();
+
+        assertEquals(employee2, employeeCache.findCached("2").orElseThrow());
+        assertTrue(employeeCache.findCached("3").isEmpty());
+    }
+
+    @Test
+    void getEmployees_ShouldKeepStaleSnapshot_WhenRefreshFails() {
+        when(employeeApis.getAllEmployees())
+                .thenReturn(List.of(employee))
+                .thenThrow(new TooManyRequestException(CustomError.EMPLOYEE_API_RATE_LIMIT_EXCEEDED));
+        employeeCache.getEmployees();
+
+        now = now.plusSeconds(31);
+
+        assertEquals(List.of(employee), employeeCache.getEmployees());
+        assertEquals(1, employeeCache.getStats().getRefreshFailures());
+    }
+
+    @Test
+    void getEmployees_ShouldPropagateFailure_WhenCacheIsCold() {
+        when(employeeApis.getAllEmployees())
+                .thenThrow(new TooManyRequestException(CustomError.EMPLOYEE_API_RATE_LIMIT_EXCEEDED));
+
+        assertThrows(TooManyRequestException.class, () -> employeeCache.getEmployees());
+        assertEquals(-1, employeeCache.getStats().getAgeMillis());
+    }
+
+    @Test
+    void onEmployeeCreatedAndDeleted_ShouldUpdateSnapshot() {
+        when(employeeApis.getAllEmployees()).thenReturn(List.of(employee));
+        employeeCache.getEmployees();
+
+        employeeCache.onEmployeeCreated(employee2);
+        assertEquals(List.of(employee, employee2), employeeCache.getEmployees());
+
+        employeeCache.onEmployeeDeleted("1");
+        assertEquals(List.of(employee2), employeeCache.getEmployees());
+        verify(employeeApis, times(1)).getAllEmployees();
+    }
+
+    @Test
+    void refresh_ShouldKeepLocalChanges_MadeWhileFetchWasInFlight() {
+        Employee employee3 = new Employee("3", "Max Moe", 70000, 40, "Manager", "max.moe@example.com");
+        when(employeeApis.getAllEmployees()).thenReturn(List.of(employee, employee2)).thenAnswer(invocation -> {
+            employeeCache.onEmployeeCreated(employee3);
+            employeeCache.onEmployeeDeleted("2");
+            return List.of(employee, employee2);
+        });
+        employeeCache.getEmployees();
+
+        now = now.plusSeconds(31);
+        employeeCache.getEmployees();
+
+        assertEquals(List.of(employee, employee3), employeeCache.getEmployees());
+        assertEquals(0, employeeCache.getSnapshot().age(clock).toSeconds());
+    }
+
+    @Test
+    void incrementalSync_ShouldKeepLocalChanges_MadeWhileSyncWasInFlight() {
+        EmployeeCache syncing = new EmployeeCache(employeeApis, Duration.ofSeconds(30), NameFolding.NONE, clock,
+                Runnable::run, true);
+        Employee employee3 = new Employee("3", "Max Moe", 70000, 40, "Manager", "max.moe@example.com");
+        when(employeeApis.getChangesSince(0)).thenReturn(new EmployeeChanges(5, false, List.of(employee, employee2), List.of()));
+        when(employeeApis.getChangesSince(5)).thenAnswer(invocation -> {
+            syncing.onEmployeeCreated(employee3);
+            syncing.onEmployeeDeleted("1");
+            return new EmployeeChanges(6, false, List.of(employee3), List.of());
+        });
+        syncing.getEmployees();
+
+        now = now.plusSeconds(31);
+        syncing.getEmployees();
+
+        assertEquals(List.of(employee2, employee3), syncing.getEmployees());
+        assertEquals(6, syncing.getSnapshot().getVersion());
+    }
+
+    @Test
+    void scheduledRefresh_ShouldSkipColdCache() {
+        employeeCache.scheduledRefresh();
+
+        verifyNoInteractions(employeeApis);
+    }
+
+    @Test
+    void incrementalSync_ShouldApplyOnlyChangesSinceCachedVersion() {
+        EmployeeCache syncing = new EmployeeCache(employeeApis, Duration.ofSeconds(30), NameFolding.NONE, clock,
+                Runnable::run, true);
+        Employee employee3 = new Employee("3", "Max Moe", 70000, 40, "Manager", "max.moe@example.com");
+        when(employeeApis.getChangesSince(0)).thenReturn(new EmployeeChanges(5, false, List.of(employee, employee2), List.of()));
+        when(employeeApis.getChangesSince(5)).thenReturn(new EmployeeChanges(7, false, List.of(employee3), List.of("1")));
+        syncing.getEmployees();
+        syncing.onEmployeeCreated(employee3);
+
+        now = now.plusSeconds(31);
+        syncing.getEmployees();
+
+        EmployeeSnapshot synced = syncing.getSnapshot();
+        assertEquals(List.of(employee2, employee3), synced.getEmployees());
+        assertEquals(7, synced.getVersion());
+        assertEquals(0, synced.age(clock).toSeconds());
+        verify(employeeApis, never()).getAllEmployees();
+    }
+
+    @Test
+    void incrementalSync_ShouldReplaceSnapshot_WhenUpstreamResets() {
+        EmployeeCache syncing = new EmployeeCache(employeeApis, Duration.ofSeconds(30), NameFolding.NONE, clock,
+                Runnable::run, true);
+        when(employeeApis.getChangesSince(0)).thenReturn(new EmployeeChanges(5, false, List.of(employee), List.of()));
+        when(employeeApis.getChangesSince(5)).thenReturn(new EmployeeChanges(9, true, List.of(employee2), List.of()));
+        syncing.getEmployees();
+
+        now = now.plusSeconds(31);
+        syncing.getEmployees();
+
+        assertEquals(List.of(employee2), syncing.getEmployees());
+        assertEquals(9, syncing.getSnapshot().getVersion());
+    }
+}
@@ -0,0 +1,63 @@
+package com.reliaquest.api.config;
+
+import feign.Client;
+import feign.Request;
+import feign.hc5.ApacheHttp5Client;
+import feign.http2client.Http2Client;
+import org.apache.hc.client5.http.impl.classic.CloseableHttpClient;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.convert.ApplicationConversionService;
+import org.springframework.boot.test.context.runner.ApplicationContextRunner;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class FeignTransportConfigTest {
+
+    private final ApplicationContextRunner contextRunner = new ApplicationContextRunner()
+            // Boot's conversions, for the kebab-case transport names and the durations
+            .withInitializer(context -> context.getBeanFactory()
+                    .setConversionService(ApplicationConversionService.getSharedInstance()))
+            .withUserConfiguration(FeignTransportConfig.class);
+
+    @Test
+    void defaultTransport_ShouldBePooledApacheClient() {
+        contextRunner.run(context -> {
+            assertThat(context.getBean("employeeFeignClient")).isInstanceOf(ApacheHttp5Client.class);
+            assertThat(context).hasSingleBean(CloseableHttpClient.class);
+        });
+    }
+
+    @Test
+    void urlConnectionTransport_ShouldNotCreateThePool() {
+        contextRunner.withPropertyValues("employee.client.transport=url-connection").run(context -> {
+            assertThat(context.getBean("employeeFeignClient")).isExactlyInstanceOf(Client.Default.class);
+            assertThat(context.getBeanFactory().getSingleton("pooledHttpClient")).isNull();
+        });
+    }
+
+    @Test
+    void http2Transport_ShouldUseJdkClient() {
+        contextRunner.withPropertyValues("employee.client.transport=http2").run(context ->
+                assertThat(context.getBean("employeeFeignClient")).isInstanceOf(Http2Client.class));
+    }
+
+    @Test
+    void maxPerRoute_ShouldFollowMaxConnectionsOnVirtualThreads() {
+        assertThat(FeignTransportConfig.maxPerRoute(null, false, 200)).isEqualTo(50);
+        assertThat(FeignTransportConfig.maxPerRoute(null, true, 200)).isEqualTo(200);
+        assertThat(FeignTransportConfig.maxPerRoute(20, true, 200)).isEqualTo(20);
+    }
+
+    @Test
+    void requestOptions_ShouldCarryConfiguredTimeouts() {
+        contextRunner.withPropertyValues("employee.client.connect-timeout=500ms", "employee.client.request-timeout=3s")
+                .run(context -> {
+                    Request.Options options = context.getBean(Request.Options.class);
+                    assertThat(options.connectTimeout()).isEqualTo(500);
+                    assertThat(options.connectTimeoutUnit()).isEqualTo(TimeUnit.MILLISECONDS);
+                    assertThat(options.readTimeout()).isEqualTo(3000);
+                });
+    }
+}
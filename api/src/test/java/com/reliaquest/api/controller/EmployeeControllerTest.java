@@ -1,21 +1,35 @@
 package com.reliaquest.api.controller;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
 import com.reliaquest.api.models.Employee;
+import com.reliaquest.api.models.EmployeePage;
 import com.reliaquest.api.request.EmployeeRequest;
+import com.reliaquest.api.response.BatchItemResult;
+import com.reliaquest.api.response.BatchItemStatus;
+import com.reliaquest.api.response.BatchResponse;
 import com.reliaquest.api.response.DeleteEmployeeResponse;
+import com.reliaquest.api.service.EmployeeBatchService;
 import com.reliaquest.api.service.EmployeeService;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
 import java.util.Arrays;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.stream.Stream;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
@@ -26,6 +40,12 @@ class EmployeeControllerTest {
     @Mock
     private EmployeeService employeeService;
 
+    @Mock
+    private EmployeeBatchService employeeBatchService;
+
+    @Spy
+    private ObjectMapper objectMapper = new ObjectMapper().findAndRegisterModules();
+
     @InjectMocks
     private EmployeeController employeeController;
 
@@ -33,7 +53,7 @@ class EmployeeControllerTest {
 
     @BeforeEach
     void setUp() {
-        employee = new Employee("123", "Shivam Sapate","50000", "25", "shivamsapate@gmail.com", "Software Engineer");
+        employee = new Employee("123", "Shivam Sapate", 50000, 25, "shivamsapate@gmail.com", "Software Engineer");
     }
 
     @Test
@@ -44,6 +64,29 @@ class EmployeeControllerTest {
         assertFalse(Objects.requireNonNull(response.getBody()).isEmpty());
     }
 
+    @Test
+    void getEmployeePage_ShouldReturnPage() {
+        EmployeePage page = new EmployeePage(List.of(employee), "MQ");
+        when(employeeService.getEmployeePage(1, null)).thenReturn(page);
+        ResponseEntity<EmployeePage> response = employeeController.getEmployeePage(1, null);
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+        assertEquals(page, response.getBody());
+    }
+
+    @Test
+    void streamAllEmployees_ShouldWriteOneEmployeePerLine() throws IOException {
+        Employee other = new Employee("456", "Jane Roe", 60000, 30, "Architect", "jane@company.com");
+        when(employeeService.streamAllEmployees()).thenReturn(Stream.of(employee, other));
+        ResponseEntity<StreamingResponseBody> response = employeeController.streamAllEmployees();
+
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        Objects.requireNonNull(response.getBody()).writeTo(out);
+
+        String[] lines = out.toString(StandardCharsets.UTF_8).split("\n");
+        assertEquals(2, lines.length);
+        assertEquals("Jane Roe", objectMapper.readValue(lines[1], Employee.class).getName());
+    }
+
     @Test
     void getEmployeesByNameSearch_ShouldReturnMatchingEmployees() {
         when(employeeService.getEmployeesByNameSearch("Shivam")).thenReturn(List.of(employee));
@@ -52,6 +95,14 @@ class EmployeeControllerTest {
         assertEquals("Shivam Sapate", response.getBody().get(0).getName());
     }
 
+    @Test
+    void getEmployeeNameSuggestions_ShouldReturnNames() {
+        when(employeeService.getEmployeeNameSuggestions("Shi", 5)).thenReturn(List.of("Shivam Sapate"));
+        ResponseEntity<List<String>> response = employeeController.getEmployeeNameSuggestions("Shi", 5);
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+        assertEquals(List.of("Shivam Sapate"), response.getBody());
+    }
+
     @Test
     void getEmployeeById_ShouldReturnEmployee() {
         when(employeeService.getEmployeeById("123")).thenReturn(employee);
@@ -70,7 +121,7 @@ class EmployeeControllerTest {
 
     @Test
     void getTopTenHighestEarningEmployeeNames_ShouldReturnTopTenNames() {
-        Employee employee2 = new Employee("2", "John Doe", "5000", "25", "Software Engineer", "johndoe@gmail.com");
+        Employee employee2 = new Employee("2", "John Doe", 5000, 25, "Software Engineer", "johndoe@gmail.com");
 
         when(employeeService.getTopTenHighestEarningEmployeeNames()).thenReturn(Arrays.asList(employee,employee2));
         ResponseEntity<List<Employee>> response = employeeController.getTopTenHighestEarningEmployeeNames();
@@ -78,6 +129,14 @@ class EmployeeControllerTest {
         assertEquals(2, response.getBody().size());
     }
 
+    @Test
+    void getTopHighestEarningEmployees_ShouldReturnRequestedEmployees() {
+        when(employeeService.getTopHighestEarningEmployees(1)).thenReturn(List.of(employee));
+        ResponseEntity<List<Employee>> response = employeeController.getTopHighestEarningEmployees(1);
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+        assertEquals(List.of(employee), response.getBody());
+    }
+
     @Test
     void createEmployee_ShouldReturnCreatedEmployee() {
         when(employeeService.submitEmployee(any())).thenReturn(employee);
@@ -99,4 +158,28 @@ class EmployeeControllerTest {
     }
 
 
-}
\ No newline at end of file
+
+    @Test
+    void createEmployees_ShouldReturnCreatedWhenEveryItemSucceeded() {
+        BatchResponse batch = new BatchResponse(1, 1, 0,
+                List.of(new BatchItemResult(0, "123", BatchItemStatus.CREATED, employee, null, null)));
+        when(employeeBatchService.createEmployees(any())).thenReturn(CompletableFuture.completedFuture(batch));
+
+        ResponseEntity<BatchResponse> response = employeeController.createEmployees(List.of(Map.of())).join();
+
+        assertEquals(HttpStatus.CREATED, response.getStatusCode());
+        assertEquals(batch, response.getBody());
+    }
+
+    @Test
+    void deleteEmployees_ShouldReturnMultiStatusWhenSomeItemsFailed() {
+        BatchResponse batch = new BatchResponse(2, 1, 1, List.of(
+                new BatchItemResult(0, "123", BatchItemStatus.DELETED, employee, null, null),
+                new BatchItemResult(1, "456", BatchItemStatus.NOT_FOUND, null, "ERR-007", "not found")));
+        when(employeeBatchService.deleteEmployees(any())).thenReturn(CompletableFuture.completedFuture(batch));
+
+        ResponseEntity<BatchResponse> response = employeeController.deleteEmployees(List.of("123", "456")).join();
+
+        assertEquals(HttpStatus.MULTI_STATUS, response.getStatusCode());
+    }
+}
@@ -0,0 +1,62 @@
+package com.reliaquest.api.controller;
+
+import com.reliaquest.api.feignClient.EmployeeClient;
+import com.reliaquest.api.models.Employee;
+import com.reliaquest.api.response.GetEmployeeResponse;
+import feign.FeignException;
+import feign.Request;
+import feign.RequestTemplate;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.actuate.observability.AutoConfigureObservability;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.boot.test.web.client.TestRestTemplate;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.when;
+
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+@AutoConfigureObservability
+class PrometheusScrapeTest {
+
+    @Autowired
+    private TestRestTemplate restTemplate;
+
+    @MockBean
+    private EmployeeClient employeeClient;
+
+    @Test
+    void prometheus_ShouldExposeUpstreamEndpointAndCacheMeters() {
+        Employee employee = new Employee("1", "John Doe", 50000, 25, "Software Engineer", "john.doe@example.com");
+        when(employeeClient.getEmployeeById("1")).thenReturn(new GetEmployeeResponse("Successfully processed request.",
+                employee));
+        Request request = Request.create(Request.HttpMethod.GET, "/api/v1/employee/2", Map.of(), null,
+                new RequestTemplate());
+        when(employeeClient.getEmployeeById("2")).thenThrow(new FeignException.NotFound("Not Found", request, null,
+                null));
+
+        assertEquals(HttpStatus.OK, restTemplate.getForEntity("/api/v1/employee/1", String.class).getStatusCode());
+        assertEquals(HttpStatus.NOT_FOUND,
+                restTemplate.getForEntity("/api/v1/employee/2", String.class).getStatusCode());
+
+        ResponseEntity<String> scrape = restTemplate.getForEntity("/actuator/prometheus", String.class);
+
+        assertEquals(HttpStatus.OK, scrape.getStatusCode());
+        String body = scrape.getBody();
+        assertTrue(body.contains(upstreamCount("success") + " 1.0"), body);
+        assertTrue(body.contains(upstreamCount("not_found") + " 1.0"), body);
+        assertTrue(body.contains("http_server_requests_seconds_bucket{"), body);
+        assertTrue(body.contains("uri=\"/api/v1/employee/{id}\""), body);
+        assertTrue(body.contains("employee_cache_employees "), body);
+    }
+
+    private static String upstreamCount(String outcome) {
+        return "employee_upstream_requests_seconds_count{method=\"getEmployeeById\",outcome=\"" + outcome + "\",}";
+    }
+}
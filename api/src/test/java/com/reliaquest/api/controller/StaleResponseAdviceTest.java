@@ -0,0 +1,44 @@
+package com.reliaquest.api.controller;
+
+import com.reliaquest.api.cache.StaleReads;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.server.ServletServerHttpRequest;
+import org.springframework.http.server.ServletServerHttpResponse;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.time.Duration;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class StaleResponseAdviceTest {
+
+    private final StaleResponseAdvice advice = new StaleResponseAdvice();
+
+    @Test
+    void beforeBodyWrite_ShouldAddAgeAndWarning_WhenRequestMarkedStale() {
+        MockHttpServletRequest request = new MockHttpServletRequest();
+        request.setAttribute(StaleReads.AGE_ATTRIBUTE, Duration.ofSeconds(95));
+        ServletServerHttpResponse response = new ServletServerHttpResponse(new MockHttpServletResponse());
+
+        Object body = advice.beforeBodyWrite(List.of(), null, null, null, new ServletServerHttpRequest(request),
+                response);
+
+        assertEquals(List.of(), body);
+        assertEquals("95", response.getHeaders().getFirst(HttpHeaders.AGE));
+        assertEquals(StaleResponseAdvice.STALE_WARNING, response.getHeaders().getFirst(HttpHeaders.WARNING));
+    }
+
+    @Test
+    void beforeBodyWrite_ShouldLeaveHeadersAlone_WhenDataIsFresh() {
+        ServletServerHttpResponse response = new ServletServerHttpResponse(new MockHttpServletResponse());
+
+        advice.beforeBodyWrite(List.of(), null, null, null, new ServletServerHttpRequest(new MockHttpServletRequest()),
+                response);
+
+        assertFalse(response.getHeaders().containsKey(HttpHeaders.AGE));
+        assertFalse(response.getHeaders().containsKey(HttpHeaders.WARNING));
+    }
+}
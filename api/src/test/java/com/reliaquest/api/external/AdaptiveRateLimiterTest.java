@@ -0,0 +1,84 @@
+package com.reliaquest.api.external;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class AdaptiveRateLimiterTest {
+
+    private final AdaptiveRateLimiter rateLimiter =
+            new AdaptiveRateLimiter(Duration.ofMillis(200), Duration.ofSeconds(1));
+
+    @Test
+    void acquire_ShouldGrantFreely_WhenBudgetIsUnknown() {
+        for (int i = 0; i < 100; i++) {
+            assertTrue(rateLimiter.acquire(System.nanoTime()));
+            rateLimiter.onAccepted();
+        }
+        assertEquals(0, rateLimiter.getLearnedLimit());
+    }
+
+    @Test
+    void onRateLimited_ShouldLearnBudgetAndFailFast_WhenCooldownExceedsDeadline() {
+        acceptCalls(3);
+        assertTrue(rateLimiter.acquire(System.nanoTime()));
+        rateLimiter.onRateLimited();
+
+        assertEquals(3, rateLimiter.getLearnedLimit());
+        assertFalse(rateLimiter.acquire(System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(10)));
+        assertEquals(1, rateLimiter.getThrottledCount());
+    }
+
+    @Test
+    void acquire_ShouldWaitForCooldown_WhenItFitsTheDeadline() {
+        acceptCalls(2);
+        rateLimiter.onRateLimited();
+
+        long start = System.nanoTime();
+        assertTrue(rateLimiter.acquire(start + TimeUnit.SECONDS.toNanos(2)));
+        assertTrue(System.nanoTime() - start >= TimeUnit.MILLISECONDS.toNanos(100));
+    }
+
+    @Test
+    void acquire_ShouldPaceCalls_OnceBudgetIsLearned() {
+        acceptCalls(2);
+        rateLimiter.onRateLimited();
+        assertTrue(rateLimiter.acquire(System.nanoTime() + TimeUnit.SECONDS.toNanos(2)));
+        rateLimiter.onAccepted();
+        assertTrue(rateLimiter.acquire(System.nanoTime()));
+        rateLimiter.onAccepted();
+
+        assertFalse(rateLimiter.acquire(System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(10)));
+        assertEquals(1, rateLimiter.getRateLimitedCount());
+    }
+
+    @Test
+    void onRateLimited_ShouldGrowWindow_WhenRejectedRightAfterCooldown() {
+        acceptCalls(1);
+        rateLimiter.onRateLimited();
+        assertTrue(rateLimiter.acquire(System.nanoTime() + TimeUnit.SECONDS.toNanos(2)));
+        rateLimiter.onRateLimited();
+
+        assertEquals(Duration.ofMillis(300), rateLimiter.getWindow());
+    }
+
+    @Test
+    void tryAcquire_ShouldReportWaitInsteadOfBlocking() {
+        acceptCalls(2);
+        rateLimiter.onRateLimited();
+
+        long wait = rateLimiter.tryAcquire(System.nanoTime() + TimeUnit.SECONDS.toNanos(2));
+        assertTrue(wait > 0 && wait <= TimeUnit.MILLISECONDS.toNanos(200));
+        assertEquals(-1, rateLimiter.tryAcquire(System.nanoTime()));
+    }
+
+    private void acceptCalls(int count) {
+        for (int i = 0; i < count; i++) {
+            assertTrue(rateLimiter.acquire(System.nanoTime()));
+            rateLimiter.onAccepted();
+        }
+    }
+}
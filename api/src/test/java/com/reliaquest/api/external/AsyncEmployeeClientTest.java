@@ -0,0 +1,150 @@
+package com.reliaquest.api.external;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import com.reliaquest.api.exception.CustomException;
+import com.reliaquest.api.request.EmployeeRequest;
+import com.reliaquest.api.response.GetEmployeeResponse;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import feign.FeignException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.net.http.HttpClient;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.concurrent.CompletionException;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class AsyncEmployeeClientTest {
+
+    private static final String ETAG = "\"a-1\"";
+
+    private HttpServer upstream;
+    private AsyncEmployeeClient client;
+    private String lastRequest;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        upstream = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+        upstream.createContext("/api/v1/employee", this::handle);
+        upstream.start();
+        client = client("http://localhost:" + upstream.getAddress().getPort() + "/api/v1/employee");
+    }
+
+    @AfterEach
+    void tearDown() {
+        upstream.stop(0);
+    }
+
+    @Test
+    void getEmployeeById_ShouldParseResponse() {
+        GetEmployeeResponse response = client.getEmployeeById("1").join();
+
+        assertEquals("John Doe", response.getData().getName());
+        assertEquals(50000, response.getData().getSalary());
+        assertEquals("GET /api/v1/employee/1", lastRequest);
+    }
+
+    @Test
+    void getEmployeeById_ShouldReadSmile_WhenAskedFor() {
+        AsyncEmployeeClient smileClient = client("http://localhost:" + upstream.getAddress().getPort()
+                + "/api/v1/employee", WireFormat.SMILE);
+
+        GetEmployeeResponse response = smileClient.getEmployeeById("1").join();
+
+        assertEquals("John Doe", response.getData().getName());
+        assertEquals("Engineer", response.getData().getTitle());
+    }
+
+    @Test
+    void deleteEmployee_ShouldSendNameInBody() {
+        EmployeeRequest request = new EmployeeRequest();
+        request.setName("John Doe");
+
+        assertTrue(client.deleteEmployee(request).join().isData());
+        assertTrue(lastRequest.startsWith("DELETE /api/v1/employee {"));
+        assertTrue(lastRequest.contains("\"name\":\"John Doe\""));
+    }
+
+    @Test
+    void getEmployeeById_ShouldFailWithFeignException_OnErrorStatus() {
+        CompletionException ex = assertThrows(CompletionException.class, () -> client.getEmployeeById("429").join());
+        assertInstanceOf(FeignException.TooManyRequests.class, ex.getCause());
+    }
+
+    @Test
+    void getAllEmployees_ShouldFailWithCustomException_WhenUpstreamIsDown() {
+        upstream.stop(0);
+
+        CompletionException ex = assertThrows(CompletionException.class, () -> client.getAllEmployees(null).join());
+        assertInstanceOf(CustomException.class, ex.getCause());
+    }
+
+    @Test
+    void getAllEmployees_ShouldReportNotModified_WhenTagMatches() {
+        EmployeeListResult fresh = client.getAllEmployees(null).join();
+        assertEquals(ETAG, fresh.etag());
+        assertEquals(1, fresh.response().getData().size());
+
+        EmployeeListResult unchanged = client.getAllEmployees(ETAG).join();
+        assertTrue(unchanged.isNotModified());
+        assertEquals(ETAG, unchanged.etag());
+    }
+
+    private void handle(HttpExchange exchange) throws IOException {
+        String body = new String(exchange.getRequestBody().readAllBytes(), StandardCharsets.UTF_8);
+        lastRequest = (exchange.getRequestMethod() + " " + exchange.getRequestURI().getPath() + " " + body).trim();
+        if (exchange.getRequestMethod().equals("GET") && exchange.getRequestURI().getPath().equals("/api/v1/employee")) {
+            exchange.getResponseHeaders().add("ETag", ETAG);
+            if (ETAG.equals(exchange.getRequestHeaders().getFirst("If-None-Match"))) {
+                exchange.sendResponseHeaders(304, -1);
+                exchange.close();
+                return;
+            }
+            byte[] list = ("{\"status\":\"ok\",\"data\":[{\"id\":\"1\",\"employee_name\":\"John Doe\"}]}")
+                    .getBytes(StandardCharsets.UTF_8);
+            exchange.sendResponseHeaders(200, list.length);
+            try (OutputStream out = exchange.getResponseBody()) {
+                out.write(list);
+            }
+            return;
+        }
+        if (exchange.getRequestURI().getPath().endsWith("/429")) {
+            exchange.sendResponseHeaders(429, -1);
+            exchange.close();
+            return;
+        }
+        String json = exchange.getRequestMethod().equals("DELETE")
+                ? "{\"status\":\"ok\",\"data\":true}"
+                : "{\"status\":\"ok\",\"data\":{\"id\":\"1\",\"employee_name\":\"John Doe\",\"employee_salary\":50000,"
+                        + "\"employee_age\":25,\"employee_title\":\"Engineer\",\"employee_email\":\"john@company.com\"}}";
+        byte[] bytes = json.getBytes(StandardCharsets.UTF_8);
+        String accept = exchange.getRequestHeaders().getFirst("Accept");
+        if (accept != null && accept.startsWith(WireFormat.SMILE.getMediaType())) {
+            ObjectMapper smileMapper = new ObjectMapper(new SmileFactory());
+            bytes = smileMapper.writeValueAsBytes(new ObjectMapper().readTree(bytes));
+            exchange.getResponseHeaders().add("Content-Type", WireFormat.SMILE.getMediaType());
+        }
+        exchange.sendResponseHeaders(200, bytes.length);
+        try (OutputStream out = exchange.getResponseBody()) {
+            out.write(bytes);
+        }
+    }
+
+    private static AsyncEmployeeClient client(String baseUrl) {
+        return client(baseUrl, WireFormat.JSON);
+    }
+
+    private static AsyncEmployeeClient client(String baseUrl, WireFormat wireFormat) {
+        return new AsyncEmployeeClient(HttpClient.newHttpClient(),
+                new UpstreamCodec(new ObjectMapper().findAndRegisterModules(), wireFormat), baseUrl,
+                Duration.ofSeconds(5));
+    }
+}
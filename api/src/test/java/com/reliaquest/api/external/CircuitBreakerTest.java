@@ -0,0 +1,79 @@
+package com.reliaquest.api.external;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CircuitBreakerTest {
+
+    @Test
+    void onFailure_ShouldOpenCircuit_AfterThresholdConsecutiveFailures() {
+        CircuitBreaker circuitBreaker = new CircuitBreaker(3, Duration.ofMinutes(1));
+
+        fail(circuitBreaker, 2);
+        circuitBreaker.tryAcquire();
+        circuitBreaker.onSuccess();
+        fail(circuitBreaker, 2);
+        assertEquals(CircuitBreaker.State.CLOSED, circuitBreaker.getState());
+
+        fail(circuitBreaker, 1);
+
+        assertEquals(CircuitBreaker.State.OPEN, circuitBreaker.getState());
+        assertFalse(circuitBreaker.tryAcquire());
+        assertEquals(1, circuitBreaker.getOpenedCount());
+        assertEquals(1, circuitBreaker.getRejectedCount());
+    }
+
+    @Test
+    void tryAcquire_ShouldLetOneProbeThrough_AfterOpenDuration() throws InterruptedException {
+        CircuitBreaker circuitBreaker = new CircuitBreaker(1, Duration.ofMillis(20));
+        fail(circuitBreaker, 1);
+
+        Thread.sleep(30);
+
+        assertTrue(circuitBreaker.tryAcquire());
+        assertEquals(CircuitBreaker.State.HALF_OPEN, circuitBreaker.getState());
+        assertFalse(circuitBreaker.tryAcquire());
+
+        circuitBreaker.onSuccess();
+
+        assertEquals(CircuitBreaker.State.CLOSED, circuitBreaker.getState());
+        assertTrue(circuitBreaker.tryAcquire());
+    }
+
+    @Test
+    void onFailure_ShouldReopenCircuit_WhenProbeFails() throws InterruptedException {
+        CircuitBreaker circuitBreaker = new CircuitBreaker(1, Duration.ofMillis(20));
+        fail(circuitBreaker, 1);
+        Thread.sleep(30);
+
+        assertTrue(circuitBreaker.tryAcquire());
+        circuitBreaker.onFailure();
+
+        assertEquals(CircuitBreaker.State.OPEN, circuitBreaker.getState());
+        assertFalse(circuitBreaker.tryAcquire());
+        assertEquals(2, circuitBreaker.getOpenedCount());
+    }
+
+    @Test
+    void release_ShouldHandBackProbe_WithoutClosingCircuit() throws InterruptedException {
+        CircuitBreaker circuitBreaker = new CircuitBreaker(1, Duration.ofMillis(20));
+        fail(circuitBreaker, 1);
+        Thread.sleep(30);
+
+        assertTrue(circuitBreaker.tryAcquire());
+        circuitBreaker.release();
+
+        assertEquals(CircuitBreaker.State.HALF_OPEN, circuitBreaker.getState());
+        assertTrue(circuitBreaker.tryAcquire());
+    }
+
+    private static void fail(CircuitBreaker circuitBreaker, int times) {
+        for (int i = 0; i < times; i++) {
+            assertTrue(circuitBreaker.tryAcquire());
+            circuitBreaker.onFailure();
+        }
+    }
+}
@@ -1,31 +1,48 @@
 package com.reliaquest.api.external;
 
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
 import com.reliaquest.api.exception.CustomError;
 import com.reliaquest.api.exception.CustomException;
 import com.reliaquest.api.exception.TooManyRequestException;
 import com.reliaquest.api.feignClient.EmployeeClient;
 import com.reliaquest.api.models.Employee;
+import com.reliaquest.api.models.EmployeeChanges;
+import com.reliaquest.api.models.EmployeePage;
 import com.reliaquest.api.request.EmployeeRequest;
 import com.reliaquest.api.response.DeleteEmployeeResponse;
+import com.reliaquest.api.response.EmployeeChangesResponse;
+import com.reliaquest.api.response.EmployeePageResponse;
 import com.reliaquest.api.response.EmployeeResponse;
 import com.reliaquest.api.response.GetEmployeeResponse;
 import feign.FeignException;
 import feign.Request;
 import feign.RequestTemplate;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import feign.Response;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
-import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.stream.Stream;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
 
 @ExtendWith(MockitoExtension.class)
@@ -34,25 +51,31 @@ class EmployeeAPIsTest {
     @Mock
     private EmployeeClient employeeClient;
 
-    @InjectMocks
+    @Mock
+    private AsyncEmployeeClient asyncEmployeeClient;
+
+    private UpstreamCallExecutor upstreamCallExecutor;
+
     private EmployeeAPIs employeeAPIs;
 
     private Employee employee;
     private EmployeeRequest employeeRequest;
     private GetEmployeeResponse getEmployeeResponse;
-    private DeleteEmployeeResponse deleteEmployeeResponse;
     private Request request;
 
     @BeforeEach
     void setUp() {
-        employee = new Employee("1","John Doe","50000", "25", "Software Engineer","john.doe@example.com" );
+        upstreamCallExecutor = new UpstreamCallExecutor(1, Duration.ZERO, Duration.ZERO,
+                Duration.ZERO, Duration.ofSeconds(30), Duration.ofSeconds(90), 5, Duration.ofSeconds(10),
+                new UpstreamMetrics(new SimpleMeterRegistry()));
+        employeeAPIs = employeeAPIs(ClientMode.BLOCKING);
+
+        employee = new Employee("1", "John Doe", 50000, 25, "Software Engineer","john.doe@example.com" );
         employeeRequest = new EmployeeRequest("John Doe",50000, 25, "Software Engineer");
 
         getEmployeeResponse = new GetEmployeeResponse();
         getEmployeeResponse.setData(employee);
 
-        deleteEmployeeResponse = new DeleteEmployeeResponse();
-        deleteEmployeeResponse.setData(true);
 
         request = Request.create(Request.HttpMethod.GET, "/api/v1/employee",
                 Map.of(), null, new RequestTemplate());
@@ -60,7 +83,7 @@ class EmployeeAPIsTest {
 
     @Test
     void testGetAllEmployees_Success() {
-        when(employeeClient.getAllEmployees()).thenReturn(new EmployeeResponse("success",List.of(employee)));
+        when(employeeClient.getAllEmployees(null)).thenReturn(listResponse(200, "\"a-1\"", List.of(employee)));
 
         List<Employee> result = employeeAPIs.getAllEmployees();
 
@@ -69,10 +92,49 @@ class EmployeeAPIsTest {
         assertEquals("John Doe", result.get(0).getName());
     }
 
+    @Test
+    void getAllEmployees_ShouldReuseLastList_WhenUpstreamAnswersNotModified() {
+        when(employeeClient.getAllEmployees(null)).thenReturn(listResponse(200, "\"a-1\"", List.of(employee)));
+        when(employeeClient.getAllEmployees("\"a-1\"")).thenReturn(listResponse(304, "\"a-1\"", null));
+
+        List<Employee> first = employeeAPIs.getAllEmployees();
+
+        assertSame(first, employeeAPIs.getAllEmployees());
+    }
+
+    @Test
+    void getAllEmployees_ShouldSendNewTag_AfterListChanged() {
+        when(employeeClient.getAllEmployees(null)).thenReturn(listResponse(200, "\"a-1\"", List.of(employee)));
+        when(employeeClient.getAllEmployees("\"a-1\"")).thenReturn(listResponse(200, "\"a-2\"", List.of()));
+        when(employeeClient.getAllEmployees("\"a-2\"")).thenReturn(listResponse(304, "\"a-2\"", null));
+
+        employeeAPIs.getAllEmployees();
+
+        assertTrue(employeeAPIs.getAllEmployees().isEmpty());
+        assertTrue(employeeAPIs.getAllEmployees().isEmpty());
+    }
+
+    @Test
+    void getAllEmployees_ShouldReadSmileList() throws Exception {
+        byte[] smile = new ObjectMapper(new SmileFactory())
+                .writeValueAsBytes(new EmployeeResponse("success", List.of(employee)));
+        when(employeeClient.getAllEmployees(null)).thenReturn(Response.builder()
+                .status(200)
+                .request(request)
+                .headers(Map.of(HttpHeaders.CONTENT_TYPE, List.of(WireFormat.SMILE.getMediaType())))
+                .body(smile)
+                .build());
+
+        List<Employee> employees = employeeAPIs.getAllEmployees();
+
+        assertEquals(1, employees.size());
+        assertEquals(employee.getName(), employees.get(0).getName());
+    }
+
     @Test
     void getAllEmployees_ShouldThrowTooManyRequestException() {
         FeignException exception = new FeignException.TooManyRequests("Too Many", request, null, null);
-        when(employeeClient.getAllEmployees()).thenThrow(exception);
+        when(employeeClient.getAllEmployees(any())).thenThrow(exception);
 
         TooManyRequestException ex = assertThrows(TooManyRequestException.class, () -> employeeAPIs.getAllEmployees());
         assertEquals(CustomError.EMPLOYEE_API_RATE_LIMIT_EXCEEDED, ex.getError());
@@ -81,12 +143,45 @@ class EmployeeAPIsTest {
     @Test
     void getAllEmployees_ShouldThrowCustomException() {
         FeignException exception = new FeignException.BadRequest("Bad Request", request, null, null);
-        when(employeeClient.getAllEmployees()).thenThrow(exception);
+        when(employeeClient.getAllEmployees(any())).thenThrow(exception);
 
         CustomException ex = assertThrows(CustomException.class, () -> employeeAPIs.getAllEmployees());
         assertEquals(CustomError.REST_API_CALL_FAILURE, ex.getError());
     }
 
+    @Test
+    void getEmployeePage_ShouldReturnPageWithCursor() {
+        when(employeeClient.getEmployeePage(1, null))
+                .thenReturn(new EmployeePageResponse("success", new EmployeePage(List.of(employee), "MQ")));
+
+        EmployeePage page = employeeAPIs.getEmployeePage(1, null);
+
+        assertEquals(List.of(employee), page.getEmployees());
+        assertEquals("MQ", page.getNextCursor());
+    }
+
+    @Test
+    void streamEmployees_ShouldParseEachLine() {
+        String body = "{\"id\":\"1\",\"employee_name\":\"John Doe\",\"employee_salary\":50000,\"employee_age\":25}\n"
+                + "\n"
+                + "{\"id\":\"2\",\"employee_name\":\"Jane Roe\",\"employee_salary\":60000,\"employee_age\":30}\n";
+        when(employeeClient.streamEmployees()).thenReturn(streamResponse(200, body));
+
+        try (Stream<Employee> employees = employeeAPIs.streamEmployees()) {
+            List<Employee> result = employees.toList();
+            assertEquals(List.of("John Doe", "Jane Roe"), result.stream().map(Employee::getName).toList());
+            assertEquals(60000, result.get(1).getSalary());
+        }
+    }
+
+    @Test
+    void streamEmployees_ShouldThrowTooManyRequestException() {
+        when(employeeClient.streamEmployees()).thenReturn(streamResponse(429, ""));
+
+        TooManyRequestException ex = assertThrows(TooManyRequestException.class, () -> employeeAPIs.streamEmployees());
+        assertEquals(CustomError.EMPLOYEE_API_RATE_LIMIT_EXCEEDED, ex.getError());
+    }
+
     @Test
     void testGetEmployeeById_Success() {
         when(employeeClient.getEmployeeById(anyString())).thenReturn(getEmployeeResponse);
@@ -148,8 +243,7 @@ class EmployeeAPIsTest {
 
     @Test
     void testDeleteEmployee_Success() {
-        when(employeeClient.getEmployeeById(anyString())).thenReturn(getEmployeeResponse);
-        when(employeeClient.deleteEmployee(any(EmployeeRequest.class))).thenReturn(deleteEmployeeResponse);
+        when(employeeClient.deleteEmployees(List.of("123"))).thenReturn(new EmployeeResponse("success", List.of(employee)));
 
         DeleteEmployeeResponse result = employeeAPIs.deleteEmployee("123");
 
@@ -157,13 +251,52 @@ class EmployeeAPIsTest {
         assertTrue(result.isData());
     }
 
+    @Test
+    void deleteEmployee_ShouldDeleteByIdWithoutLookup() {
+        when(employeeClient.deleteEmployees(List.of("1"))).thenReturn(new EmployeeResponse("success", List.of(employee)));
+
+        assertTrue(employeeAPIs.deleteEmployee("1").isData());
+
+        verify(employeeClient, never()).getEmployeeById(anyString());
+        verify(employeeClient, never()).deleteEmployee(any(EmployeeRequest.class));
+    }
+
+    @Test
+    void deleteEmployee_ShouldReportNotFoundWhenUpstreamDeletedNobody() {
+        when(employeeClient.deleteEmployees(List.of("1"))).thenReturn(new EmployeeResponse("success", List.of()));
+
+        CustomException ex = assertThrows(CustomException.class, () -> employeeAPIs.deleteEmployee("1"));
+        assertEquals(CustomError.EMPLOYEE_NOT_FOUNT_BY_ID, ex.getError());
+        assertEquals(HttpStatus.NOT_FOUND, ex.getStatusCode());
+        verify(employeeClient, never()).deleteEmployee(any(EmployeeRequest.class));
+    }
+
+    @Test
+    void getChangesSince_ShouldReturnUpstreamChanges() {
+        when(employeeClient.getChanges(3)).thenReturn(new EmployeeChangesResponse("success",
+                new EmployeeChanges(4, false, List.of(employee), List.of("2"))));
+
+        EmployeeChanges changes = employeeAPIs.getChangesSince(3);
+
+        assertEquals(4, changes.getVersion());
+        assertEquals(List.of(employee), changes.getInserted());
+        assertEquals(List.of("2"), changes.getDeleted());
+    }
+
+    @Test
+    void getChangesSince_ShouldThrowTooManyRequestException() {
+        when(employeeClient.getChanges(3)).thenThrow(new FeignException.TooManyRequests("Too Many", request, null, null));
+
+        assertThrows(TooManyRequestException.class, () -> employeeAPIs.getChangesSince(3));
+    }
+
     @Test
     void testDeleteEmployee_ShouldThrowTooManyRequestException() {
         request = Request.create(Request.HttpMethod.GET, "/api/v1/employee",
                 Map.of(), null, new RequestTemplate());
 
         FeignException exception = new FeignException.TooManyRequests("Too Many", request, null, null);
-        when(employeeClient.getEmployeeById(anyString())).thenThrow(exception);
+        when(employeeClient.deleteEmployees(List.of("1"))).thenThrow(exception);
 
         TooManyRequestException ex = assertThrows(TooManyRequestException.class, () -> employeeAPIs.deleteEmployee("1"));
         assertEquals(CustomError.EMPLOYEE_API_RATE_LIMIT_EXCEEDED, ex.getError());
@@ -175,7 +308,7 @@ class EmployeeAPIsTest {
                 Map.of(), null, new RequestTemplate());
 
         FeignException exception = new FeignException.NotFound("Not found", request, null, null);
-        when(employeeClient.getEmployeeById(anyString())).thenThrow(exception);
+        when(employeeClient.deleteEmployees(List.of("1"))).thenThrow(exception);
 
         CustomException ex = assertThrows(CustomException.class, () -> employeeAPIs.deleteEmployee("1"));
         assertEquals(CustomError.EMPLOYEE_NOT_FOUNT_BY_ID, ex.getError());
@@ -188,10 +321,93 @@ class EmployeeAPIsTest {
                 Map.of(), null, new RequestTemplate());
 
         FeignException exception = new FeignException.InternalServerError("Internal Server Error", request, null, null);
-        when(employeeClient.getEmployeeById(anyString())).thenThrow(exception);
+        when(employeeClient.deleteEmployees(List.of("1"))).thenThrow(exception);
 
         CustomException ex = assertThrows(CustomException.class, () -> employeeAPIs.deleteEmployee("1"));
         assertEquals(CustomError.REST_API_CALL_FAILURE, ex.getError());
         assertEquals(HttpStatus.INTERNAL_SERVER_ERROR, ex.getStatusCode());
     }
-}
\ No newline at end of file
+
+    @Test
+    void getEmployeeByIdAsync_ShouldMapNotFound_InBlockingMode() {
+        when(employeeClient.getEmployeeById("1"))
+                .thenThrow(new FeignException.NotFound("Not Found", request, null, null));
+
+        CompletionException ex = assertThrows(CompletionException.class,
+                () -> employeeAPIs.getEmployeeByIdAsync("1").join());
+        CustomException cause = assertInstanceOf(CustomException.class, ex.getCause());
+        assertEquals(CustomError.EMPLOYEE_NOT_FOUNT_BY_ID, cause.getError());
+    }
+
+    @Test
+    void nonBlockingMode_ShouldRouteCallsThroughAsyncClient() {
+        EmployeeAPIs nonBlocking = employeeAPIs(ClientMode.NON_BLOCKING);
+        when(asyncEmployeeClient.getEmployeeById("1"))
+                .thenReturn(CompletableFuture.completedFuture(getEmployeeResponse));
+        when(asyncEmployeeClient.deleteEmployees(List.of("1")))
+                .thenReturn(CompletableFuture.completedFuture(new EmployeeResponse("success", List.of(employee))));
+
+        assertEquals("John Doe", nonBlocking.getEmployeeById("1").getName());
+        assertTrue(nonBlocking.deleteEmployee("1").isData());
+        verifyNoInteractions(employeeClient);
+    }
+
+    @Test
+    void nonBlockingMode_ShouldMapRateLimit() {
+        EmployeeAPIs nonBlocking = employeeAPIs(ClientMode.NON_BLOCKING);
+        when(asyncEmployeeClient.getAllEmployees(any())).thenReturn(CompletableFuture.failedFuture(
+                new FeignException.TooManyRequests("Too Many", request, null, null)));
+
+        assertThrows(TooManyRequestException.class, nonBlocking::getAllEmployees);
+    }
+
+    @Test
+    void submitEmployeesAsync_ShouldReturnCreatedEmployees() {
+        when(employeeClient.submitEmployees(List.of(employeeRequest)))
+                .thenReturn(new EmployeeResponse("success", List.of(employee)));
+
+        assertEquals(List.of(employee), employeeAPIs.submitEmployeesAsync(List.of(employeeRequest)).join());
+    }
+
+    @Test
+    void deleteEmployeesAsync_ShouldMapRateLimit_InNonBlockingMode() {
+        EmployeeAPIs nonBlocking = employeeAPIs(ClientMode.NON_BLOCKING);
+        when(asyncEmployeeClient.deleteEmployees(List.of("1"))).thenReturn(CompletableFuture.failedFuture(
+                new FeignException.TooManyRequests("Too Many", request, null, null)));
+
+        CompletionException ex = assertThrows(CompletionException.class,
+                () -> nonBlocking.deleteEmployeesAsync(List.of("1")).join());
+        assertInstanceOf(TooManyRequestException.class, ex.getCause());
+        verifyNoInteractions(employeeClient);
+    }
+
+    private EmployeeAPIs employeeAPIs(ClientMode clientMode) {
+        ObjectMapper objectMapper = new ObjectMapper().findAndRegisterModules();
+        return new EmployeeAPIs(employeeClient, upstreamCallExecutor, objectMapper, asyncEmployeeClient,
+                new UpstreamCodec(objectMapper, WireFormat.JSON), clientMode);
+    }
+
+    private Response listResponse(int status, String etag, List<Employee> employees) {
+        try {
+            Response.Builder builder = Response.builder()
+                    .status(status)
+                    .request(request)
+                    .headers(Map.of(HttpHeaders.ETAG, List.of(etag)));
+            if (employees != null) {
+                builder.body(new ObjectMapper().writeValueAsBytes(new EmployeeResponse("success", employees)));
+            }
+            return builder.build();
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private Response streamResponse(int status, String body) {
+        return Response.builder()
+                .status(status)
+                .request(request)
+                .headers(Map.of())
+                .body(body, StandardCharsets.UTF_8)
+                .build();
+    }
+}
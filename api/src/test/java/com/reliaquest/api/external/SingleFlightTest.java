@@ -0,0 +1,128 @@
+package com.reliaquest.api.external;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SingleFlightTest {
+
+    private static final int CALLERS = 16;
+
+    private final SingleFlight<String, String> singleFlight = new SingleFlight<>();
+    private final ExecutorService executor = Executors.newFixedThreadPool(CALLERS);
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    void executeAsync_ShouldShareOneCallUntilItCompletes() {
+        SingleFlight<String, String> flight = new SingleFlight<>();
+        CompletableFuture<String> upstream = new CompletableFuture<>();
+        AtomicInteger invocations = new AtomicInteger();
+
+        CompletableFuture<String> first = flight.executeAsync("all", () -> {
+            invocations.incrementAndGet();
+            return upstream;
+        });
+        CompletableFuture<String> second = flight.executeAsync("all", () -> {
+            invocations.incrementAndGet();
+            return CompletableFuture.completedFuture("other");
+        });
+        second.cancel(false);
+        upstream.complete("employees");
+
+        assertEquals("employees", first.join());
+        assertEquals(1, invocations.get());
+        assertEquals(1, flight.getCoalescedCount());
+        assertEquals(0, flight.getInFlightCount());
+    }
+
+    @Test
+    void execute_ShouldShareOneCallBetweenConcurrentCallers() throws Exception {
+        AtomicInteger invocations = new AtomicInteger();
+        CountDownLatch release = new CountDownLatch(1);
+
+        List<Future<String>> results = submitCallers(() -> {
+            invocations.incrementAndGet();
+            await(release);
+            return "employees";
+        });
+        awaitCoalesced(CALLERS - 1);
+        release.countDown();
+
+        for (Future<String> result : results) {
+            assertEquals("employees", result.get(5, TimeUnit.SECONDS));
+        }
+        assertEquals(1, invocations.get());
+        assertEquals(1, singleFlight.getIssuedCount());
+        assertEquals(CALLERS - 1, singleFlight.getCoalescedCount());
+        assertEquals(0, singleFlight.getInFlightCount());
+    }
+
+    @Test
+    void execute_ShouldShareFailureBetweenConcurrentCallers() throws Exception {
+        IllegalStateException failure = new IllegalStateException("upstream down");
+        CountDownLatch release = new CountDownLatch(1);
+
+        List<Future<String>> results = submitCallers(() -> {
+            await(release);
+            throw failure;
+        });
+        awaitCoalesced(CALLERS - 1);
+        release.countDown();
+
+        for (Future<String> result : results) {
+            ExecutionException ex = assertThrows(ExecutionException.class, () -> result.get(5, TimeUnit.SECONDS));
+            assertSame(failure, ex.getCause());
+        }
+        assertEquals(1, singleFlight.getIssuedCount());
+    }
+
+    @Test
+    void execute_ShouldNotCoalesceDifferentKeysOrSequentialCalls() {
+        assertEquals("1", singleFlight.execute("1", () -> "1"));
+        assertEquals("2", singleFlight.execute("2", () -> "2"));
+        assertEquals("1", singleFlight.execute("1", () -> "1"));
+
+        assertEquals(3, singleFlight.getIssuedCount());
+        assertEquals(0, singleFlight.getCoalescedCount());
+    }
+
+    private List<Future<String>> submitCallers(Supplier<String> call) {
+        List<Future<String>> results = new ArrayList<>();
+        for (int i = 0; i < CALLERS; i++) {
+            results.add(executor.submit(() -> singleFlight.execute("all", call)));
+        }
+        return results;
+    }
+
+    private void awaitCoalesced(int expected) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (singleFlight.getCoalescedCount() < expected && System.nanoTime() < deadline) {
+            Thread.sleep(5);
+        }
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
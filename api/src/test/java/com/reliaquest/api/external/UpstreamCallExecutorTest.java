@@ -0,0 +1,197 @@
+package com.reliaquest.api.external;
+
+import com.reliaquest.api.exception.CustomError;
+import com.reliaquest.api.exception.CustomException;
+import com.reliaquest.api.exception.TooManyRequestException;
+import feign.FeignException;
+import feign.Request;
+import feign.RequestTemplate;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class UpstreamCallExecutorTest {
+
+    private static final String METHOD = "getEmployeeById";
+
+    private SimpleMeterRegistry meterRegistry;
+    private FeignException.TooManyRequests tooManyRequests;
+    private FeignException.NotFound notFound;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        Request request = Request.create(Request.HttpMethod.GET, "/api/v1/employee",
+                Map.of(), null, new RequestTemplate());
+        tooManyRequests = new FeignException.TooManyRequests("Too Many", request, null, null);
+        notFound = new FeignException.NotFound("Not Found", request, null, null);
+    }
+
+    @Test
+    void execute_ShouldRetryRateLimitedCall_WithinDeadline() {
+        UpstreamCallExecutor executor = executor(3, Duration.ofSeconds(1), Duration.ofMillis(20));
+        AtomicInteger attempts = new AtomicInteger();
+
+        String result = executor.execute(METHOD, () -> {
+            if (attempts.incrementAndGet() == 1) {
+                throw tooManyRequests;
+            }
+            return "ok";
+        });
+
+        assertEquals("ok", result);
+        assertEquals(2, attempts.get());
+        assertEquals(1, executor.getStats().getRetries());
+        assertEquals(1, executor.getStats().getRateLimited());
+    }
+
+    @Test
+    void execute_ShouldRetryOnceLimiterReopens_WhenCooldownFitsDeadline() {
+        UpstreamCallExecutor executor = executor(3, Duration.ofSeconds(2), Duration.ofMillis(300));
+        executor.execute(METHOD, () -> "accepted");
+        long acceptedAt = System.nanoTime();
+        AtomicInteger attempts = new AtomicInteger();
+
+        String result = executor.execute(METHOD, () -> {
+            if (attempts.incrementAndGet() == 1) {
+                throw tooManyRequests;
+            }
+            return "ok";
+        });
+
+        assertEquals("ok", result);
+        assertTrue(System.nanoTime() - acceptedAt >= Duration.ofMillis(300).toNanos());
+        assertEquals(1, executor.getStats().getRetries());
+        assertEquals(0, executor.getStats().getThrottled());
+    }
+
+    @Test
+    void execute_ShouldRethrowRateLimit_AfterMaxAttempts() {
+        UpstreamCallExecutor executor = executor(2, Duration.ofSeconds(1), Duration.ofMillis(20));
+        AtomicInteger attempts = new AtomicInteger();
+
+        assertThrows(FeignException.TooManyRequests.class, () -> executor.execute(METHOD, () -> {
+            attempts.incrementAndGet();
+            throw tooManyRequests;
+        }));
+        assertEquals(2, attempts.get());
+    }
+
+    @Test
+    void execute_ShouldFailFast_WhenUpstreamStaysClosedPastDeadline() {
+        UpstreamCallExecutor executor = executor(3, Duration.ofMillis(50), Duration.ofSeconds(30));
+        executor.execute(METHOD, () -> "accepted");
+        assertThrows(TooManyRequestException.class, () -> executor.execute(METHOD, () -> {
+            throw tooManyRequests;
+        }));
+
+        AtomicInteger attempts = new AtomicInteger();
+        assertThrows(TooManyRequestException.class, () -> executor.execute(METHOD, attempts::incrementAndGet));
+        assertEquals(0, attempts.get());
+        assertEquals(1, executor.getStats().getLearnedLimit());
+        assertEquals(0, executor.getStats().getRetries());
+    }
+
+    @Test
+    void executeAsync_ShouldRetryRateLimitedCall_WithinDeadline() {
+        UpstreamCallExecutor executor = executor(3, Duration.ofSeconds(1), Duration.ofMillis(20));
+        AtomicInteger attempts = new AtomicInteger();
+
+        String result = executor.<String>executeAsync(METHOD, () -> attempts.incrementAndGet() == 1
+                ? CompletableFuture.failedFuture(tooManyRequests)
+                : CompletableFuture.completedFuture("ok")).join();
+
+        assertEquals("ok", result);
+        assertEquals(2, attempts.get());
+        assertEquals(1, executor.getStats().getRetries());
+    }
+
+    @Test
+    void executeAsync_ShouldFailFast_WhenUpstreamStaysClosedPastDeadline() {
+        UpstreamCallExecutor executor = executor(3, Duration.ofMillis(50), Duration.ofSeconds(30));
+        executor.execute(METHOD, () -> "accepted");
+        assertThrows(TooManyRequestException.class, () -> executor.execute(METHOD, () -> {
+            throw tooManyRequests;
+        }));
+
+        AtomicInteger attempts = new AtomicInteger();
+        CompletionException failure = assertThrows(CompletionException.class, () -> executor.executeAsync(METHOD,
+                () -> CompletableFuture.completedFuture(attempts.incrementAndGet())).join());
+        assertInstanceOf(TooManyRequestException.class, failure.getCause());
+        assertEquals(0, attempts.get());
+    }
+
+    @Test
+    void execute_ShouldTimeEachAttempt_ByMethodAndOutcome() {
+        UpstreamCallExecutor executor = executor(3, Duration.ofSeconds(1), Duration.ofMillis(20));
+        AtomicInteger attempts = new AtomicInteger();
+
+        executor.execute(METHOD, () -> {
+            if (attempts.incrementAndGet() == 1) {
+                throw tooManyRequests;
+            }
+            return "ok";
+        });
+
+        assertEquals(1, requests(UpstreamMetrics.TOO_MANY_REQUESTS));
+        assertEquals(1, requests(UpstreamMetrics.SUCCESS));
+    }
+
+    @Test
+    void executeAsync_ShouldTimeFailedAttempt_AsNotFound() {
+        UpstreamCallExecutor executor = executor(3, Duration.ofSeconds(1), Duration.ofMillis(20));
+
+        CompletionException failure = assertThrows(CompletionException.class, () -> executor.executeAsync(METHOD,
+                () -> CompletableFuture.failedFuture(notFound)).join());
+
+        assertSame(notFound, failure.getCause());
+        assertEquals(1, requests(UpstreamMetrics.NOT_FOUND));
+    }
+
+    @Test
+    void execute_ShouldFailFastWithoutCallingUpstream_WhenCircuitOpen() {
+        UpstreamCallExecutor executor = new UpstreamCallExecutor(1, Duration.ofSeconds(1), Duration.ofMillis(5),
+                Duration.ofMillis(20), Duration.ofSeconds(30), Duration.ofSeconds(90), 2, Duration.ofMinutes(1),
+                new UpstreamMetrics(meterRegistry));
+        FeignException serverError = new FeignException.ServiceUnavailable("Down", notFound.request(), null, null);
+        AtomicInteger attempts = new AtomicInteger();
+        for (int i = 0; i < 2; i++) {
+            assertThrows(FeignException.class, () -> executor.execute(METHOD, () -> {
+                attempts.incrementAndGet();
+                throw serverError;
+            }));
+        }
+
+        CustomException open = assertThrows(CustomException.class,
+                () -> executor.execute(METHOD, attempts::incrementAndGet));
+        CompletionException openAsync = assertThrows(CompletionException.class, () -> executor.executeAsync(METHOD,
+                () -> CompletableFuture.completedFuture(attempts.incrementAndGet())).join());
+
+        assertEquals(HttpStatus.SERVICE_UNAVAILABLE, open.getStatusCode());
+        assertEquals(CustomError.EMPLOYEE_API_UNAVAILABLE, open.getError());
+        assertInstanceOf(CustomException.class, openAsync.getCause());
+        assertEquals(2, attempts.get());
+        assertEquals("OPEN", executor.getCircuitBreakerStats().get(METHOD).getState());
+        assertEquals("ok", executor.execute("getChanges", () -> "ok"));
+    }
+
+    private long requests(String outcome) {
+        Timer timer = meterRegistry.find(UpstreamMetrics.REQUESTS).tags("method", METHOD, "outcome", outcome).timer();
+        return timer == null ? 0 : timer.count();
+    }
+
+    private UpstreamCallExecutor executor(int maxAttempts, Duration queueTimeout, Duration window) {
+        return new UpstreamCallExecutor(maxAttempts, queueTimeout, Duration.ofMillis(5), Duration.ofMillis(20),
+                window, window.multipliedBy(3), 5, Duration.ofSeconds(10), new UpstreamMetrics(meterRegistry));
+    }
+}
@@ -0,0 +1,65 @@
+package com.reliaquest.api.index;
+
+import com.reliaquest.api.models.Employee;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class EmployeeColumnsTest {
+
+    private final Employee jill = new Employee(UUID.randomUUID().toString(), "Jill Jenkins", 90000, 45, "Manager",
+            "jill@company.com");
+    private final Employee zoe = new Employee(UUID.randomUUID().toString(), "Zoë Ångström", 70000, 30, "Engineer",
+            "zoe@company.com");
+    private final Employee legacy = new Employee("42", "Bill Bob", 50000, 25, "Engineer", "bill@company.com");
+    private final Employee upperCase = new Employee(UUID.randomUUID().toString().toUpperCase(), null, 1, 16, null,
+            null);
+
+    private final EmployeeColumns columns = EmployeeColumns.of(List.of(jill, zoe, legacy, upperCase));
+
+    @Test
+    void get_ShouldRebuildEveryEmployeeInOrder() {
+        assertEquals(4, columns.size());
+        assertEquals(jill, columns.get(0));
+        assertEquals(zoe, columns.get(1));
+        assertEquals(legacy, columns.get(2));
+        assertEquals(upperCase, columns.get(3));
+    }
+
+    @Test
+    void of_ShouldEncodeTitlesOnceAndKeepPrimitives() {
+        assertEquals(70000, columns.salary(1));
+        assertEquals(25, columns.age(2));
+        assertEquals("Engineer", columns.title(2));
+        assertNull(columns.title(3));
+    }
+
+    @Test
+    void indexOf_ShouldFindPackedAndIrregularIds() {
+        assertEquals(1, columns.indexOf(zoe.getId()));
+        assertEquals(2, columns.indexOf("42"));
+        assertEquals(3, columns.indexOf(upperCase.getId()));
+        assertEquals(-1, columns.indexOf(upperCase.getId().toLowerCase()));
+        assertEquals(-1, columns.indexOf(UUID.randomUUID().toString()));
+        assertEquals(-1, columns.indexOf(null));
+    }
+
+    @Test
+    void indexOf_ShouldFindEveryRowOfALargeRosterAndTheFirstOfDuplicates() {
+        List<Employee> employees = new ArrayList<>();
+        for (int i = 0; i < 5000; i++) {
+            employees.add(new Employee(UUID.randomUUID().toString(), "Employee " + i, i, 30, "Engineer", null));
+        }
+        employees.add(employees.get(17));
+        EmployeeColumns large = EmployeeColumns.of(employees);
+
+        for (int row = 0; row < 5000; row++) {
+            assertEquals(row, large.indexOf(employees.get(row).getId()));
+        }
+        assertEquals(-1, large.indexOf(UUID.randomUUID().toString()));
+    }
+}
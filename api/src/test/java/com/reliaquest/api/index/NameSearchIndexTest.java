@@ -0,0 +1,66 @@
+package com.reliaquest.api.index;
+
+import com.reliaquest.api.models.Employee;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class NameSearchIndexTest {
+
+    private final Employee annaKarenina = employee("1", "Anna Karenina");
+    private final Employee johnAnderson = employee("2", "John Anderson");
+    private final Employee hannah = employee("3", "Hannah Moss");
+    private final Employee renee = employee("4", "Renée Ånström");
+    private final Employee annabel = employee("5", "Annabel Lee");
+
+    private final List<Employee> roster = List.of(annaKarenina, johnAnderson, hannah, renee, annabel);
+
+    @Test
+    void search_ShouldMatchSubstringsCaseSensitively_ByDefault() {
+        NameSearchIndex index = NameSearchIndex.of(roster, NameFolding.NONE);
+
+        assertEquals(List.of(annaKarenina, annabel), index.search("Anna"));
+        assertEquals(List.of(hannah), index.search("anna"));
+        assertTrue(index.search("xyz").isEmpty());
+    }
+
+    @Test
+    void search_ShouldRankNameStartThenWordStartThenInsideWord() {
+        NameSearchIndex index = NameSearchIndex.of(roster, new NameFolding(true, false));
+
+        assertEquals(List.of(annaKarenina, annabel, hannah), index.search("anna"));
+        assertEquals(List.of(annaKarenina, annabel, johnAnderson, hannah), index.search("an"));
+    }
+
+    @Test
+    void search_ShouldVerifyCandidatesSharingAllTrigrams() {
+        NameSearchIndex index = NameSearchIndex.of(List.of(employee("1", "abcd bcde")), NameFolding.NONE);
+
+        assertTrue(index.search("abcde").isEmpty());
+        assertEquals(1, index.search("bcde").size());
+    }
+
+    @Test
+    void search_ShouldIgnoreAccents_WhenAccentFoldingEnabled() {
+        NameSearchIndex index = NameSearchIndex.of(roster, new NameFolding(true, true));
+
+        assertEquals(List.of(renee), index.search("renee anstrom"));
+        assertTrue(NameSearchIndex.of(roster, NameFolding.NONE).search("Renee").isEmpty());
+    }
+
+    @Test
+    void autocomplete_ShouldReturnDistinctNamesWithMatchingWordPrefix() {
+        NameSearchIndex index = NameSearchIndex.of(roster, new NameFolding(true, false));
+
+        assertEquals(List.of("John Anderson", "Anna Karenina", "Annabel Lee"), index.autocomplete("an", 10));
+        assertEquals(List.of("John Anderson"), index.autocomplete("an", 1));
+        assertEquals(List.of("Hannah Moss"), index.autocomplete("hannah m", 10));
+        assertTrue(index.autocomplete("zz", 10).isEmpty());
+    }
+
+    private static Employee employee(String id, String name) {
+        return new Employee(id, name, 50000, 30, "Engineer", id + "@company.com");
+    }
+}
@@ -0,0 +1,52 @@
+package com.reliaquest.api.index;
+
+import com.reliaquest.api.models.Employee;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SalaryIndexTest {
+
+    private final Employee low = employee("1", 5000);
+    private final Employee high = employee("2", 2000000000);
+    private final Employee tiedFirst = employee("3", 70000);
+    private final Employee tiedSecond = employee("4", 70000);
+
+    @Test
+    void of_ShouldOrderBySalaryDescendingAndKeepTiesInSourceOrder() {
+        SalaryIndex index = SalaryIndex.of(List.of(low, tiedFirst, high, tiedSecond));
+
+        assertEquals(2000000000, index.getHighestSalary());
+        assertEquals(List.of(high, tiedFirst, tiedSecond, low), index.getTopEarning(10));
+    }
+
+    @Test
+    void getTopEarning_ShouldReturnOnlyRequestedNumberOfEmployees() {
+        SalaryIndex index = SalaryIndex.of(List.of(low, tiedFirst, high, tiedSecond));
+
+        assertEquals(List.of(high, tiedFirst), index.getTopEarning(2));
+        assertEquals(4, index.size());
+    }
+
+    @Test
+    void getTopEarning_ShouldReturnTheSourceEmployees() {
+        List<Employee> employees = List.of(low, tiedFirst, high, tiedSecond);
+        SalaryIndex index = SalaryIndex.of(employees, EmployeeColumns.of(employees));
+
+        assertSame(high, index.getTopEarning(1).get(0));
+    }
+
+    @Test
+    void of_ShouldHandleEmptyList() {
+        SalaryIndex index = SalaryIndex.of(List.of());
+
+        assertEquals(0, index.getHighestSalary());
+        assertTrue(index.getTopEarning(10).isEmpty());
+    }
+
+    private static Employee employee(String id, int salary) {
+        return new Employee(id, "Employee " + id, salary, 30, "Engineer", id + "@company.com");
+    }
+}
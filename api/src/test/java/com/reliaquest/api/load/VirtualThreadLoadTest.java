@@ -0,0 +1,189 @@
+package com.reliaquest.api.load;
+
+import com.reliaquest.api.ApiApplication;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.web.servlet.context.ServletWebServerApplicationContext;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+/**
+ * Boots the api against a stub upstream and counts how many {@code GET /api/v1/employee/{id}} calls
+ * can wait on it at once. The stub holds every call for {@value #HOLD_MILLIS} ms while
+ * {@value #CONCURRENCY} requests are outstanding. With platform threads the Tomcat pool caps the
+ * calls in flight at {@value #PLATFORM_THREADS}; with virtual threads they pile up to the upstream
+ * connection pool's limit.
+ *
+ * <p>Throughput against a stub answering after {@value #UPSTREAM_LATENCY_MILLIS} ms is only logged.
+ * The client, the api and the stub share one JVM, and on a small machine the CPU spent per request,
+ * not the thread model, sets the rate.
+ *
+ * <p>Tagged {@code load} and run with {@code ./gradlew api:loadTest}; the virtual-thread half needs
+ * Java 21.
+ */
+@Tag("load")
+class VirtualThreadLoadTest {
+
+    private static final Logger log = LoggerFactory.getLogger(VirtualThreadLoadTest.class);
+
+    private static final long UPSTREAM_LATENCY_MILLIS = 200;
+    private static final int PLATFORM_THREADS = 50;
+    private static final int CONCURRENCY = 400;
+    private static final int WARMUP_REQUESTS = 200;
+    private static final int REQUESTS = 1000;
+    private static final long HOLD_MILLIS = 3000;
+
+    private static final AtomicInteger upstreamInFlight = new AtomicInteger();
+    private static final AtomicInteger maxUpstreamInFlight = new AtomicInteger();
+    private static volatile CountDownLatch upstreamGate;
+
+    private static HttpServer upstream;
+    private static ExecutorService upstreamExecutor;
+
+    @BeforeAll
+    static void startUpstream() throws IOException {
+        upstreamExecutor = Executors.newCachedThreadPool();
+        upstream = HttpServer.create(new InetSocketAddress("localhost", 0), 1024);
+        upstream.setExecutor(upstreamExecutor);
+        upstream.createContext("/api/v1/employee/", VirtualThreadLoadTest::slowEmployee);
+        upstream.start();
+    }
+
+    @AfterAll
+    static void stopUpstream() {
+        upstream.stop(0);
+        upstreamExecutor.shutdownNow();
+    }
+
+    @Test
+    void virtualThreads_ShouldLetMoreCallsWaitOnASlowUpstream() throws Exception {
+        int platform = measureCallsInFlight(false);
+        log.info("platform threads (max {}): {} calls in flight", PLATFORM_THREADS, platform);
+        assertTrue(platform <= PLATFORM_THREADS,
+                "expected the Tomcat pool to cap the calls in flight, got " + platform);
+
+        assumeTrue(Runtime.version().feature() >= 21,
+                "virtual threads need Java 21; platform threads held " + platform + " calls in flight");
+        int virtual = measureCallsInFlight(true);
+        log.info("virtual threads: {} calls in flight", virtual);
+
+        assertTrue(virtual > PLATFORM_THREADS * 2,
+                "expected virtual threads to at least double the calls in flight, got " + virtual + " vs " + platform);
+    }
+
+    private static int measureCallsInFlight(boolean virtualThreads) throws Exception {
+        try (var context = (ServletWebServerApplicationContext) new SpringApplicationBuilder(ApiApplication.class)
+                .run("--server.port=0",
+                        "--spring.threads.virtual.enabled=" + virtualThreads,
+                        "--server.tomcat.threads.max=" + PLATFORM_THREADS,
+                        "--employee.upstream.url=http://localhost:" + upstream.getAddress().getPort()
+                                + "/api/v1/employee",
+                        "--logging.level.com.reliaquest=WARN",
+                        "--logging.level.com.reliaquest.api.load=INFO")) {
+            int port = context.getWebServer().getPort();
+            HttpClient client = HttpClient.newBuilder().version(HttpClient.Version.HTTP_1_1).build();
+            fire(client, port, 0, WARMUP_REQUESTS);
+            long start = System.nanoTime();
+            fire(client, port, WARMUP_REQUESTS, REQUESTS);
+            log.info("{} threads: {} req/s", virtualThreads ? "virtual" : "platform",
+                    Math.round(REQUESTS / ((System.nanoTime() - start) / 1e9)));
+            return holdCalls(client, port, WARMUP_REQUESTS + REQUESTS);
+        }
+    }
+
+    /**
+     * Sends {@value #CONCURRENCY} requests while the stub holds every call, and returns the most
+     * calls the stub saw at once before it lets them all through.
+     */
+    private static int holdCalls(HttpClient client, int port, int firstId) throws InterruptedException {
+        CountDownLatch gate = new CountDownLatch(1);
+        maxUpstreamInFlight.set(0);
+        upstreamGate = gate;
+        List<CompletableFuture<HttpResponse<Void>>> responses = new ArrayList<>(CONCURRENCY);
+        try {
+            for (int i = firstId; i < firstId + CONCURRENCY; i++) {
+                responses.add(client.sendAsync(request(port, i), HttpResponse.BodyHandlers.discarding()));
+            }
+            TimeUnit.MILLISECONDS.sleep(HOLD_MILLIS);
+        } finally {
+            upstreamGate = null;
+            gate.countDown();
+        }
+        int held = maxUpstreamInFlight.get();
+        for (CompletableFuture<HttpResponse<Void>> response : responses) {
+            assertEquals(200, response.join().statusCode());
+        }
+        return held;
+    }
+
+    private static void fire(HttpClient client, int port, int firstId, int count) throws InterruptedException {
+        Semaphore inFlight = new Semaphore(CONCURRENCY);
+        List<CompletableFuture<HttpResponse<Void>>> responses = new ArrayList<>(count);
+        for (int i = firstId; i < firstId + count; i++) {
+            inFlight.acquire();
+            responses.add(client.sendAsync(request(port, i), HttpResponse.BodyHandlers.discarding())
+                    .whenComplete((response, failure) -> inFlight.release()));
+        }
+        for (CompletableFuture<HttpResponse<Void>> response : responses) {
+            assertEquals(200, response.join().statusCode());
+        }
+    }
+
+    private static HttpRequest request(int port, int id) {
+        return HttpRequest.newBuilder(URI.create("http://localhost:" + port + "/api/v1/employee/" + id)).build();
+    }
+
+    private static void slowEmployee(HttpExchange exchange) throws IOException {
+        maxUpstreamInFlight.accumulateAndGet(upstreamInFlight.incrementAndGet(), Math::max);
+        try {
+            CountDownLatch gate = upstreamGate;
+            if (gate == null) {
+                TimeUnit.MILLISECONDS.sleep(UPSTREAM_LATENCY_MILLIS);
+            } else {
+                gate.await(HOLD_MILLIS * 2, TimeUnit.MILLISECONDS);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } finally {
+            upstreamInFlight.decrementAndGet();
+        }
+        String path = exchange.getRequestURI().getPath();
+        String id = path.substring(path.lastIndexOf('/') + 1);
+        byte[] body = ("{\"status\":\"Successfully processed request.\",\"data\":{\"id\":\"" + id + "\","
+                + "\"employee_name\":\"Load Test\",\"employee_salary\":50000,\"employee_age\":30,"
+                + "\"employee_title\":\"Tester\",\"employee_email\":\"load@company.com\"}}")
+                .getBytes(StandardCharsets.UTF_8);
+        exchange.getResponseHeaders().add("Content-Type", "application/json");
+        exchange.sendResponseHeaders(200, body.length);
+        try (OutputStream out = exchange.getResponseBody()) {
+            out.write(body);
+        }
+    }
+}
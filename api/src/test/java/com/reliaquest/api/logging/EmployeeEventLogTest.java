@@ -0,0 +1,65 @@
+package com.reliaquest.api.logging;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.core.read.ListAppender;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.slf4j.LoggerFactory;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class EmployeeEventLogTest {
+
+    private final Logger logger = (Logger) LoggerFactory.getLogger(EmployeeEventLog.LOGGER);
+    private final ListAppender<ILoggingEvent> appender = new ListAppender<>();
+    private Level previousLevel;
+
+    @BeforeEach
+    void setUp() {
+        previousLevel = logger.getLevel();
+        logger.setLevel(Level.INFO);
+        appender.start();
+        logger.addAppender(appender);
+    }
+
+    @AfterEach
+    void tearDown() {
+        logger.detachAppender(appender);
+        logger.setLevel(previousLevel);
+    }
+
+    @Test
+    void size_ShouldLogEventSizeAndDuration_WhenSampled() {
+        new EmployeeEventLog(1.0).size("getAllEmployees", 3, System.nanoTime());
+
+        assertEquals(1, appender.list.size());
+        String message = appender.list.get(0).getFormattedMessage();
+        assertTrue(message.startsWith("event=getAllEmployees size=3 durationMicros="), message);
+    }
+
+    @Test
+    void id_ShouldLogNothing_WhenSampleRateIsZero() {
+        EmployeeEventLog eventLog = new EmployeeEventLog(0);
+
+        for (int i = 0; i < 100; i++) {
+            eventLog.id("getEmployeeById", "1", System.nanoTime());
+        }
+
+        assertTrue(appender.list.isEmpty());
+    }
+
+    @Test
+    void value_ShouldLogAboutSampleRateOfEvents() {
+        EmployeeEventLog eventLog = new EmployeeEventLog(0.1);
+
+        for (int i = 0; i < 10_000; i++) {
+            eventLog.value("getHighestSalaryOfEmployees", 100, System.nanoTime());
+        }
+
+        assertTrue(appender.list.size() > 700 && appender.list.size() < 1300, "logged " + appender.list.size());
+    }
+}
@@ -0,0 +1,35 @@
+package com.reliaquest.api.models;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class EmployeeTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper().findAndRegisterModules();
+
+    @Test
+    void deserialize_ShouldParseNumericUpstreamFieldsOnce() throws Exception {
+        String upstream = "{\"id\":\"1\",\"employee_name\":\"John Doe\",\"employee_salary\":320800,"
+                + "\"employee_age\":61,\"employee_title\":\"Engineer\",\"employee_email\":\"jdoe@company.com\"}";
+
+        Employee employee = objectMapper.readValue(upstream, Employee.class);
+
+        assertEquals(320800, employee.getSalary());
+        assertEquals(61, employee.getAge());
+    }
+
+    @Test
+    void serialize_ShouldKeepSalaryAndAgeAsStrings() throws Exception {
+        Employee employee = new Employee("1", "John Doe", 320800, 61, "Engineer", "jdoe@company.com");
+
+        JsonNode json = objectMapper.valueToTree(employee);
+
+        assertEquals("320800", json.get("employee_salary").asText());
+        assertTrue(json.get("employee_salary").isTextual());
+        assertTrue(json.get("employee_age").isTextual());
+        assertEquals(employee, objectMapper.treeToValue(json, Employee.class));
+    }
+}
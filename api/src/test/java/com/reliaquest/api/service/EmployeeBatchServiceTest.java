@@ -0,0 +1,203 @@
+package com.reliaquest.api.service;
+
+import com.reliaquest.api.cache.EmployeeCache;
+import com.reliaquest.api.exception.CustomError;
+import com.reliaquest.api.exception.TooManyRequestException;
+import com.reliaquest.api.exception.ValidationException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.reliaquest.api.external.ClientMode;
+import com.reliaquest.api.external.EmployeeAPIs;
+import com.reliaquest.api.external.UpstreamCallExecutor;
+import com.reliaquest.api.external.UpstreamCodec;
+import com.reliaquest.api.external.UpstreamMetrics;
+import com.reliaquest.api.external.WireFormat;
+import com.reliaquest.api.feignClient.EmployeeClient;
+import com.reliaquest.api.models.Employee;
+import com.reliaquest.api.request.EmployeeRequest;
+import com.reliaquest.api.response.BatchItemStatus;
+import com.reliaquest.api.response.BatchResponse;
+import com.reliaquest.api.response.EmployeeResponse;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class EmployeeBatchServiceTest {
+
+    @Mock
+    private EmployeeService employeeService;
+
+    @Mock
+    private EmployeeAPIs employeeApis;
+
+    @Mock
+    private EmployeeCache employeeCache;
+
+    private EmployeeBatchService batchService;
+
+    @BeforeEach
+    void setUp() {
+        batchService = new EmployeeBatchService(employeeService, employeeApis, employeeCache, 100, 2, 2, Runnable::run);
+    }
+
+    @Test
+    void createEmployees_ShouldReportInvalidItemsAndSendTheRestInChunks() {
+        Map<String, Object> valid = Map.of("name", "Jane Roe");
+        Map<String, Object> invalid = Map.of("name", "");
+        EmployeeRequest request = new EmployeeRequest("Jane Roe", 50000, 30, "Engineer");
+        when(employeeService.validateEmployeeRequest(valid)).thenReturn(request);
+        when(employeeService.validateEmployeeRequest(invalid))
+                .thenThrow(new ValidationException(CustomError.MISSING_OR_INVALID_NAME));
+        AtomicInteger ids = new AtomicInteger();
+        when(employeeApis.submitEmployeesAsync(anyList())).thenAnswer(invocation -> {
+            List<EmployeeRequest> chunk = invocation.getArgument(0);
+            return CompletableFuture.completedFuture(chunk.stream()
+                    .map(r -> new Employee(String.valueOf(ids.incrementAndGet()), r.getName(), 50000, 30,
+                            "Engineer", "jane@company.com"))
+                    .toList());
+        });
+
+        BatchResponse response = batchService.createEmployees(List.of(valid, invalid, valid, "not an object", valid)).join();
+
+        assertEquals(5, response.getTotal());
+        assertEquals(3, response.getSucceeded());
+        assertEquals(BatchItemStatus.CREATED, response.getResults().get(0).getStatus());
+        assertEquals(BatchItemStatus.INVALID, response.getResults().get(1).getStatus());
+        assertEquals(CustomError.MISSING_OR_INVALID_NAME.getCode(), response.getResults().get(1).getError());
+        assertEquals(CustomError.INVALID_EMPLOYEE_INPUT.getCode(), response.getResults().get(3).getError());
+        assertEquals(4, response.getResults().get(4).getIndex());
+        verify(employeeApis, times(2)).submitEmployeesAsync(anyList());
+        verify(employeeCache, times(2)).onEmployeesCreated(anyList());
+    }
+
+    @Test
+    void createEmployees_ShouldFailOnlyTheItemsOfARejectedChunk() {
+        Map<String, Object> valid = Map.of("name", "Jane Roe");
+        EmployeeRequest request = new EmployeeRequest("Jane Roe", 50000, 30, "Engineer");
+        when(employeeService.validateEmployeeRequest(valid)).thenReturn(request);
+        Employee employee = new Employee("1", "Jane Roe", 50000, 30, "Engineer", "jane@company.com");
+        when(employeeApis.submitEmployeesAsync(anyList()))
+                .thenReturn(CompletableFuture.completedFuture(List.of(employee, employee)))
+                .thenReturn(CompletableFuture.failedFuture(
+                        new TooManyRequestException(CustomError.EMPLOYEE_API_RATE_LIMIT_EXCEEDED)));
+
+        BatchResponse response = batchService.createEmployees(List.of(valid, valid, valid, valid)).join();
+
+        assertEquals(2, response.getSucceeded());
+        assertEquals(2, response.getFailed());
+        assertEquals(CustomError.EMPLOYEE_API_RATE_LIMIT_EXCEEDED.getCode(), response.getResults().get(2).getError());
+    }
+
+    @Test
+    void createEmployees_ShouldBoundChunksInFlight() {
+        Map<String, Object> valid = Map.of("name", "Jane Roe");
+        when(employeeService.validateEmployeeRequest(valid))
+                .thenReturn(new EmployeeRequest("Jane Roe", 50000, 30, "Engineer"));
+        List<CompletableFuture<List<Employee>>> outstanding = new ArrayList<>();
+        when(employeeApis.submitEmployeesAsync(anyList())).thenAnswer(invocation -> {
+            CompletableFuture<List<Employee>> future = new CompletableFuture<>();
+            outstanding.add(future);
+            return future;
+        });
+
+        CompletableFuture<BatchResponse> result =
+                batchService.createEmployees(new ArrayList<>(IntStream.range(0, 10).mapToObj(i -> valid).toList()));
+
+        assertEquals(2, outstanding.size());
+        outstanding.get(0).complete(List.of());
+        assertEquals(3, outstanding.size());
+        while (!result.isDone()) {
+            outstanding.stream().filter(f -> !f.isDone()).findFirst().orElseThrow().complete(List.of());
+        }
+        assertEquals(5, outstanding.size());
+    }
+
+    @Test
+    void createEmployees_ShouldSendChunksOffTheCallerAndBoundThem_WithBlockingClient() throws InterruptedException {
+        Map<String, Object> valid = Map.of("name", "Jane Roe");
+        when(employeeService.validateEmployeeRequest(valid))
+                .thenReturn(new EmployeeRequest("Jane Roe", 50000, 30, "Engineer"));
+        EmployeeClient employeeClient = mock(EmployeeClient.class);
+        CountDownLatch release = new CountDownLatch(1);
+        CountDownLatch twoInFlight = new CountDownLatch(2);
+        AtomicInteger inFlight = new AtomicInteger();
+        AtomicInteger maxInFlight = new AtomicInteger();
+        when(employeeClient.submitEmployees(anyList())).thenAnswer(invocation -> {
+            maxInFlight.accumulateAndGet(inFlight.incrementAndGet(), Math::max);
+            twoInFlight.countDown();
+            release.await();
+            inFlight.decrementAndGet();
+            return new EmployeeResponse("success", List.of());
+        });
+        ObjectMapper objectMapper = new ObjectMapper();
+        EmployeeAPIs blocking = new EmployeeAPIs(employeeClient, new UpstreamCallExecutor(1, Duration.ZERO,
+                Duration.ZERO, Duration.ZERO, Duration.ofSeconds(30), Duration.ofSeconds(90), 5, Duration.ofSeconds(10),
+                new UpstreamMetrics(new SimpleMeterRegistry())), objectMapper, null,
+                new UpstreamCodec(objectMapper, WireFormat.JSON), ClientMode.BLOCKING);
+        EmployeeBatchService service = new EmployeeBatchService(employeeService, blocking, employeeCache, 100, 2, 2);
+
+        try {
+            CompletableFuture<BatchResponse> result =
+                    service.createEmployees(new ArrayList<>(IntStream.range(0, 10).mapToObj(i -> valid).toList()));
+
+            assertFalse(result.isDone());
+            assertTrue(twoInFlight.await(5, TimeUnit.SECONDS));
+            release.countDown();
+            assertEquals(10, result.join().getFailed());
+            assertEquals(2, maxInFlight.get());
+            verify(employeeClient, times(5)).submitEmployees(anyList());
+        } finally {
+            release.countDown();
+            service.shutdown();
+        }
+    }
+
+    @Test
+    void deleteEmployees_ShouldReportInvalidDuplicateAndMissingIds() {
+        String first = UUID.randomUUID().toString();
+        String missing = UUID.randomUUID().toString();
+        Employee deleted = new Employee(first, "Jane Roe", 50000, 30, "Engineer", "jane@company.com");
+        when(employeeApis.deleteEmployeesAsync(List.of(first, missing)))
+                .thenReturn(CompletableFuture.completedFuture(List.of(deleted)));
+
+        BatchResponse response = batchService.deleteEmployees(Arrays.asList(first, "abc", first, null, missing)).join();
+
+        assertEquals(1, response.getSucceeded());
+        assertEquals(BatchItemStatus.DELETED, response.getResults().get(0).getStatus());
+        assertEquals(CustomError.INVALID_EMPLOYEE_ID.getCode(), response.getResults().get(1).getError());
+        assertEquals(CustomError.DUPLICATE_EMPLOYEE_ID.getCode(), response.getResults().get(2).getError());
+        assertEquals(CustomError.INVALID_EMPLOYEE_ID.getCode(), response.getResults().get(3).getError());
+        assertEquals(BatchItemStatus.NOT_FOUND, response.getResults().get(4).getStatus());
+        verify(employeeCache).onEmployeesDeleted(argThat(ids -> ids.size() == 1 && ids.contains(first)));
+    }
+
+    @Test
+    void batches_ShouldRejectEmptyAndOversizedRequests() {
+        ValidationException ex = assertThrows(ValidationException.class, () -> batchService.deleteEmployees(List.of()));
+        assertEquals(CustomError.INVALID_BATCH_SIZE, ex.getError());
+        List<Object> oversized = new ArrayList<>(IntStream.range(0, 101).mapToObj(i -> (Object) Map.of()).toList());
+        assertThrows(ValidationException.class, () -> batchService.createEmployees(oversized));
+        verifyNoInteractions(employeeApis);
+        verify(employeeService, never()).validateEmployeeRequest(any());
+    }
+}
@@ -0,0 +1,119 @@
+package com.reliaquest.api.service;
+
+import com.reliaquest.api.cache.EmployeeCache;
+import com.reliaquest.api.external.EmployeeAPIs;
+import com.reliaquest.api.index.NameFolding;
+import com.reliaquest.api.logging.EmployeeEventLog;
+import com.reliaquest.api.models.Employee;
+import com.reliaquest.api.models.EmployeeQuery;
+import com.reliaquest.api.models.EmployeeStats;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.OptionalInt;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class EmployeeQueryPushdownTest {
+
+    private static final NameFolding FOLDING = new NameFolding(true, false);
+
+    @Mock
+    private EmployeeAPIs employeeApis;
+
+    @Mock
+    private EmployeeCache employeeCache;
+
+    @Test
+    void isActive_ShouldOnlyHoldWhileCacheIsColdAndPushdownIsEnabled() {
+        when(employeeCache.isLoaded()).thenReturn(false, true);
+
+        assertTrue(pushdown(true).isActive());
+        assertFalse(pushdown(true).isActive());
+        assertFalse(pushdown(false).isActive());
+    }
+
+    @Test
+    void getHighestSalary_ShouldReadSalaryMaxFromStats() {
+        EmployeeStats stats = new EmployeeStats(3, 2, new EmployeeStats.Summary(1000, 90000, 91000, 45500), null,
+                null, 10000, Map.of(0, 1L, 90000, 1L));
+        when(employeeApis.getEmployeeStats(false)).thenReturn(stats);
+
+        assertEquals(OptionalInt.of(90000), pushdown(true).getHighestSalary());
+    }
+
+    @Test
+    void getHighestSalary_ShouldBeEmpty_WhenRosterIsEmpty() {
+        when(employeeApis.getEmployeeStats(false))
+                .thenReturn(new EmployeeStats(1, 0, null, null, null, 10000, Map.of()));
+
+        assertTrue(pushdown(true).getHighestSalary().isEmpty());
+    }
+
+    @Test
+    void search_ShouldPassFoldingAndRankLikeTheNameIndex() {
+        Employee inside = new Employee("1", "Shankar Das", 1, 30, "Actor", "shankar@company.com");
+        Employee wordStart = new Employee("2", "Bill Hanks", 1, 30, "Actor", "bill@company.com");
+        Employee nameStart = new Employee("3", "Hank Moody", 1, 30, "Writer", "hank@company.com");
+        when(employeeApis.queryEmployees(any(EmployeeQuery.class))).thenReturn(List.of(inside, wordStart, nameStart));
+
+        List<Employee> result = pushdown(true).search("hank");
+
+        ArgumentCaptor<EmployeeQuery> query = ArgumentCaptor.forClass(EmployeeQuery.class);
+        verify(employeeApis).queryEmployees(query.capture());
+        assertEquals("hank", query.getValue().getName());
+        assertEquals(Boolean.TRUE, query.getValue().getIgnoreCase());
+        assertEquals(Boolean.FALSE, query.getValue().getIgnoreAccents());
+        assertEquals(List.of(nameStart, wordStart, inside), result);
+    }
+
+    @Test
+    void getTopEarning_ShouldAskForSalaryDescendingWithLimit() {
+        when(employeeApis.queryEmployees(any(EmployeeQuery.class))).thenReturn(List.of());
+
+        pushdown(true).getTopEarning(10);
+
+        verify(employeeApis).queryEmployees(EmployeeQuery.builder().sort("salary").order("desc").limit(10).build());
+    }
+
+    @Test
+    void getTopTen_ShouldWarmTheCache_SoARepeatCallMakesNoUpstreamRequest() throws InterruptedException {
+        Employee employee = new Employee("1", "Hank Moody", 90000, 30, "Writer", "hank@company.com");
+        EmployeeCache cache = new EmployeeCache(employeeApis, Duration.ofSeconds(30), FOLDING, false, false);
+        EmployeeService service = new EmployeeService(employeeApis, cache, null, new EmployeeEventLog(0),
+                new EmployeeQueryPushdown(employeeApis, cache, FOLDING, true));
+        when(employeeApis.queryEmployees(any(EmployeeQuery.class))).thenReturn(List.of(employee));
+        when(employeeApis.getAllEmployees()).thenReturn(List.of(employee));
+
+        assertEquals(List.of(employee), service.getTopTenHighestEarningEmployeeNames());
+        awaitLoaded(cache);
+        assertEquals(List.of(employee), service.getTopTenHighestEarningEmployeeNames());
+
+        verify(employeeApis, times(1)).queryEmployees(any(EmployeeQuery.class));
+        verify(employeeApis, times(1)).getAllEmployees();
+        assertEquals(1, cache.getStats().getHits());
+    }
+
+    private static void awaitLoaded(EmployeeCache cache) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (!cache.isLoaded() && System.nanoTime() < deadline) {
+            Thread.sleep(5);
+        }
+    }
+
+    private EmployeeQueryPushdown pushdown(boolean enabled) {
+        return new EmployeeQueryPushdown(employeeApis, employeeCache, FOLDING, enabled);
+    }
+}
@@ -1,9 +1,12 @@
 package com.reliaquest.api.service;
 
+import com.reliaquest.api.cache.EmployeeCache;
+import com.reliaquest.api.cache.EmployeeSnapshot;
 import com.reliaquest.api.exception.CustomError;
 import com.reliaquest.api.exception.CustomException;
 import com.reliaquest.api.exception.ValidationException;
 import com.reliaquest.api.external.EmployeeAPIs;
+import com.reliaquest.api.logging.EmployeeEventLog;
 import com.reliaquest.api.models.Employee;
 import com.reliaquest.api.request.EmployeeRequest;
 import com.reliaquest.api.response.DeleteEmployeeResponse;
@@ -12,11 +15,18 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.HttpStatus;
 
+import java.time.Clock;
 import java.util.*;
 
 import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 @ExtendWith(MockitoExtension.class)
@@ -25,6 +35,15 @@ class EmployeeServiceTest {
     @Mock
     private EmployeeAPIs employeeApis;
 
+    @Mock
+    private EmployeeCache employeeCache;
+
+    @Spy
+    private EmployeeEventLog eventLog = new EmployeeEventLog(1.0);
+
+    @Mock
+    private EmployeeQueryPushdown queryPushdown;
+
     @InjectMocks
     private EmployeeService employeeService;
 
@@ -33,22 +52,23 @@ class EmployeeServiceTest {
 
     @BeforeEach
     void setUp() {
-        employee = new Employee("123","Shivam Sapate", "50000",  "25","Software Enginner", "shivamspate@gmail.com");
+        employee = new Employee("123", "Shivam Sapate", 50000, 25,"Software Enginner", "shivamspate@gmail.com");
 
     }
 
     @Test
     void getAllEmployees_ShouldReturnEmployeeList(){
-        when(employeeApis.getAllEmployees()).thenReturn(List.of(employee));
+        when(employeeCache.getEmployees()).thenReturn(List.of(employee));
         List<Employee> allEmployees = employeeService.getAllEmployees();
 
         assertFalse(allEmployees.isEmpty());
         assertEquals("Shivam Sapate", allEmployees.get(0).getName());
+        verify(eventLog).size(eq("getAllEmployees"), eq(1), anyLong());
     }
 
     @Test
     void getAllEmployees_ShouldThrowException_WhenNoEmployeesFound(){
-        when(employeeApis.getAllEmployees()).thenReturn(Collections.emptyList());
+        when(employeeCache.getEmployees()).thenReturn(Collections.emptyList());
         assertThrows(CustomException.class, employeeService::getAllEmployees);
     }
 
@@ -60,6 +80,27 @@ class EmployeeServiceTest {
         assertEquals("Shivam Sapate", result.getName());
     }
 
+    @Test
+    void getEmployeeById_ShouldAnswerFromCache_WhenUpstreamUnavailable() {
+        when(employeeApis.getEmployeeById("123")).thenThrow(
+                new CustomException(CustomError.EMPLOYEE_API_UNAVAILABLE, HttpStatus.SERVICE_UNAVAILABLE));
+        when(employeeCache.findCached("123")).thenReturn(Optional.of(employee));
+
+        assertEquals(employee, employeeService.getEmployeeById("123"));
+    }
+
+    @Test
+    void getEmployeeById_ShouldNotUseCache_WhenEmployeeNotFound() {
+        when(employeeApis.getEmployeeById("123")).thenThrow(
+                new CustomException(CustomError.EMPLOYEE_NOT_FOUNT_BY_ID, HttpStatus.NOT_FOUND));
+
+        CustomException exception = assertThrows(CustomException.class,
+                () -> employeeService.getEmployeeById("123"));
+
+        assertEquals(HttpStatus.NOT_FOUND, exception.getStatusCode());
+        verify(employeeCache, never()).findCached("123");
+    }
+
     @Test
     void getEmployeeById_ShouldThrowException_WhenIdIsNull() {
         assertThrows(CustomException.class, () -> employeeService.getEmployeeById(null));
@@ -67,28 +108,34 @@ class EmployeeServiceTest {
 
     @Test
     void getEmployeesByNameSearch_ShouldReturnMatchingEmployees() {
-        when(employeeApis.getAllEmployees()).thenReturn(List.of(employee));
+        when(employeeCache.getSnapshot()).thenReturn(snapshotOf(employee));
         List<Employee> result = employeeService.getEmployeesByNameSearch("Shivam");
         assertEquals(1, result.size());
     }
 
     @Test
     void getEmployeesByNameSearch_ShouldThrowException_WhenNoMatchFound() {
-        when(employeeApis.getAllEmployees()).thenReturn(List.of(employee));
+        when(employeeCache.getSnapshot()).thenReturn(snapshotOf(employee));
         assertThrows(CustomException.class, () -> employeeService.getEmployeesByNameSearch("xyz"));
     }
 
+    @Test
+    void getEmployeeNameSuggestions_ShouldReturnNamesStartingWithPrefix() {
+        when(employeeCache.getSnapshot()).thenReturn(snapshotOf(employee));
+        assertEquals(List.of("Shivam Sapate"), employeeService.getEmployeeNameSuggestions("Sap", 10));
+    }
+
     @Test
     void getHighestSalaryOfEmployees_ShouldReturnHighestSalary() {
-        when(employeeApis.getAllEmployees()).thenReturn(List.of(employee));
+        when(employeeCache.getSnapshot()).thenReturn(snapshotOf(employee));
         assertEquals(50000, employeeService.getHighestSalaryOfEmployees());
     }
 
     @Test
     void getTopTenHighestEarningEmployeeNames_ShouldReturnTopTen() {
-        Employee employee2 = new Employee("2", "John Doe", "5000", "25", "Software Engineer", "johndoe@gmail.com");
+        Employee employee2 = new Employee("2", "John Doe", 5000, 25, "Software Engineer", "johndoe@gmail.com");
 
-        when(employeeApis.getAllEmployees()).thenReturn(Arrays.asList(employee, employee2));
+        when(employeeCache.getSnapshot()).thenReturn(snapshotOf(employee, employee2));
         List<Employee> result = employeeService.getTopTenHighestEarningEmployeeNames();
 
 
@@ -97,6 +144,50 @@ class EmployeeServiceTest {
         assertEquals("Shivam Sapate", result.get(0).getName());
     }
 
+    @Test
+    void getTopHighestEarningEmployees_ShouldReturnRequestedNumberOfEmployees() {
+        Employee employee2 = new Employee("2", "John Doe", 5000, 25, "Software Engineer", "johndoe@gmail.com");
+        Employee employee3 = new Employee("3", "Jane Doe", 90000, 35, "Architect", "janedoe@gmail.com");
+
+        when(employeeCache.getSnapshot()).thenReturn(snapshotOf(employee, employee2, employee3));
+        List<Employee> result = employeeService.getTopHighestEarningEmployees(2);
+
+        assertEquals(List.of(employee3, employee), result);
+    }
+
+    @Test
+    void getTopHighestEarningEmployees_ShouldThrowException_WhenLimitIsNotPositive() {
+        ValidationException exception = assertThrows(ValidationException.class,
+                () -> employeeService.getTopHighestEarningEmployees(0));
+        assertEquals(CustomError.INVALID_LIMIT, exception.getError());
+    }
+
+    @Test
+    void getHighestSalaryOfEmployees_ShouldPushDown_WhileCacheIsCold() {
+        when(queryPushdown.isActive()).thenReturn(true);
+        when(queryPushdown.getHighestSalary()).thenReturn(OptionalInt.of(90000));
+
+        assertEquals(90000, employeeService.getHighestSalaryOfEmployees());
+        verify(employeeCache, never()).getSnapshot();
+    }
+
+    @Test
+    void getTopHighestEarningEmployees_ShouldThrowException_WhenPushedDownQueryFindsNoEmployees() {
+        when(queryPushdown.isActive()).thenReturn(true);
+        when(queryPushdown.getTopEarning(10)).thenReturn(List.of());
+
+        CustomException exception = assertThrows(CustomException.class,
+                employeeService::getTopTenHighestEarningEmployeeNames);
+        assertEquals(CustomError.NO_EMPLOYEES_FOUND, exception.getError());
+        verify(employeeCache, never()).getSnapshot();
+    }
+
+    @Test
+    void getHighestSalaryOfEmployees_ShouldThrowException_WhenNoEmployeesFound() {
+        when(employeeCache.getSnapshot()).thenReturn(snapshotOf());
+        assertThrows(CustomException.class, employeeService::getHighestSalaryOfEmployees);
+    }
+
     @Test
     void submitEmployee_ShouldConvertAndSubmitEmployee() {
         Map<String, Object> employeeMap = Map.of("name", "Shivam Sapate", "salary", 50000, "age", 25, "title", "Engineer", "email", "shivam@company.com");
@@ -116,6 +207,14 @@ class EmployeeServiceTest {
         assertEquals(response, employeeService.deleteEmployeeById("1"));
     }
 
+    @Test
+    void deleteEmployeeById_ShouldEvictDeletedEmployeeFromCache() {
+        DeleteEmployeeResponse response = new DeleteEmployeeResponse(true, "Successfully processed request.");
+        when(employeeApis.deleteEmployee("1")).thenReturn(response);
+        employeeService.deleteEmployeeById("1");
+        verify(employeeCache).onEmployeeDeleted("1");
+    }
+
 
     @Test
     void ValidateInput_Success() throws ValidationException {
@@ -265,4 +364,7 @@ class EmployeeServiceTest {
         assertEquals(CustomError.MISSING_OR_INVALID_TITLE, exception.getError());
     }
 
-}
\ No newline at end of file
+    private static EmployeeSnapshot snapshotOf(Employee... employees) {
+        return EmployeeSnapshot.of(List.of(employees), Clock.systemUTC());
+    }
+}
@@ -0,0 +1,130 @@
+package com.reliaquest.benchmarks;
+
+import com.reliaquest.api.ApiApplication;
+import com.reliaquest.api.external.EmployeeAPIs;
+import com.reliaquest.api.models.Employee;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+/**
+ * Fans out {@code calls} concurrent {@code getEmployeeById} calls against a stub upstream that
+ * answers after {@code latencyMillis}, using the same {@value #CALLER_THREADS} caller threads in both
+ * modes. Blocking mode can only have one call per caller thread in flight; non-blocking mode issues
+ * them all at once from a single thread and completes them on the HTTP client's few threads.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ClientModeBenchmark {
+
+    private static final int CALLER_THREADS = 16;
+
+    @Param({"blocking", "non-blocking"})
+    private String mode;
+
+    @Param({"1000"})
+    private int calls;
+
+    @Param({"20"})
+    private int latencyMillis;
+
+    private final AtomicLong nextId = new AtomicLong();
+
+    private HttpServer upstream;
+    private ExecutorService upstreamExecutor;
+    private ExecutorService callers;
+    private ConfigurableApplicationContext context;
+    private EmployeeAPIs employeeApis;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        upstreamExecutor = Executors.newCachedThreadPool();
+        upstream = HttpServer.create(new InetSocketAddress("localhost", 0), 4096);
+        upstream.setExecutor(upstreamExecutor);
+        upstream.createContext("/api/v1/employee/", this::slowEmployee);
+        upstream.start();
+
+        context = new SpringApplicationBuilder(ApiApplication.class)
+                .web(WebApplicationType.NONE)
+                .run(
+                        "--employee.client.mode=" + mode,
+                        "--employee.upstream.url=http://localhost:"
+                                + upstream.getAddress().getPort() + "/api/v1/employee",
+                        "--logging.level.com.reliaquest=WARN");
+        employeeApis = context.getBean(EmployeeAPIs.class);
+        callers = Executors.newFixedThreadPool(CALLER_THREADS);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+        callers.shutdownNow();
+        upstream.stop(0);
+        upstreamExecutor.shutdownNow();
+    }
+
+    @Benchmark
+    public List<Employee> fanOut() {
+        List<CompletableFuture<Employee>> pending = new ArrayList<>(calls);
+        for (int i = 0; i < calls; i++) {
+            String id = Long.toString(nextId.incrementAndGet());
+            pending.add(
+                    mode.equals("non-blocking")
+                            ? employeeApis.getEmployeeByIdAsync(id)
+                            : CompletableFuture.supplyAsync(() -> employeeApis.getEmployeeById(id), callers));
+        }
+        List<Employee> employees = new ArrayList<>(calls);
+        for (CompletableFuture<Employee> employee : pending) {
+            employees.add(employee.join());
+        }
+        return employees;
+    }
+
+    private void slowEmployee(HttpExchange exchange) throws IOException {
+        try {
+            TimeUnit.MILLISECONDS.sleep(latencyMillis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        String path = exchange.getRequestURI().getPath();
+        byte[] body = ("{\"status\":\"ok\",\"data\":{\"id\":\"" + path.substring(path.lastIndexOf('/') + 1)
+                        + "\",\"employee_name\":\"Bench Mark\",\"employee_salary\":50000,\"employee_age\":30,"
+                        + "\"employee_title\":\"Tester\",\"employee_email\":\"bench@company.com\"}}")
+                .getBytes(StandardCharsets.UTF_8);
+        exchange.getResponseHeaders().add("Content-Type", "application/json");
+        exchange.sendResponseHeaders(200, body.length);
+        try (OutputStream out = exchange.getResponseBody()) {
+            out.write(body);
+        }
+    }
+}
@@ -0,0 +1,133 @@
+package com.reliaquest.benchmarks;
+
+import com.reliaquest.api.index.EmployeeColumns;
+import com.reliaquest.api.models.Employee;
+import com.reliaquest.server.model.MockEmployee;
+import com.reliaquest.server.model.MockEmployeeColumns;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Heap per employee and scan time for the object roster against its columnar copy. Setup prints the
+ * retained heap per employee of both server models at {@code size}, and of both api models at up to a
+ * million employees to stay inside the heap. The scans filter on age and sum salaries, and count
+ * employees per title, the shape of the server's aggregate endpoint.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "-Xmx4g")
+public class ColumnarRosterBenchmark {
+
+    private static final int API_SAMPLE = 1_000_000;
+    private static final int MIN_AGE = 30;
+    private static final int MAX_AGE = 50;
+
+    @Param({"1000000", "10000000"})
+    private int size;
+
+    private List<MockEmployee> employees;
+    private MockEmployeeColumns columns;
+
+    @Setup
+    public void setUp() {
+        int sample = Math.min(size, API_SAMPLE);
+        long before = usedHeap();
+        List<Employee> apiEmployees = Rosters.employees(sample);
+        long apiObjects = usedHeap() - before;
+        EmployeeColumns apiColumns = EmployeeColumns.of(apiEmployees);
+        long apiColumnar = usedHeap() - before - apiObjects;
+        print("api Employee list", apiObjects, sample);
+        print("api EmployeeColumns", apiColumnar, sample);
+        System.out.printf(" (%d data bytes)", apiColumns.dataBytes() / sample);
+        apiEmployees = null;
+        apiColumns = null;
+
+        employees = measure(() -> Rosters.mockEmployees(Rosters.employees(size)), "server MockEmployee list");
+        columns = measure(() -> MockEmployeeColumns.of(employees), "server MockEmployeeColumns");
+        System.out.printf(" (%d data bytes)%n", columns.dataBytes() / size);
+    }
+
+    @Benchmark
+    public long salarySumByAge_Objects() {
+        long sum = 0;
+        for (MockEmployee employee : employees) {
+            Integer age = employee.getAge();
+            if (age != null && age >= MIN_AGE && age <= MAX_AGE && employee.getSalary() != null) {
+                sum += employee.getSalary();
+            }
+        }
+        return sum;
+    }
+
+    @Benchmark
+    public long salarySumByAge_Columns() {
+        long sum = 0;
+        for (int row = 0; row < columns.size(); row++) {
+            int age = columns.age(row);
+            int salary = columns.salary(row);
+            if (age >= MIN_AGE && age <= MAX_AGE && salary != MockEmployeeColumns.MISSING) {
+                sum += salary;
+            }
+        }
+        return sum;
+    }
+
+    @Benchmark
+    public Map<String, Long> countByTitle_Objects() {
+        Map<String, Long> counts = new HashMap<>();
+        for (MockEmployee employee : employees) {
+            if (employee.getTitle() != null) {
+                counts.merge(employee.getTitle(), 1L, Long::sum);
+            }
+        }
+        return counts;
+    }
+
+    @Benchmark
+    public Map<String, Long> countByTitle_Columns() {
+        long[] countsByCode = new long[columns.titles().size()];
+        for (int row = 0; row < columns.size(); row++) {
+            int code = columns.titleCode(row);
+            if (code != MockEmployeeColumns.NO_TITLE) {
+                countsByCode[code]++;
+            }
+        }
+        return columns.countsByTitle(countsByCode);
+    }
+
+    private <T> T measure(Supplier<T> build, String label) {
+        long before = usedHeap();
+        T built = build.get();
+        print(label, usedHeap() - before, size);
+        return built;
+    }
+
+    private static void print(String label, long bytes, int employees) {
+        System.out.printf("%n%s: %d bytes per employee over %d employees", label, bytes / employees, employees);
+    }
+
+    private static long usedHeap() {
+        Runtime runtime = Runtime.getRuntime();
+        for (int i = 0; i < 3; i++) {
+            System.gc();
+        }
+        return runtime.totalMemory() - runtime.freeMemory();
+    }
+}
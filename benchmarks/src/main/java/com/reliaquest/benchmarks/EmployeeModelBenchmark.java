@@ -0,0 +1,116 @@
+package com.reliaquest.benchmarks;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.reliaquest.api.models.Employee;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Compares the salary aggregations on the previous all-{@code String} employee model, which parsed
+ * salaries on every request, with the typed {@link Employee} model that parses them once while the
+ * upstream payload is read.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class EmployeeModelBenchmark {
+
+    private static final TypeReference<List<StringEmployee>> STRING_EMPLOYEES = new TypeReference<>() {};
+    private static final TypeReference<List<Employee>> TYPED_EMPLOYEES = new TypeReference<>() {};
+
+    @Param({"1000", "100000"})
+    private int size;
+
+    private final ObjectMapper objectMapper = new ObjectMapper().findAndRegisterModules();
+
+    private byte[] payload;
+    private List<StringEmployee> stringEmployees;
+    private List<Employee> typedEmployees;
+
+    @Setup
+    public void setUp() throws Exception {
+        payload = objectMapper.writeValueAsBytes(Rosters.upstreamPayload(Rosters.employees(size)));
+        stringEmployees = objectMapper.readValue(payload, STRING_EMPLOYEES);
+        typedEmployees = objectMapper.readValue(payload, TYPED_EMPLOYEES);
+    }
+
+    @Benchmark
+    public int highestSalaryStringFields() {
+        return stringEmployees.stream()
+                .map(employee -> Integer.parseInt(employee.salary))
+                .reduce(Integer::max)
+                .orElse(0);
+    }
+
+    @Benchmark
+    public int highestSalaryTypedFields() {
+        return typedEmployees.stream().mapToInt(Employee::getSalary).max().orElse(0);
+    }
+
+    @Benchmark
+    public List<StringEmployee> topTenStringFields() {
+        return stringEmployees.stream()
+                .sorted((e1, e2) -> Integer.parseInt(e2.salary) - Integer.parseInt(e1.salary))
+                .limit(10)
+                .collect(Collectors.toList());
+    }
+
+    @Benchmark
+    public List<Employee> topTenTypedFields() {
+        return typedEmployees.stream()
+                .sorted(Comparator.comparingInt(Employee::getSalary).reversed())
+                .limit(10)
+                .collect(Collectors.toList());
+    }
+
+    @Benchmark
+    public List<StringEmployee> deserializeStringFields() throws Exception {
+        return objectMapper.readValue(payload, STRING_EMPLOYEES);
+    }
+
+    @Benchmark
+    public List<Employee> deserializeTypedFields() throws Exception {
+        return objectMapper.readValue(payload, TYPED_EMPLOYEES);
+    }
+
+    /**
+     * Shape of the employee model before salary and age were typed.
+     */
+    public static class StringEmployee {
+        @JsonProperty("id")
+        public String id;
+
+        @JsonProperty("employee_name")
+        public String name;
+
+        @JsonProperty("employee_salary")
+        public String salary;
+
+        @JsonProperty("employee_age")
+        public String age;
+
+        @JsonProperty("employee_title")
+        public String title;
+
+        @JsonProperty("employee_email")
+        public String email;
+    }
+}
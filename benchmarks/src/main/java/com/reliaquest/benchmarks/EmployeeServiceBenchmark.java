@@ -0,0 +1,72 @@
+package com.reliaquest.benchmarks;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.reliaquest.api.cache.EmployeeCache;
+import com.reliaquest.api.index.NameFolding;
+import com.reliaquest.api.logging.EmployeeEventLog;
+import com.reliaquest.api.models.Employee;
+import com.reliaquest.api.service.EmployeeQueryPushdown;
+import com.reliaquest.api.service.EmployeeService;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Read paths of {@link EmployeeService} against a warm cache holding {@code size} employees. The
+ * cache snapshot and its indexes are built once in setup, as they would be by a background refresh,
+ * so the numbers are the per-request cost.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "-Xmx4g")
+public class EmployeeServiceBenchmark {
+
+    @Param({"1000", "100000", "1000000"})
+    private int size;
+
+    @Param({"Jill Jen"})
+    private String query;
+
+    private EmployeeService employeeService;
+
+    @Setup
+    public void setUp() {
+        FixedRosterEmployeeAPIs employeeApis = new FixedRosterEmployeeAPIs(Rosters.employees(size));
+        EmployeeCache employeeCache =
+                new EmployeeCache(employeeApis, Duration.ofDays(1), NameFolding.NONE, false, false);
+        employeeCache.getSnapshot().buildIndexes();
+        EmployeeQueryPushdown queryPushdown =
+                new EmployeeQueryPushdown(employeeApis, employeeCache, NameFolding.NONE, false);
+        employeeService = new EmployeeService(
+                employeeApis, employeeCache, new ObjectMapper(), new EmployeeEventLog(1.0), queryPushdown);
+    }
+
+    @Benchmark
+    public List<Employee> searchByName() {
+        return employeeService.getEmployeesByNameSearch(query);
+    }
+
+    @Benchmark
+    public int highestSalary() {
+        return employeeService.getHighestSalaryOfEmployees();
+    }
+
+    @Benchmark
+    public List<Employee> topTenHighestEarning() {
+        return employeeService.getTopTenHighestEarningEmployeeNames();
+    }
+}
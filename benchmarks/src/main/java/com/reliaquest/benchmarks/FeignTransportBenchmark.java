@@ -0,0 +1,98 @@
+package com.reliaquest.benchmarks;
+
+import com.reliaquest.api.ApiApplication;
+import com.reliaquest.api.feignClient.EmployeeClient;
+import com.reliaquest.api.models.Employee;
+import com.reliaquest.api.response.GetEmployeeResponse;
+import com.reliaquest.server.ServerApplication;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+
+/**
+ * Per-call cost of the Feign {@code EmployeeClient} over each {@code employee.client.transport},
+ * calling {@code getEmployeeById} on the mock server booted in-process with its rate limit off and
+ * h2c enabled. The calls go straight to the Feign client, so the time is the transport plus Feign's
+ * encoding and decoding, without the api's rate limiter, circuit breaker or cache.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class FeignTransportBenchmark {
+
+    @Param({"url-connection", "apache-hc5", "http2"})
+    private String transport;
+
+    private ConfigurableApplicationContext server;
+    private ConfigurableApplicationContext api;
+    private EmployeeClient employeeClient;
+    private String[] ids;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        // config names without a file, so that neither module's application.yml is picked up from the
+        // shared classpath
+        server = new SpringApplicationBuilder(ServerApplication.class)
+                .run(
+                        "--spring.config.name=benchmark-server",
+                        "--server.port=0",
+                        "--server.http2.enabled=true",
+                        "--mock.rate-limit.enabled=false",
+                        "--logging.level.root=WARN");
+        int port = ((WebServerApplicationContext) server).getWebServer().getPort();
+
+        api = new SpringApplicationBuilder(ApiApplication.class)
+                .web(WebApplicationType.NONE)
+                .run(
+                        "--spring.config.name=benchmark-api",
+                        "--employee.client.transport=" + transport,
+                        "--employee.upstream.url=http://localhost:" + port + "/api/v1/employee",
+                        "--logging.level.root=WARN");
+        employeeClient = api.getBean(EmployeeClient.class);
+        List<Employee> employees =
+                employeeClient.getEmployeePage(100, null).getData().getEmployees();
+        ids = employees.stream().map(Employee::getId).toArray(String[]::new);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        api.close();
+        server.close();
+    }
+
+    @Benchmark
+    public GetEmployeeResponse getEmployeeById() {
+        return employeeClient.getEmployeeById(randomId());
+    }
+
+    @Benchmark
+    @Threads(16)
+    public GetEmployeeResponse getEmployeeByIdConcurrent() {
+        return employeeClient.getEmployeeById(randomId());
+    }
+
+    private String randomId() {
+        return ids[ThreadLocalRandom.current().nextInt(ids.length)];
+    }
+}
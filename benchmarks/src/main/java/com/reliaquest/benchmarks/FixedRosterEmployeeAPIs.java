@@ -0,0 +1,25 @@
+package com.reliaquest.benchmarks;
+
+import com.reliaquest.api.external.ClientMode;
+import com.reliaquest.api.external.EmployeeAPIs;
+import com.reliaquest.api.models.Employee;
+import java.util.List;
+
+/**
+ * Upstream stand-in that answers the list call with a fixed roster, so the api service and cache can
+ * be measured without any HTTP in the way. Every other call fails, since no client is wired in.
+ */
+final class FixedRosterEmployeeAPIs extends EmployeeAPIs {
+
+    private final List<Employee> roster;
+
+    FixedRosterEmployeeAPIs(List<Employee> roster) {
+        super(null, null, null, null, null, ClientMode.BLOCKING);
+        this.roster = List.copyOf(roster);
+    }
+
+    @Override
+    public List<Employee> getAllEmployees() {
+        return roster;
+    }
+}
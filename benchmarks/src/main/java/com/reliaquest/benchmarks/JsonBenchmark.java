@@ -0,0 +1,77 @@
+package com.reliaquest.benchmarks;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.reliaquest.api.models.Employee;
+import com.reliaquest.api.response.EmployeeResponse;
+import com.reliaquest.server.model.MockEmployee;
+import com.reliaquest.server.model.Response;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Jackson cost of the full-list payload on both sides of the wire: the server writing
+ * {@link MockEmployee}s through their {@code PrefixNamingStrategy}, and the api reading and writing
+ * {@link EmployeeResponse}. Run with {@code -prof gc} to see the allocation per payload.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class JsonBenchmark {
+
+    private static final TypeReference<List<MockEmployee>> MOCK_EMPLOYEES = new TypeReference<>() {};
+
+    @Param({"1000", "100000"})
+    private int size;
+
+    private final ObjectMapper objectMapper = new ObjectMapper().findAndRegisterModules();
+
+    private EmployeeResponse employeeResponse;
+    private Response<List<MockEmployee>> mockEmployeeResponse;
+    private byte[] employeeResponsePayload;
+    private byte[] mockEmployeesPayload;
+
+    @Setup
+    public void setUp() throws Exception {
+        List<Employee> employees = Rosters.employees(size);
+        List<MockEmployee> mockEmployees = Rosters.mockEmployees(employees);
+        employeeResponse = new EmployeeResponse("Successfully processed request.", employees);
+        mockEmployeeResponse = Response.handledWith(mockEmployees);
+        employeeResponsePayload = objectMapper.writeValueAsBytes(mockEmployeeResponse);
+        mockEmployeesPayload = objectMapper.writeValueAsBytes(mockEmployees);
+    }
+
+    @Benchmark
+    public byte[] serializeMockEmployees() throws Exception {
+        return objectMapper.writeValueAsBytes(mockEmployeeResponse);
+    }
+
+    @Benchmark
+    public List<MockEmployee> deserializeMockEmployees() throws Exception {
+        return objectMapper.readValue(mockEmployeesPayload, MOCK_EMPLOYEES);
+    }
+
+    @Benchmark
+    public EmployeeResponse deserializeEmployeeResponse() throws Exception {
+        return objectMapper.readValue(employeeResponsePayload, EmployeeResponse.class);
+    }
+
+    @Benchmark
+    public byte[] serializeEmployeeResponse() throws Exception {
+        return objectMapper.writeValueAsBytes(employeeResponse);
+    }
+}
@@ -0,0 +1,101 @@
+package com.reliaquest.benchmarks;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.LoggerContext;
+import ch.qos.logback.classic.encoder.PatternLayoutEncoder;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.core.OutputStreamAppender;
+import com.reliaquest.api.logging.EmployeeEventLog;
+import com.reliaquest.api.models.Employee;
+import java.io.OutputStream;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Cost of logging one list response: the old {@code log.info("List of Employees details {}", list)}
+ * that renders every employee, against {@link EmployeeEventLog} logging the size and duration, with
+ * every event or one in a hundred sampled. Both loggers are enabled and write through a real
+ * encoder to a discarding stream, so formatting is measured but disk I/O is not. Run with
+ * {@code -prof gc} to see the allocation per call.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class LoggingBenchmark {
+
+    private static final String PAYLOAD_LOGGER = "com.reliaquest.benchmarks.payload";
+
+    @Param({"100", "10000"})
+    private int size;
+
+    private List<Employee> employees;
+    private Logger payloadLog;
+    private EmployeeEventLog everyEvent;
+    private EmployeeEventLog sampledEvents;
+    private OutputStreamAppender<ILoggingEvent> appender;
+
+    @Setup
+    public void setUp() {
+        employees = Rosters.employees(size);
+
+        LoggerContext context = (LoggerContext) LoggerFactory.getILoggerFactory();
+        PatternLayoutEncoder encoder = new PatternLayoutEncoder();
+        encoder.setContext(context);
+        encoder.setPattern("%d %-5level [%thread] %logger{36} - %msg%n");
+        encoder.start();
+        appender = new OutputStreamAppender<>();
+        appender.setContext(context);
+        appender.setEncoder(encoder);
+        appender.setOutputStream(OutputStream.nullOutputStream());
+        appender.start();
+
+        payloadLog = enable(context.getLogger(PAYLOAD_LOGGER));
+        enable(context.getLogger(EmployeeEventLog.LOGGER));
+        everyEvent = new EmployeeEventLog(1.0);
+        sampledEvents = new EmployeeEventLog(0.01);
+    }
+
+    @TearDown
+    public void tearDown() {
+        appender.stop();
+    }
+
+    @Benchmark
+    public void fullPayload() {
+        payloadLog.info("List of Employees details {}", employees);
+    }
+
+    @Benchmark
+    public void structured() {
+        everyEvent.size("getAllEmployees", employees.size(), System.nanoTime());
+    }
+
+    @Benchmark
+    public void structuredSampled() {
+        sampledEvents.size("getAllEmployees", employees.size(), System.nanoTime());
+    }
+
+    private Logger enable(Logger logger) {
+        logger.setLevel(Level.INFO);
+        logger.setAdditive(false);
+        logger.addAppender(appender);
+        return logger;
+    }
+}
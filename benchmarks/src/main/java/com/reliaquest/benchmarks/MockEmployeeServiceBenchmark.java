@@ -0,0 +1,81 @@
+package com.reliaquest.benchmarks;
+
+import com.reliaquest.server.model.DeleteMockEmployeeInput;
+import com.reliaquest.server.model.MockEmployee;
+import com.reliaquest.server.service.MockEmployeeService;
+import com.reliaquest.server.service.MockEmployeeStore;
+import java.util.List;
+import java.util.Locale;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import net.datafaker.Faker;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Lookup and delete on the mock server's service over a store of {@code size} employees, cycling
+ * through the roster so that successive calls touch different entries. Each delete re-adds the
+ * employee it removed, which keeps the store size constant across iterations.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "-Xmx4g")
+public class MockEmployeeServiceBenchmark {
+
+    @Param({"1000", "100000", "1000000"})
+    private int size;
+
+    private MockEmployeeStore store;
+    private MockEmployeeService service;
+    private MockEmployee[] employees;
+    private UUID[] ids;
+    private DeleteMockEmployeeInput[] deleteInputs;
+    private int cursor;
+
+    @Setup
+    public void setUp() {
+        List<MockEmployee> roster = Rosters.mockEmployees(Rosters.employees(size));
+        store = new MockEmployeeStore();
+        store.addAll(roster);
+        service = new MockEmployeeService(new Faker(Locale.ENGLISH), store);
+        employees = roster.toArray(MockEmployee[]::new);
+        ids = roster.stream().map(MockEmployee::getId).toArray(UUID[]::new);
+        deleteInputs = new DeleteMockEmployeeInput[size];
+        for (int i = 0; i < size; i++) {
+            deleteInputs[i] = new DeleteMockEmployeeInput();
+            deleteInputs[i].setName(roster.get(i).getName());
+        }
+    }
+
+    @Benchmark
+    public Optional<MockEmployee> findById() {
+        return service.findById(ids[next()]);
+    }
+
+    @Benchmark
+    public boolean deleteAndReAdd() {
+        int i = next();
+        boolean deleted = service.delete(deleteInputs[i]);
+        store.add(employees[i]);
+        return deleted;
+    }
+
+    private int next() {
+        int i = cursor;
+        cursor = i + 1 == size ? 0 : i + 1;
+        return i;
+    }
+}
@@ -0,0 +1,118 @@
+package com.reliaquest.benchmarks;
+
+import com.reliaquest.api.ApiApplication;
+import com.reliaquest.api.cache.EmployeeCache;
+import com.reliaquest.api.models.Employee;
+import com.reliaquest.api.service.EmployeeService;
+import com.reliaquest.server.ServerApplication;
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+
+/**
+ * Highest salary and top ten through {@code EmployeeService} against the mock server booted
+ * in-process, with the api's cache emptied before every call. With {@code employee.query.pushdown}
+ * off each call downloads the roster and builds the indexes; with it on the server answers the
+ * query while the roster loads in the background. Setup prints the response size of the full list next to the query and aggregate ones.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class QueryPushdownBenchmark {
+
+    @Param({"false", "true"})
+    private boolean pushdown;
+
+    @Param({"1000", "10000"})
+    private int employees;
+
+    private ConfigurableApplicationContext server;
+    private ConfigurableApplicationContext api;
+    private EmployeeService employeeService;
+    private EmployeeCache employeeCache;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException, InterruptedException {
+        // config names without a file, so that neither module's application.yml is picked up from the
+        // shared classpath
+        server = new SpringApplicationBuilder(ServerApplication.class)
+                .run(
+                        "--spring.config.name=benchmark-server",
+                        "--server.port=0",
+                        "--mock.employees.max=" + employees,
+                        "--mock.rate-limit.enabled=false",
+                        "--logging.level.root=WARN");
+        String upstream = "http://localhost:"
+                + ((WebServerApplicationContext) server).getWebServer().getPort() + "/api/v1/employee";
+        printResponseSizes(upstream);
+
+        api = new SpringApplicationBuilder(ApiApplication.class)
+                .web(WebApplicationType.NONE)
+                .run(
+                        "--spring.config.name=benchmark-api",
+                        "--employee.query.pushdown=" + pushdown,
+                        "--employee.cache.incremental-sync=false",
+                        "--employee.upstream.url=" + upstream,
+                        "--logging.level.root=WARN");
+        employeeService = api.getBean(EmployeeService.class);
+        employeeCache = api.getBean(EmployeeCache.class);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        api.close();
+        server.close();
+    }
+
+    @Benchmark
+    public int highestSalary() {
+        employeeCache.invalidate();
+        return employeeService.getHighestSalaryOfEmployees();
+    }
+
+    @Benchmark
+    public List<Employee> topTen() {
+        employeeCache.invalidate();
+        return employeeService.getTopTenHighestEarningEmployeeNames();
+    }
+
+    private void printResponseSizes(String upstream) throws IOException, InterruptedException {
+        HttpClient client = HttpClient.newHttpClient();
+        for (String path : List.of(
+                "",
+                "/query?sort=salary&order=desc&limit=10",
+                "/aggregate",
+                "/aggregate?percentiles=100&countByTitle=false",
+                "/stats?countByTitle=false")) {
+            HttpResponse<byte[]> response = client.send(
+                    HttpRequest.newBuilder(URI.create(upstream + path)).build(),
+                    HttpResponse.BodyHandlers.ofByteArray());
+            System.out.printf("%nGET %s: %d bytes for %d employees", path, response.body().length, employees);
+        }
+        System.out.println();
+    }
+}
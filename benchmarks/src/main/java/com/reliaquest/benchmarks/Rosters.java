@@ -0,0 +1,95 @@
+package com.reliaquest.benchmarks;
+
+import com.reliaquest.api.models.Employee;
+import com.reliaquest.server.model.MockEmployee;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.UUID;
+
+/**
+ * Deterministic rosters shaped like the mock server data, so runs are comparable across machines.
+ */
+final class Rosters {
+
+    private static final long SEED = 42L;
+
+    private static final String[] FIRST_NAMES = {
+        "Tiger", "Bill", "Jill", "Ashton", "Cedric", "Airi", "Brielle", "Herrod", "Rhona", "Colleen", "Sonya", "Jena",
+        "Quinn", "Charde", "Haley", "Tatyana", "Michael", "Paul", "Gloria", "Bradley", "Dai", "Jenette", "Yuri", "Cara"
+    };
+    private static final String[] LAST_NAMES = {
+        "Nixon", "Bob", "Jenkins", "Cox", "Kelly", "Satou", "Williamson", "Chandler", "Davidson", "Hurst", "Frost",
+        "Gaines", "Flynn", "Marshall", "Kennedy", "Fitzpatrick", "Silva", "Byrd", "Little", "Greer", "Rios", "Caldwell"
+    };
+    private static final String[] TITLES = {
+        "Accountant",
+        "Software Engineer",
+        "Financial Advisor",
+        "Documentation Engineer",
+        "Regional Director",
+        "Sales Assistant",
+        "Integration Specialist",
+        "Javascript Developer",
+        "Systems Administrator",
+        "Senior Marketing Designer"
+    };
+
+    private Rosters() {}
+
+    static List<Employee> employees(int size) {
+        SplittableRandom random = new SplittableRandom(SEED);
+        List<Employee> employees = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            String firstName = FIRST_NAMES[random.nextInt(FIRST_NAMES.length)];
+            String lastName = LAST_NAMES[random.nextInt(LAST_NAMES.length)];
+            employees.add(new Employee(
+                    new UUID(random.nextLong(), random.nextLong()).toString(),
+                    firstName + " " + lastName,
+                    random.nextInt(30000, 500000),
+                    random.nextInt(16, 70),
+                    TITLES[random.nextInt(TITLES.length)],
+                    (firstName.charAt(0) + lastName + i).toLowerCase() + "@company.com"));
+        }
+        return employees;
+    }
+
+    /**
+     * The same roster as the mock server stores it. Names get the position appended so that deleting
+     * by name removes exactly one employee.
+     */
+    static List<MockEmployee> mockEmployees(List<Employee> employees) {
+        List<MockEmployee> mockEmployees = new ArrayList<>(employees.size());
+        for (int i = 0; i < employees.size(); i++) {
+            Employee employee = employees.get(i);
+            mockEmployees.add(new MockEmployee(
+                    UUID.fromString(employee.getId()),
+                    employee.getName() + " " + i,
+                    employee.getSalary(),
+                    employee.getAge(),
+                    employee.getTitle(),
+                    employee.getEmail()));
+        }
+        return mockEmployees;
+    }
+
+    /**
+     * The roster as the mock server writes it, with numeric salary and age.
+     */
+    static List<Map<String, Object>> upstreamPayload(List<Employee> employees) {
+        List<Map<String, Object>> payload = new ArrayList<>(employees.size());
+        for (Employee employee : employees) {
+            Map<String, Object> json = new LinkedHashMap<>();
+            json.put("id", employee.getId());
+            json.put("employee_name", employee.getName());
+            json.put("employee_salary", employee.getSalary());
+            json.put("employee_age", employee.getAge());
+            json.put("employee_title", employee.getTitle());
+            json.put("employee_email", employee.getEmail());
+            payload.add(json);
+        }
+        return payload;
+    }
+}
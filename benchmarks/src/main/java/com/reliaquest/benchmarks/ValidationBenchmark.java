@@ -0,0 +1,58 @@
+package com.reliaquest.benchmarks;
+
+import com.reliaquest.api.exception.ValidationException;
+import com.reliaquest.api.request.EmployeeRequest;
+import com.reliaquest.api.service.EmployeeService;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * {@link EmployeeService#validateEmployeeRequest} on an accepted input and on one rejected by the
+ * last check, which walks every rule and then pays for the exception.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ValidationBenchmark {
+
+    private EmployeeService employeeService;
+    private Map<String, Object> validInput;
+    private Map<String, Object> invalidInput;
+
+    @Setup
+    public void setUp() {
+        employeeService = new EmployeeService(null, null, null, null, null);
+        validInput = new HashMap<>(Map.of("name", "Jill Jenkins", "salary", 139082, "age", 48, "title", "Advisor"));
+        invalidInput = new HashMap<>(validInput);
+        invalidInput.put("title", " ");
+    }
+
+    @Benchmark
+    public EmployeeRequest validInput() {
+        return employeeService.validateEmployeeRequest(validInput);
+    }
+
+    @Benchmark
+    public ValidationException invalidInput() {
+        try {
+            employeeService.validateEmployeeRequest(invalidInput);
+            throw new IllegalStateException("input was expected to be rejected");
+        } catch (ValidationException e) {
+            return e;
+        }
+    }
+}
@@ -0,0 +1,92 @@
+package com.reliaquest.benchmarks;
+
+import com.fasterxml.jackson.annotation.JsonFormat;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileGenerator;
+import com.reliaquest.api.models.Employee;
+import com.reliaquest.api.response.EmployeeResponse;
+import com.reliaquest.server.model.MockEmployee;
+import com.reliaquest.server.model.Response;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.zip.GZIPOutputStream;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * The full-list payload in each {@code employee.client.wire-format}: the server encoding
+ * {@link MockEmployee}s with the settings of its message converter, and the api decoding them into
+ * an {@link EmployeeResponse}. Setup prints the payload size, raw and gzipped as the server's
+ * response compression would send it.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class WireFormatBenchmark {
+
+    @Param({"json", "smile"})
+    private String format;
+
+    @Param({"10000", "100000"})
+    private int size;
+
+    private ObjectMapper serverMapper;
+    private ObjectMapper apiMapper;
+    private Response<List<MockEmployee>> roster;
+    private byte[] payload;
+
+    @Setup
+    public void setUp() throws IOException {
+        ObjectMapper json = new ObjectMapper().findAndRegisterModules();
+        if (format.equals("smile")) {
+            serverMapper = json.copyWith(SmileFactory.builder()
+                    .enable(SmileGenerator.Feature.CHECK_SHARED_STRING_VALUES)
+                    .build());
+            serverMapper.configOverride(UUID.class).setFormat(JsonFormat.Value.forShape(JsonFormat.Shape.STRING));
+            apiMapper = json.copyWith(new SmileFactory());
+        } else {
+            serverMapper = json;
+            apiMapper = json;
+        }
+        List<Employee> employees = Rosters.employees(size);
+        roster = Response.handledWith(Rosters.mockEmployees(employees));
+        payload = serverMapper.writeValueAsBytes(roster);
+        System.out.printf(
+                "%n%s payload for %d employees: %d bytes (%.1f per employee), %d bytes gzipped%n",
+                format, size, payload.length, (double) payload.length / size, gzipped(payload));
+    }
+
+    @Benchmark
+    public byte[] encode() throws IOException {
+        return serverMapper.writeValueAsBytes(roster);
+    }
+
+    @Benchmark
+    public EmployeeResponse decode() throws IOException {
+        return apiMapper.readValue(payload, EmployeeResponse.class);
+    }
+
+    private static int gzipped(byte[] payload) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        try (GZIPOutputStream gzip = new GZIPOutputStream(out)) {
+            gzip.write(payload);
+        }
+        return out.size();
+    }
+}
@@ -0,0 +1,229 @@
+package com.reliaquest.loadtest;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.io.IOException;
+import java.net.URI;
+import java.net.URLEncoder;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Open-model load generator: request {@code i} is due at {@code start + i / rate} whether or not
+ * earlier requests have completed, and its latency is measured from that due time. A closed loop
+ * that waits for each response before sending the next would slow down with the system under test
+ * and hide exactly the stalls that make up the tail.
+ */
+final class LoadGenerator {
+
+    private static final Logger log = LoggerFactory.getLogger(LoadGenerator.class);
+
+    private final LoadTestOptions options;
+    private final URI baseUri;
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final ExecutorService clientExecutor =
+            Executors.newFixedThreadPool(Math.max(4, Runtime.getRuntime().availableProcessors()), runnable -> {
+                Thread thread = new Thread(runnable, "loadtest-client");
+                thread.setDaemon(true);
+                return thread;
+            });
+    private final HttpClient client;
+
+    private final Map<Operation, OperationStats> stats = new EnumMap<>(Operation.class);
+    private final Operation[] operations;
+    private final int[] cumulativeWeights;
+    private final List<String> ids = new ArrayList<>();
+    private final List<String> names = new ArrayList<>();
+    private final ConcurrentLinkedQueue<String> createdIds = new ConcurrentLinkedQueue<>();
+    private final Semaphore inFlight;
+
+    LoadGenerator(LoadTestOptions options, URI baseUri) {
+        this.options = options;
+        this.baseUri = baseUri;
+        this.client = HttpClient.newBuilder()
+                .connectTimeout(Duration.ofSeconds(2))
+                .executor(clientExecutor)
+                .build();
+        this.inFlight = new Semaphore(options.maxInFlight());
+
+        List<Operation> weighted = new ArrayList<>();
+        List<Integer> cumulative = new ArrayList<>();
+        int total = 0;
+        for (Map.Entry<Operation, Integer> entry : options.mix().entrySet()) {
+            if (entry.getValue() > 0) {
+                total += entry.getValue();
+                weighted.add(entry.getKey());
+                cumulative.add(total);
+            }
+        }
+        this.operations = weighted.toArray(Operation[]::new);
+        this.cumulativeWeights = cumulative.stream().mapToInt(Integer::intValue).toArray();
+        for (Operation operation : Operation.values()) {
+            stats.put(operation, new OperationStats());
+        }
+    }
+
+    /**
+     * Reads the roster from the mock server once, so that lookups by id and name hit real
+     * employees without the run's own traffic deciding which.
+     */
+    void loadRoster(URI serverUri) throws IOException, InterruptedException {
+        HttpResponse<String> response =
+                client.send(HttpRequest.newBuilder(serverUri).GET().build(), HttpResponse.BodyHandlers.ofString());
+        if (response.statusCode() != 200) {
+            throw new IllegalStateException("Mock server answered " + response.statusCode() + " to the roster read");
+        }
+        for (JsonNode employee : objectMapper.readTree(response.body()).path("data")) {
+            ids.add(employee.path("id").asText());
+            names.add(employee.path("employee_name").asText());
+        }
+        if (ids.isEmpty()) {
+            throw new IllegalStateException("Mock server has no employees to load test against");
+        }
+    }
+
+    Map<Operation, OperationStats> run() {
+        SplittableRandom random = new SplittableRandom(options.seed());
+        long intervalNanos = TimeUnit.SECONDS.toNanos(1) / options.rate();
+        long start = System.nanoTime();
+        long measureFrom = start + options.warmup().toNanos();
+        long end = measureFrom + options.duration().toNanos();
+        boolean measuring = options.warmup().isZero();
+
+        for (long i = 0; ; i++) {
+            long due = start + i * intervalNanos;
+            if (due >= end) {
+                break;
+            }
+            if (!measuring && due >= measureFrom) {
+                stats.values().forEach(OperationStats::reset);
+                measuring = true;
+            }
+            long wait = due - System.nanoTime();
+            if (wait > 0) {
+                LockSupport.parkNanos(wait);
+            }
+            send(pick(random), random, due);
+        }
+        awaitInFlight();
+        return stats;
+    }
+
+    void close() {
+        clientExecutor.shutdownNow();
+    }
+
+    private void send(Operation operation, SplittableRandom random, long due) {
+        OperationStats operationStats = stats.get(operation);
+        HttpRequest request = request(operation, random);
+        if (request == null) {
+            operationStats.recordSkipped();
+            return;
+        }
+        if (!inFlight.tryAcquire()) {
+            operationStats.recordDropped();
+            return;
+        }
+        client.sendAsync(request, HttpResponse.BodyHandlers.ofString()).whenComplete((response, failure) -> {
+            long latency = System.nanoTime() - due;
+            inFlight.release();
+            if (failure != null) {
+                operationStats.recordError(latency);
+                return;
+            }
+            operationStats.record(response.statusCode(), latency);
+            if (operation == Operation.CREATE && response.statusCode() == 201) {
+                rememberCreated(response.body());
+            }
+        });
+    }
+
+    private HttpRequest request(Operation operation, SplittableRandom random) {
+        HttpRequest.Builder builder =
+                switch (operation) {
+                    case ALL -> get("");
+                    case SEARCH -> get("/search/" + encode(searchFragment(random)));
+                    case BY_ID -> get("/" + ids.get(random.nextInt(ids.size())));
+                    case HIGHEST_SALARY -> get("/highestSalary");
+                    case TOP_TEN -> get("/topTenHighestEarningEmployeeNames");
+                    case CREATE -> HttpRequest.newBuilder(baseUri)
+                            .header("Content-Type", "application/json")
+                            .POST(HttpRequest.BodyPublishers.ofString(newEmployee(random)));
+                    case DELETE -> {
+                        String id = createdIds.poll();
+                        yield id == null
+                                ? null
+                                : HttpRequest.newBuilder(URI.create(baseUri + "/" + id))
+                                        .DELETE();
+                    }
+                };
+        return builder == null ? null : builder.timeout(options.timeout()).build();
+    }
+
+    private HttpRequest.Builder get(String path) {
+        return HttpRequest.newBuilder(URI.create(baseUri + path)).GET();
+    }
+
+    private String searchFragment(SplittableRandom random) {
+        String name = names.get(random.nextInt(names.size()));
+        return name.substring(0, Math.min(name.length(), 3));
+    }
+
+    private String newEmployee(SplittableRandom random) {
+        return String.format(
+                "{\"name\":\"Load Test %d\",\"salary\":%d,\"age\":%d,\"title\":\"Tester\"}",
+                random.nextInt(1_000_000), random.nextInt(10_000, 500_000), random.nextInt(18, 70));
+    }
+
+    private void rememberCreated(String body) {
+        try {
+            JsonNode id = objectMapper.readTree(body).get("id");
+            if (id != null) {
+                createdIds.add(id.asText());
+            }
+        } catch (IOException e) {
+            log.warn("Unreadable create response: {}", e.getMessage());
+        }
+    }
+
+    private Operation pick(SplittableRandom random) {
+        int roll = random.nextInt(cumulativeWeights[cumulativeWeights.length - 1]);
+        for (int i = 0; i < cumulativeWeights.length; i++) {
+            if (roll < cumulativeWeights[i]) {
+                return operations[i];
+            }
+        }
+        throw new IllegalStateException("Weighted pick out of range");
+    }
+
+    private void awaitInFlight() {
+        try {
+            if (!inFlight.tryAcquire(
+                    options.maxInFlight(), options.timeout().toMillis() + 1_000, TimeUnit.MILLISECONDS)) {
+                log.warn("Requests still outstanding at the end of the run");
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static String encode(String value) {
+        return URLEncoder.encode(value, StandardCharsets.UTF_8).replace("+", "%20");
+    }
+}
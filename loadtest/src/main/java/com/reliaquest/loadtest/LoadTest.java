@@ -0,0 +1,88 @@
+package com.reliaquest.loadtest;
+
+import com.reliaquest.api.ApiApplication;
+import com.reliaquest.server.ServerApplication;
+import java.net.URI;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+
+/**
+ * Boots the mock server and the api in this JVM on random ports, drives the api's endpoints at a
+ * fixed arrival rate and prints latency percentiles and 429 rates per endpoint.
+ *
+ * <p>Both applications run with their own config file, {@code loadtest-server.yml} and
+ * {@code loadtest-api.yml}, because their {@code application.yml} files share the classpath here.
+ */
+public final class LoadTest {
+
+    private static final String EMPLOYEE_PATH = "/api/v1/employee";
+
+    private LoadTest() {}
+
+    public static void main(String[] args) throws Exception {
+        LoadTestOptions options = LoadTestOptions.parse(args);
+
+        List<String> serverArgs = new ArrayList<>(List.of(
+                "--spring.config.name=loadtest-server",
+                "--server.port=0",
+                "--mock.employees.max=" + options.employees()));
+        serverArgs.addAll(options.rateLimitArgs());
+        serverArgs.addAll(options.serverArgs());
+
+        try (ConfigurableApplicationContext server =
+                new SpringApplicationBuilder(ServerApplication.class).run(serverArgs.toArray(String[]::new))) {
+            URI serverUri = URI.create("http://localhost:" + port(server) + EMPLOYEE_PATH);
+
+            List<String> apiArgs = new ArrayList<>(List.of(
+                    "--spring.config.name=loadtest-api",
+                    "--server.port=0",
+                    "--employee.upstream.url=" + serverUri,
+                    "--employee.client.mode=" + options.clientMode()));
+            apiArgs.addAll(options.apiArgs());
+
+            try (ConfigurableApplicationContext api =
+                    new SpringApplicationBuilder(ApiApplication.class).run(apiArgs.toArray(String[]::new))) {
+                URI apiUri = URI.create("http://localhost:" + port(api) + EMPLOYEE_PATH);
+                LoadGenerator generator = new LoadGenerator(options, apiUri);
+                try {
+                    generator.loadRoster(serverUri);
+                    System.out.printf(
+                            "Running %d req/s for %s after %s warmup against %d employees (rate limit %s, %s"
+                                    + " client)%n",
+                            options.rate(),
+                            options.duration(),
+                            options.warmup(),
+                            options.employees(),
+                            options.rateLimit(),
+                            options.clientMode());
+                    report(generator.run(), options);
+                } finally {
+                    generator.close();
+                }
+            }
+        }
+    }
+
+    private static void report(Map<Operation, OperationStats> stats, LoadTestOptions options) {
+        OperationStats total = new OperationStats();
+        System.out.println(OperationStats.header());
+        for (Map.Entry<Operation, OperationStats> entry : stats.entrySet()) {
+            if (options.mix().getOrDefault(entry.getKey(), 0) > 0) {
+                System.out.println(entry.getValue().format(entry.getKey().key()));
+                total.add(entry.getValue());
+            }
+        }
+        System.out.println(total.format("total"));
+        System.out.printf(
+                "Completed %.1f req/s of %d req/s offered%n",
+                total.count() / (options.duration().toNanos() / 1e9), options.rate());
+    }
+
+    private static int port(ConfigurableApplicationContext context) {
+        return ((WebServerApplicationContext) context).getWebServer().getPort();
+    }
+}
@@ -0,0 +1,141 @@
+package com.reliaquest.loadtest;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import org.springframework.boot.convert.DurationStyle;
+
+/**
+ * Options of a load run, given as {@code key=value} arguments. Arguments prefixed with {@code api.}
+ * or {@code server.} are handed to that application as {@code --key=value}.
+ *
+ * <ul>
+ *   <li>{@code rate}: requests per second, sent at a fixed arrival rate (default 100)
+ *   <li>{@code duration} and {@code warmup}: measured and unmeasured run time (default 30s and 5s)
+ *   <li>{@code mix}: relative weight per operation, e.g. {@code all:1,byId:4} (see {@link Operation})
+ *   <li>{@code employees}: roster size of the mock server (default 1000)
+ *   <li>{@code rate-limit}: {@code off} (default), {@code random}, or {@code <requests>/<backoff>}
+ *   <li>{@code client-mode}: {@code blocking} or {@code non-blocking} upstream client of the api
+ *   <li>{@code max-in-flight}: requests outstanding before further sends are dropped (default 1000)
+ *   <li>{@code timeout}: per-request timeout (default 10s), and {@code seed} for the operation mix
+ * </ul>
+ */
+public record LoadTestOptions(
+        int rate,
+        Duration duration,
+        Duration warmup,
+        Map<Operation, Integer> mix,
+        int employees,
+        String rateLimit,
+        String clientMode,
+        int maxInFlight,
+        Duration timeout,
+        long seed,
+        List<String> apiArgs,
+        List<String> serverArgs) {
+
+    static final String DEFAULT_MIX = "all:10,search:20,byId:40,highestSalary:10,topTen:10,create:5,delete:5";
+
+    public LoadTestOptions {
+        if (rate <= 0) {
+            throw new IllegalArgumentException("rate must be positive");
+        }
+        if (mix.values().stream().mapToInt(Integer::intValue).sum() <= 0) {
+            throw new IllegalArgumentException("mix must give at least one operation a positive weight");
+        }
+    }
+
+    public static LoadTestOptions parse(String... args) {
+        int rate = 100;
+        Duration duration = Duration.ofSeconds(30);
+        Duration warmup = Duration.ofSeconds(5);
+        String mix = DEFAULT_MIX;
+        int employees = 1000;
+        String rateLimit = "off";
+        String clientMode = "blocking";
+        int maxInFlight = 1000;
+        Duration timeout = Duration.ofSeconds(10);
+        long seed = 42;
+        List<String> apiArgs = new ArrayList<>();
+        List<String> serverArgs = new ArrayList<>();
+
+        for (String arg : args) {
+            int separator = arg.indexOf('=');
+            if (separator < 0) {
+                throw new IllegalArgumentException("Expected key=value but got '" + arg + "'");
+            }
+            String key = arg.substring(0, separator);
+            String value = arg.substring(separator + 1);
+            if (key.startsWith("api.")) {
+                apiArgs.add("--" + key.substring("api.".length()) + "=" + value);
+                continue;
+            }
+            if (key.startsWith("server.")) {
+                serverArgs.add("--" + key.substring("server.".length()) + "=" + value);
+                continue;
+            }
+            switch (key) {
+                case "rate" -> rate = Integer.parseInt(value);
+                case "duration" -> duration = DurationStyle.detectAndParse(value);
+                case "warmup" -> warmup = DurationStyle.detectAndParse(value);
+                case "mix" -> mix = value;
+                case "employees" -> employees = Integer.parseInt(value);
+                case "rate-limit" -> rateLimit = value;
+                case "client-mode" -> clientMode = value;
+                case "max-in-flight" -> maxInFlight = Integer.parseInt(value);
+                case "timeout" -> timeout = DurationStyle.detectAndParse(value);
+                case "seed" -> seed = Long.parseLong(value);
+                default -> throw new IllegalArgumentException("Unknown option '" + key + "'");
+            }
+        }
+        return new LoadTestOptions(
+                rate,
+                duration,
+                warmup,
+                parseMix(mix),
+                employees,
+                rateLimit,
+                clientMode,
+                maxInFlight,
+                timeout,
+                seed,
+                List.copyOf(apiArgs),
+                List.copyOf(serverArgs));
+    }
+
+    /**
+     * Settings for the mock server's request limit. {@code off} disables it so that a run only
+     * measures the services; {@code random} keeps the server's random limits.
+     */
+    List<String> rateLimitArgs() {
+        if (rateLimit.equalsIgnoreCase("off")) {
+            return List.of("--mock.rate-limit.enabled=false");
+        }
+        if (rateLimit.equalsIgnoreCase("random")) {
+            return List.of("--mock.rate-limit.enabled=true");
+        }
+        String[] parts = rateLimit.split("/", 2);
+        if (parts.length != 2) {
+            throw new IllegalArgumentException("rate-limit must be off, random or <requests>/<backoff>");
+        }
+        return List.of(
+                "--mock.rate-limit.enabled=true",
+                "--mock.rate-limit.requests=" + Integer.parseInt(parts[0]),
+                "--mock.rate-limit.backoff=" + DurationStyle.detectAndParse(parts[1]));
+    }
+
+    private static Map<Operation, Integer> parseMix(String mix) {
+        Map<Operation, Integer> weights = new EnumMap<>(Operation.class);
+        for (String entry : mix.split(",")) {
+            String[] parts = entry.trim().split(":", 2);
+            int weight = parts.length == 2 ? Integer.parseInt(parts[1].trim()) : 1;
+            if (weight < 0) {
+                throw new IllegalArgumentException("Negative weight for " + parts[0]);
+            }
+            weights.merge(Operation.fromKey(parts[0].trim()), weight, Integer::sum);
+        }
+        return weights;
+    }
+}
@@ -0,0 +1,35 @@
+package com.reliaquest.loadtest;
+
+import java.util.Arrays;
+
+/**
+ * The {@code IEmployeeController} endpoints a load run can mix, keyed by the name used in the
+ * {@code mix} option.
+ */
+public enum Operation {
+    ALL("all"),
+    SEARCH("search"),
+    BY_ID("byId"),
+    HIGHEST_SALARY("highestSalary"),
+    TOP_TEN("topTen"),
+    CREATE("create"),
+    DELETE("delete");
+
+    private final String key;
+
+    Operation(String key) {
+        this.key = key;
+    }
+
+    public String key() {
+        return key;
+    }
+
+    public static Operation fromKey(String key) {
+        return Arrays.stream(values())
+                .filter(operation -> operation.key.equalsIgnoreCase(key))
+                .findFirst()
+                .orElseThrow(() -> new IllegalArgumentException("Unknown operation '" + key + "', expected one of "
+                        + Arrays.stream(values()).map(Operation::key).toList()));
+    }
+}
@@ -0,0 +1,117 @@
+package com.reliaquest.loadtest;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import org.HdrHistogram.ConcurrentHistogram;
+import org.HdrHistogram.Histogram;
+
+/**
+ * Response times and outcomes of one operation. Times are recorded in microseconds from the
+ * request's intended send time, so that a stalled system is charged for the requests it delayed.
+ */
+final class OperationStats {
+
+    private static final long HIGHEST_TRACKABLE_MICROS = TimeUnit.MINUTES.toMicros(5);
+
+    private final Histogram latency = new ConcurrentHistogram(HIGHEST_TRACKABLE_MICROS, 3);
+    private final LongAdder succeeded = new LongAdder();
+    private final LongAdder tooManyRequests = new LongAdder();
+    private final LongAdder failed = new LongAdder();
+    private final LongAdder errors = new LongAdder();
+    private final LongAdder dropped = new LongAdder();
+    private final LongAdder skipped = new LongAdder();
+
+    void record(int status, long latencyNanos) {
+        latency.recordValue(Math.min(TimeUnit.NANOSECONDS.toMicros(latencyNanos), HIGHEST_TRACKABLE_MICROS));
+        if (status == 429) {
+            tooManyRequests.increment();
+        } else if (status >= 200 && status < 300) {
+            succeeded.increment();
+        } else {
+            failed.increment();
+        }
+    }
+
+    /** A request that got no response, e.g. a timeout or a refused connection. */
+    void recordError(long latencyNanos) {
+        latency.recordValue(Math.min(TimeUnit.NANOSECONDS.toMicros(latencyNanos), HIGHEST_TRACKABLE_MICROS));
+        errors.increment();
+    }
+
+    /** A request not sent because {@code max-in-flight} requests were outstanding. */
+    void recordDropped() {
+        dropped.increment();
+    }
+
+    /** A request not sent because there was nothing to send, e.g. a delete before any create. */
+    void recordSkipped() {
+        skipped.increment();
+    }
+
+    void add(OperationStats other) {
+        latency.add(other.latency);
+        succeeded.add(other.succeeded.sum());
+        tooManyRequests.add(other.tooManyRequests.sum());
+        failed.add(other.failed.sum());
+        errors.add(other.errors.sum());
+        dropped.add(other.dropped.sum());
+        skipped.add(other.skipped.sum());
+    }
+
+    void reset() {
+        latency.reset();
+        succeeded.reset();
+        tooManyRequests.reset();
+        failed.reset();
+        errors.reset();
+        dropped.reset();
+        skipped.reset();
+    }
+
+    long count() {
+        return latency.getTotalCount();
+    }
+
+    long tooManyRequests() {
+        return tooManyRequests.sum();
+    }
+
+    String format(String name) {
+        long count = count();
+        return String.format(
+                "%-14s %9d %9d %7d %7.2f%% %7d %7d %7d %9.2f %9.2f %9.2f %9.2f",
+                name,
+                count,
+                succeeded.sum(),
+                tooManyRequests.sum(),
+                count == 0 ? 0.0 : 100.0 * tooManyRequests.sum() / count,
+                failed.sum() + errors.sum(),
+                dropped.sum(),
+                skipped.sum(),
+                millis(latency.getValueAtPercentile(50)),
+                millis(latency.getValueAtPercentile(99)),
+                millis(latency.getValueAtPercentile(99.9)),
+                millis(latency.getMaxValue()));
+    }
+
+    static String header() {
+        return String.format(
+                "%-14s %9s %9s %7s %8s %7s %7s %7s %9s %9s %9s %9s",
+                "operation",
+                "requests",
+                "2xx",
+                "429",
+                "429 rate",
+                "errors",
+                "dropped",
+                "skipped",
+                "p50 ms",
+                "p99 ms",
+                "p999 ms",
+                "max ms");
+    }
+
+    private static double millis(long micros) {
+        return micros / 1000.0;
+    }
+}
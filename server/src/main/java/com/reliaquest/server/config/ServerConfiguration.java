@@ -1,40 +1,53 @@
 package com.reliaquest.server.config;
 
+import com.fasterxml.jackson.annotation.JsonFormat;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileGenerator;
 import com.reliaquest.server.model.MockEmployee;
+import com.reliaquest.server.service.MockEmployeeStore;
 import com.reliaquest.server.web.RandomRequestLimitInterceptor;
-import java.util.ArrayList;
-import java.util.List;
+import java.time.Duration;
 import java.util.Locale;
 import java.util.UUID;
-import java.util.stream.Collectors;
 import java.util.stream.IntStream;
+import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import net.datafaker.Faker;
 import net.datafaker.transformations.Field;
 import net.datafaker.transformations.JavaObjectTransformer;
 import net.datafaker.transformations.Schema;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.http.converter.smile.MappingJackson2SmileHttpMessageConverter;
 import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
 import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
 
 @Slf4j
 @Configuration
+@RequiredArgsConstructor
 public class ServerConfiguration implements WebMvcConfigurer {
 
     public static final String EMAIL_TEMPLATE = "%s@company.com";
 
+    private final ObjectProvider<RandomRequestLimitInterceptor> requestLimitInterceptor;
+
     @Bean
     public Faker faker() {
         return new Faker(Locale.getDefault());
     }
 
     /*
-     * This list is modifiable by design for CRUD operations.
+     * This store is modifiable by design for CRUD operations.
      */
     @Bean
-    public List<MockEmployee> mockEmployees(Faker faker, @Value("${mock.employees.max:20}") int maxEmployees) {
+    public MockEmployeeStore mockEmployees(
+            Faker faker,
+            @Value("${mock.employees.max:20}") int maxEmployees,
+            @Value("${mock.employees.change-log.max:10000}") int changeLogCapacity) {
         final var transformer = new JavaObjectTransformer();
         final var schema = Schema.of(
                 Field.field("id", UUID::randomUUID),
@@ -46,14 +59,48 @@ public class ServerConfiguration implements WebMvcConfigurer {
                         "email",
                         () -> EMAIL_TEMPLATE.formatted(
                                 faker.twitter().userName().toLowerCase())));
-        return IntStream.rangeClosed(1, maxEmployees)
+        final var mockEmployees = new MockEmployeeStore(changeLogCapacity);
+        IntStream.rangeClosed(1, maxEmployees)
                 .mapToObj(ignored -> (MockEmployee) transformer.apply(MockEmployee.class, schema))
                 .peek(mockEmployee -> log.debug("Created employee: {}", mockEmployee))
-                .collect(Collectors.toCollection(ArrayList::new));
+                .forEach(mockEmployees::add);
+        return mockEmployees;
+    }
+
+    /*
+     * Smile for callers that ask for it with Accept: application/x-jackson-smile; JSON stays the default.
+     * Same mapper settings as the JSON converter, and repeated string values such as job titles are
+     * written once and referenced after that. UUIDs are kept as strings, as Jackson would otherwise write
+     * them as native binary and the ids would no longer match the JSON contract.
+     */
+    @Bean
+    public MappingJackson2SmileHttpMessageConverter smileHttpMessageConverter(ObjectMapper objectMapper) {
+        final var smileFactory = SmileFactory.builder()
+                .enable(SmileGenerator.Feature.CHECK_SHARED_STRING_VALUES)
+                .build();
+        final var smileMapper = objectMapper.copyWith(smileFactory);
+        smileMapper.configOverride(UUID.class).setFormat(JsonFormat.Value.forShape(JsonFormat.Shape.STRING));
+        return new MappingJackson2SmileHttpMessageConverter(smileMapper);
+    }
+
+    /*
+     * Unset limits are picked at random on startup. Load tests pin or disable them for repeatable runs.
+     */
+    @Bean
+    @ConditionalOnProperty(name = "mock.rate-limit.enabled", havingValue = "true", matchIfMissing = true)
+    public RandomRequestLimitInterceptor randomRequestLimitInterceptor(
+            @Value("${mock.rate-limit.requests:#{null}}") Integer requests,
+            @Value("${mock.rate-limit.backoff:#{null}}") Duration backoff) {
+        final var interceptor = new RandomRequestLimitInterceptor(requests, backoff);
+        log.info(
+                "Rate limiting to {} requests, then backing off for {}",
+                interceptor.getRequestLimit(),
+                interceptor.getBackoff());
+        return interceptor;
     }
 
     @Override
     public void addInterceptors(InterceptorRegistry registry) {
-        registry.addInterceptor(new RandomRequestLimitInterceptor());
+        requestLimitInterceptor.ifAvailable(registry::addInterceptor);
     }
 }
@@ -1,15 +1,24 @@
 package com.reliaquest.server.controller;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
 import com.reliaquest.server.model.CreateMockEmployeeInput;
 import com.reliaquest.server.model.DeleteMockEmployeeInput;
 import com.reliaquest.server.model.MockEmployee;
+import com.reliaquest.server.model.MockEmployeeAggregates;
+import com.reliaquest.server.model.MockEmployeeChanges;
+import com.reliaquest.server.model.MockEmployeePage;
+import com.reliaquest.server.model.MockEmployeeQuery;
+import com.reliaquest.server.model.MockEmployeeStats;
 import com.reliaquest.server.model.Response;
 import com.reliaquest.server.service.MockEmployeeService;
 import jakarta.validation.Valid;
 import java.util.List;
+import java.util.Locale;
 import java.util.UUID;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
@@ -17,18 +26,116 @@ import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 @RestController
 @RequestMapping("/api/v1/employee")
 @RequiredArgsConstructor
 public class MockEmployeeController {
 
+    public static final String NDJSON_VALUE = "application/x-ndjson";
+
     private final MockEmployeeService mockEmployeeService;
 
+    private final ObjectMapper objectMapper;
+
+    /*
+     * Spring answers 304 without writing the body when If-None-Match matches the ETag set here. The ETag
+     * is the roster version whichever format the body is in, so caches are told to key on Accept too.
+     */
     @GetMapping()
-    public Response<List<MockEmployee>> getEmployees() {
-        return Response.handledWith(mockEmployeeService.getMockEmployees());
+    public ResponseEntity<Response<List<MockEmployee>>> getEmployees() {
+        final var roster = mockEmployeeService.getTaggedMockEmployees();
+        return ResponseEntity.ok()
+                .eTag(roster.etag())
+                .varyBy(HttpHeaders.ACCEPT)
+                .body(Response.handledWith(roster.value()));
+    }
+
+    @GetMapping(params = "limit")
+    public Response<MockEmployeePage> getEmployeePage(
+            @RequestParam("limit") int limit, @RequestParam(value = "cursor", required = false) String cursor) {
+        return Response.handledWith(mockEmployeeService.getMockEmployeePage(limit, cursor));
+    }
+
+    /*
+     * Writes one employee per line while walking the store, so memory does not grow with the roster.
+     */
+    @GetMapping(value = "/stream", produces = NDJSON_VALUE)
+    public ResponseEntity<StreamingResponseBody> streamEmployees() {
+        return ResponseEntity.ok()
+                .contentType(MediaType.parseMediaType(NDJSON_VALUE))
+                .body(outputStream -> {
+                    try (var generator = objectMapper.createGenerator(outputStream);
+                            var employees = mockEmployeeService.streamMockEmployees()) {
+                        generator.setRootValueSeparator(null);
+                        final var iterator = employees.iterator();
+                        while (iterator.hasNext()) {
+                            objectMapper.writeValue(generator, iterator.next());
+                            generator.writeRaw('\n');
+                        }
+                    }
+                });
+    }
+
+    @GetMapping("/changes")
+    public Response<MockEmployeeChanges> getChanges(@RequestParam(value = "since", defaultValue = "0") long since) {
+        return Response.handledWith(mockEmployeeService.getChangesSince(since));
+    }
+
+    /*
+     * Filtering, ordering and limiting happen here so that the response scales with the result rather
+     * than with the roster.
+     */
+    @GetMapping("/query")
+    public Response<List<MockEmployee>> queryEmployees(
+            @RequestParam(value = "name", required = false) String name,
+            @RequestParam(value = "ignoreCase", defaultValue = "false") boolean ignoreCase,
+            @RequestParam(value = "ignoreAccents", defaultValue = "false") boolean ignoreAccents,
+            @RequestParam(value = "minSalary", required = false) Integer minSalary,
+            @RequestParam(value = "maxSalary", required = false) Integer maxSalary,
+            @RequestParam(value = "minAge", required = false) Integer minAge,
+            @RequestParam(value = "maxAge", required = false) Integer maxAge,
+            @RequestParam(value = "sort", required = false) String sort,
+            @RequestParam(value = "order", defaultValue = "asc") String order,
+            @RequestParam(value = "limit", required = false) Integer limit) {
+        return Response.handledWith(mockEmployeeService.query(new MockEmployeeQuery(
+                name,
+                ignoreCase,
+                ignoreAccents,
+                minSalary,
+                maxSalary,
+                minAge,
+                maxAge,
+                MockEmployeeQuery.SortField.parse(sort),
+                descending(order),
+                limit)));
+    }
+
+    @GetMapping("/aggregate")
+    public Response<MockEmployeeAggregates> aggregateEmployees(
+            @RequestParam(value = "name", required = false) String name,
+            @RequestParam(value = "ignoreCase", defaultValue = "false") boolean ignoreCase,
+            @RequestParam(value = "ignoreAccents", defaultValue = "false") boolean ignoreAccents,
+            @RequestParam(value = "minSalary", required = false) Integer minSalary,
+            @RequestParam(value = "maxSalary", required = false) Integer maxSalary,
+            @RequestParam(value = "minAge", required = false) Integer minAge,
+            @RequestParam(value = "maxAge", required = false) Integer maxAge,
+            @RequestParam(value = "percentiles", defaultValue = "50,90,99") List<Double> percentiles,
+            @RequestParam(value = "countByTitle", defaultValue = "true") boolean countByTitle) {
+        final var filter = new MockEmployeeQuery(
+                name, ignoreCase, ignoreAccents, minSalary, maxSalary, minAge, maxAge, null, false, null);
+        return Response.handledWith(mockEmployeeService.aggregate(filter, percentiles, countByTitle));
+    }
+
+    /*
+     * Kept up to date as the roster changes, so this answers without walking it.
+     */
+    @GetMapping("/stats")
+    public Response<MockEmployeeStats> getStats(@RequestParam(defaultValue = "true") boolean countByTitle) {
+        return Response.handledWith(mockEmployeeService.getStats(countByTitle));
     }
 
     @GetMapping("/{id}")
@@ -44,8 +151,26 @@ public class MockEmployeeController {
         return Response.handledWith(mockEmployeeService.create(input));
     }
 
+    @PostMapping("/batch")
+    public Response<List<MockEmployee>> createEmployees(@RequestBody List<@Valid CreateMockEmployeeInput> inputs) {
+        return Response.handledWith(mockEmployeeService.createAll(inputs));
+    }
+
+    @DeleteMapping("/batch")
+    public Response<List<MockEmployee>> deleteEmployees(@RequestBody List<UUID> ids) {
+        return Response.handledWith(mockEmployeeService.deleteAllById(ids));
+    }
+
     @DeleteMapping()
     public Response<Boolean> deleteEmployee(@Valid @RequestBody DeleteMockEmployeeInput input) {
         return Response.handledWith(mockEmployeeService.delete(input));
     }
+
+    private static boolean descending(String order) {
+        return switch (order.toLowerCase(Locale.ROOT)) {
+            case "asc" -> false;
+            case "desc" -> true;
+            default -> throw new IllegalArgumentException("Unknown order '%s'".formatted(order));
+        };
+    }
 }
@@ -0,0 +1,16 @@
+package com.reliaquest.server.model;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import java.util.Map;
+
+/**
+ * Aggregates over the employees matching a query. {@code salary} is absent when no matching
+ * employee has a salary, and {@code countByTitle} when it was not asked for. Percentiles are
+ * keyed as requested ({@code p50}, {@code p99.9}) and use the nearest-rank method, so each is a
+ * salary someone actually earns.
+ */
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public record MockEmployeeAggregates(long count, SalaryStats salary, Map<String, Long> countByTitle) {
+
+    public record SalaryStats(int min, int max, double average, Map<String, Integer> percentiles) {}
+}
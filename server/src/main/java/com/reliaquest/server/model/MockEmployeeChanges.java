@@ -0,0 +1,11 @@
+package com.reliaquest.server.model;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Employees inserted and ids deleted since a store version, up to {@code version}. An employee
+ * inserted and deleted within the range appears in neither list. When {@code reset} is set the
+ * requested version could not be served incrementally and {@code inserted} holds the full roster.
+ */
+public record MockEmployeeChanges(long version, boolean reset, List<MockEmployee> inserted, List<UUID> deleted) {}
@@ -0,0 +1,200 @@
+package com.reliaquest.server.model;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import lombok.NonNull;
+
+/**
+ * Immutable column-per-field copy of a roster, for scans that would otherwise chase one object graph
+ * per employee. Salaries and ages are {@code int} columns with {@link #MISSING} for an absent value,
+ * titles are codes into a dictionary of distinct titles, ids are packed into two {@code long}s each,
+ * and names and emails are UTF-8 bytes in one shared array per column. Rows keep the order of the
+ * source collection; {@link #get(int)} rebuilds an equal {@link MockEmployee} for the rows a scan
+ * keeps.
+ */
+public final class MockEmployeeColumns {
+
+    /**
+     * Stands in for an absent salary or age. Validation only admits positive salaries and ages, so it
+     * cannot clash with a real value.
+     */
+    public static final int MISSING = Integer.MIN_VALUE;
+
+    public static final int NO_TITLE = -1;
+
+    private final int size;
+    private final long[] idBits;
+    private final BitSet missingIds;
+    private final Utf8Column names;
+    private final int[] salaries;
+    private final int[] ages;
+    private final int[] titleCodes;
+    private final String[] titles;
+    private final Utf8Column emails;
+
+    private MockEmployeeColumns(Collection<MockEmployee> employees) {
+        size = employees.size();
+        idBits = new long[size * 2];
+        missingIds = new BitSet();
+        names = new Utf8Column(size);
+        salaries = new int[size];
+        ages = new int[size];
+        titleCodes = new int[size];
+        emails = new Utf8Column(size);
+        final var codes = new HashMap<String, Integer>();
+        var row = 0;
+        for (var employee : employees) {
+            if (employee.getId() == null) {
+                missingIds.set(row);
+            } else {
+                idBits[row * 2] = employee.getId().getMostSignificantBits();
+                idBits[row * 2 + 1] = employee.getId().getLeastSignificantBits();
+            }
+            names.add(employee.getName());
+            salaries[row] = employee.getSalary() == null ? MISSING : employee.getSalary();
+            ages[row] = employee.getAge() == null ? MISSING : employee.getAge();
+            titleCodes[row] = employee.getTitle() == null
+                    ? NO_TITLE
+                    : codes.computeIfAbsent(employee.getTitle(), ignored -> codes.size());
+            emails.add(employee.getEmail());
+            row++;
+        }
+        titles = new String[codes.size()];
+        codes.forEach((title, code) -> titles[code] = title);
+        names.trim();
+        emails.trim();
+    }
+
+    public static MockEmployeeColumns of(@NonNull Collection<MockEmployee> employees) {
+        return new MockEmployeeColumns(employees);
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public MockEmployee get(int row) {
+        return new MockEmployee(
+                id(row),
+                name(row),
+                salaries[row] == MISSING ? null : salaries[row],
+                ages[row] == MISSING ? null : ages[row],
+                title(row),
+                email(row));
+    }
+
+    public UUID id(int row) {
+        return missingIds.get(row) ? null : new UUID(idBits[row * 2], idBits[row * 2 + 1]);
+    }
+
+    public String name(int row) {
+        return names.get(row);
+    }
+
+    public int salary(int row) {
+        return salaries[row];
+    }
+
+    public int age(int row) {
+        return ages[row];
+    }
+
+    public int titleCode(int row) {
+        return titleCodes[row];
+    }
+
+    public String title(int row) {
+        return titleCodes[row] == NO_TITLE ? null : titles[titleCodes[row]];
+    }
+
+    /**
+     * Distinct titles, indexed by {@link #titleCode(int)}.
+     */
+    public List<String> titles() {
+        return List.of(titles);
+    }
+
+    /**
+     * Title occurrence counts keyed by title, from per-code counts such as a scan collects.
+     */
+    public Map<String, Long> countsByTitle(long[] countsByCode) {
+        final var counts = new HashMap<String, Long>();
+        for (int code = 0; code < titles.length; code++) {
+            if (countsByCode[code] > 0) {
+                counts.put(titles[code], countsByCode[code]);
+            }
+        }
+        return counts;
+    }
+
+    public String email(int row) {
+        return emails.get(row);
+    }
+
+    /**
+     * Bytes held by the column arrays and the title dictionary, excluding object headers.
+     */
+    public long dataBytes() {
+        long bytes = (long) idBits.length * Long.BYTES
+                + missingIds.size() / Byte.SIZE
+                + (long) (salaries.length + ages.length + titleCodes.length) * Integer.BYTES
+                + names.dataBytes()
+                + emails.dataBytes();
+        for (var title : titles) {
+            bytes += title.length();
+        }
+        return bytes;
+    }
+
+    /**
+     * Nullable strings as UTF-8 bytes back to back, with row {@code i} between offsets {@code i} and
+     * {@code i + 1}.
+     */
+    private static final class Utf8Column {
+
+        private final int[] offsets;
+        private final BitSet nulls = new BitSet();
+        private byte[] bytes;
+        private int rows;
+
+        Utf8Column(int size) {
+            offsets = new int[size + 1];
+            bytes = new byte[Math.max(16, size * 16)];
+        }
+
+        void add(String value) {
+            var end = offsets[rows];
+            if (value == null) {
+                nulls.set(rows);
+            } else {
+                final var encoded = value.getBytes(StandardCharsets.UTF_8);
+                if (end + encoded.length > bytes.length) {
+                    bytes = Arrays.copyOf(bytes, Math.max(end + encoded.length, bytes.length * 2));
+                }
+                System.arraycopy(encoded, 0, bytes, end, encoded.length);
+                end += encoded.length;
+            }
+            offsets[++rows] = end;
+        }
+
+        void trim() {
+            bytes = Arrays.copyOf(bytes, offsets[rows]);
+        }
+
+        String get(int row) {
+            return nulls.get(row)
+                    ? null
+                    : new String(bytes, offsets[row], offsets[row + 1] - offsets[row], StandardCharsets.UTF_8);
+        }
+
+        long dataBytes() {
+            return bytes.length + (long) offsets.length * Integer.BYTES + nulls.size() / Byte.SIZE;
+        }
+    }
+}
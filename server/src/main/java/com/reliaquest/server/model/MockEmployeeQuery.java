@@ -0,0 +1,131 @@
+package com.reliaquest.server.model;
+
+import java.text.Normalizer;
+import java.util.Comparator;
+import java.util.Locale;
+import java.util.function.Function;
+import java.util.regex.Pattern;
+
+/**
+ * Filter, order and limit for {@code GET /api/v1/employee/query} and the filter part of
+ * {@code GET /api/v1/employee/aggregate}. Unset bounds and a blank name do not filter, bounds are
+ * inclusive, and a null {@code limit} returns every match. Without a sort field matches keep roster
+ * order.
+ */
+public record MockEmployeeQuery(
+        String name,
+        boolean ignoreCase,
+        boolean ignoreAccents,
+        Integer minSalary,
+        Integer maxSalary,
+        Integer minAge,
+        Integer maxAge,
+        SortField sort,
+        boolean descending,
+        Integer limit) {
+
+    private static final Pattern COMBINING_MARKS = Pattern.compile("\\p{M}+");
+
+    public static final MockEmployeeQuery ALL =
+            new MockEmployeeQuery(null, false, false, null, null, null, null, null, false, null);
+
+    public MockEmployeeQuery {
+        if (limit != null && limit < 1) {
+            throw new IllegalArgumentException("Limit must be at least 1");
+        }
+        if (name != null && !name.isBlank()) {
+            name = fold(name, ignoreCase, ignoreAccents);
+        } else {
+            name = null;
+        }
+    }
+
+    public boolean matches(MockEmployee employee) {
+        return within(employee.getSalary(), minSalary, maxSalary)
+                && within(employee.getAge(), minAge, maxAge)
+                && (name == null || matchesName(employee.getName()));
+    }
+
+    /**
+     * {@link #matches(MockEmployee)} for one row of a columnar roster, reading only the columns the
+     * filter uses.
+     */
+    public boolean matches(MockEmployeeColumns columns, int row) {
+        return within(columns.salary(row), minSalary, maxSalary)
+                && within(columns.age(row), minAge, maxAge)
+                && (name == null || matchesName(columns.name(row)));
+    }
+
+    /**
+     * Order of the results, or null when they keep roster order. Employees missing the sort field
+     * come last either way.
+     */
+    public Comparator<MockEmployee> comparator() {
+        if (sort == null) {
+            return null;
+        }
+        final var order = descending
+                ? Comparator.<Comparable<Object>>reverseOrder()
+                : Comparator.<Comparable<Object>>naturalOrder();
+        return Comparator.comparing(sort.getter(), Comparator.nullsLast(order));
+    }
+
+    private boolean matchesName(String candidate) {
+        return candidate != null && fold(candidate, ignoreCase, ignoreAccents).contains(name);
+    }
+
+    private static boolean within(int value, Integer min, Integer max) {
+        if (min == null && max == null) {
+            return true;
+        }
+        return value != MockEmployeeColumns.MISSING && (min == null || value >= min) && (max == null || value <= max);
+    }
+
+    private static boolean within(Integer value, Integer min, Integer max) {
+        if (min == null && max == null) {
+            return true;
+        }
+        return value != null && (min == null || value >= min) && (max == null || value <= max);
+    }
+
+    private static String fold(String value, boolean ignoreCase, boolean ignoreAccents) {
+        var folded = ignoreCase ? value.toLowerCase(Locale.ROOT) : value;
+        if (ignoreAccents) {
+            folded = COMBINING_MARKS
+                    .matcher(Normalizer.normalize(folded, Normalizer.Form.NFD))
+                    .replaceAll("");
+        }
+        return folded;
+    }
+
+    public enum SortField {
+        ID(MockEmployee::getId),
+        NAME(MockEmployee::getName),
+        SALARY(MockEmployee::getSalary),
+        AGE(MockEmployee::getAge),
+        TITLE(MockEmployee::getTitle),
+        EMAIL(MockEmployee::getEmail);
+
+        private final Function<MockEmployee, ? extends Comparable<?>> getter;
+
+        SortField(Function<MockEmployee, ? extends Comparable<?>> getter) {
+            this.getter = getter;
+        }
+
+        @SuppressWarnings("unchecked")
+        Function<MockEmployee, Comparable<Object>> getter() {
+            return (Function<MockEmployee, Comparable<Object>>) (Function<MockEmployee, ?>) getter;
+        }
+
+        public static SortField parse(String value) {
+            if (value == null || value.isBlank()) {
+                return null;
+            }
+            try {
+                return valueOf(value.trim().toUpperCase(Locale.ROOT));
+            } catch (IllegalArgumentException e) {
+                throw new IllegalArgumentException("Unknown sort field '%s'".formatted(value));
+            }
+        }
+    }
+}
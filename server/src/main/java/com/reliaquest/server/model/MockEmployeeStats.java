@@ -0,0 +1,27 @@
+package com.reliaquest.server.model;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import java.util.Map;
+
+/**
+ * Roster-wide statistics as of store {@code version}, maintained as employees are added and removed.
+ * {@code salary} and {@code age} are absent while no employee has one, and {@code countByTitle} when
+ * left out of the response. {@code salaryHistogram} maps
+ * the lower bound of each non-empty bucket, {@code salaryBucketWidth} wide, to its count.
+ */
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public record MockEmployeeStats(
+        long version,
+        long count,
+        Summary salary,
+        Summary age,
+        Map<String, Long> countByTitle,
+        int salaryBucketWidth,
+        Map<Integer, Long> salaryHistogram) {
+
+    public MockEmployeeStats withoutCountByTitle() {
+        return new MockEmployeeStats(version, count, salary, age, null, salaryBucketWidth, salaryHistogram);
+    }
+
+    public record Summary(int min, int max, long sum, double average) {}
+}
@@ -4,11 +4,28 @@ import com.reliaquest.server.config.ServerConfiguration;
 import com.reliaquest.server.model.CreateMockEmployeeInput;
 import com.reliaquest.server.model.DeleteMockEmployeeInput;
 import com.reliaquest.server.model.MockEmployee;
+import com.reliaquest.server.model.MockEmployeeAggregates;
+import com.reliaquest.server.model.MockEmployeeAggregates.SalaryStats;
+import com.reliaquest.server.model.MockEmployeeChanges;
+import com.reliaquest.server.model.MockEmployeeColumns;
+import com.reliaquest.server.model.MockEmployeePage;
+import com.reliaquest.server.model.MockEmployeeQuery;
+import com.reliaquest.server.model.MockEmployeeQuery.SortField;
+import com.reliaquest.server.model.MockEmployeeStats;
+import com.reliaquest.server.model.PageCursor;
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
 import java.util.List;
-import java.util.Objects;
 import java.util.Optional;
+import java.util.PriorityQueue;
+import java.util.TreeMap;
 import java.util.UUID;
-import lombok.Getter;
+import java.util.stream.IntStream;
+import java.util.stream.LongStream;
+import java.util.stream.Stream;
 import lombok.NonNull;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -20,16 +37,116 @@ import org.springframework.stereotype.Service;
 @RequiredArgsConstructor
 public class MockEmployeeService {
 
+    public static final int MAX_PAGE_SIZE = 1000;
+
+    public static final int MAX_BATCH_SIZE = 1000;
+
+    private static final long ROW_MASK = (1L << 31) - 1;
+
     private final Faker faker;
 
-    @Getter
-    private final List<MockEmployee> mockEmployees;
+    private final MockEmployeeStore mockEmployees;
+
+    public List<MockEmployee> getMockEmployees() {
+        return mockEmployees.getAll();
+    }
+
+    /**
+     * The full roster with a strong entity tag that changes whenever the roster does.
+     */
+    public Tagged<List<MockEmployee>> getTaggedMockEmployees() {
+        final var snapshot = mockEmployees.snapshot();
+        return new Tagged<>("\"%s-%d\"".formatted(mockEmployees.getEpoch(), snapshot.version()), snapshot.employees());
+    }
+
+    public MockEmployeePage getMockEmployeePage(int limit, String cursor) {
+        final var slice = mockEmployees.slice(PageCursor.decode(cursor), Math.max(1, Math.min(limit, MAX_PAGE_SIZE)));
+        return new MockEmployeePage(
+                slice.employees(), slice.hasMore() ? PageCursor.encode(slice.lastSequence()) : null);
+    }
+
+    public Stream<MockEmployee> streamMockEmployees() {
+        return mockEmployees.stream();
+    }
+
+    /**
+     * Monotonically increasing roster version, bumped by every create and delete.
+     */
+    public long getVersion() {
+        return mockEmployees.getVersion();
+    }
+
+    /**
+     * Roster-wide statistics maintained by the store as employees are created and deleted. Per-title
+     * counts grow with the number of distinct titles, so they are left out unless asked for.
+     */
+    public MockEmployeeStats getStats(boolean countByTitle) {
+        final var stats = mockEmployees.stats();
+        return countByTitle ? stats : stats.withoutCountByTitle();
+    }
+
+    public MockEmployeeChanges getChangesSince(long since) {
+        return mockEmployees.changesSince(since);
+    }
+
+    /**
+     * Employees matching the query, scanning the columnar copy of the roster. A sorted query with a
+     * limit keeps only the best {@code limit} matches in a heap, so memory and the response follow the
+     * limit rather than the roster size. Salary and age sorts rank rows on the primitive columns and
+     * only rebuild the employees they return. Ties keep roster order.
+     */
+    public List<MockEmployee> query(@NonNull MockEmployeeQuery query) {
+        final var columns = mockEmployees.columns();
+        final var limit = query.limit();
+        final var rows = IntStream.range(0, columns.size()).filter(row -> query.matches(columns, row));
+        if (query.sort() == null) {
+            return (limit == null ? rows : rows.limit(limit))
+                    .mapToObj(columns::get)
+                    .toList();
+        }
+        if (query.sort() == SortField.SALARY || query.sort() == SortField.AGE) {
+            final var keys = rows.mapToLong(row -> rankKey(columns, row, query.sort(), query.descending()));
+            return (limit == null ? keys.sorted() : topKeys(keys, limit))
+                    .mapToObj(key -> columns.get((int) (key & ROW_MASK)))
+                    .toList();
+        }
+        final var matches = rows.mapToObj(columns::get);
+        return limit == null ? matches.sorted(query.comparator()).toList() : top(matches, query.comparator(), limit);
+    }
+
+    /**
+     * Count, salary statistics and, with {@code byTitle}, per-title counts over the employees matching
+     * the query's filter; its sort and limit are ignored. Per-title counts grow with the number of
+     * distinct titles, so callers after salary figures alone leave them out.
+     */
+    public MockEmployeeAggregates aggregate(
+            @NonNull MockEmployeeQuery filter, @NonNull List<Double> percentiles, boolean byTitle) {
+        percentiles.forEach(MockEmployeeService::checkPercentile);
+        final var columns = mockEmployees.columns();
+        final var countsByCode = new long[columns.titles().size()];
+        final var salaries = new int[columns.size()];
+        int salaryCount = 0;
+        long count = 0;
+        for (int row = 0; row < columns.size(); row++) {
+            if (!filter.matches(columns, row)) {
+                continue;
+            }
+            count++;
+            if (columns.salary(row) != MockEmployeeColumns.MISSING) {
+                salaries[salaryCount++] = columns.salary(row);
+            }
+            if (columns.titleCode(row) != MockEmployeeColumns.NO_TITLE) {
+                countsByCode[columns.titleCode(row)]++;
+            }
+        }
+        return new MockEmployeeAggregates(
+                count,
+                salaryStats(Arrays.copyOf(salaries, salaryCount), percentiles),
+                byTitle ? new TreeMap<>(columns.countsByTitle(countsByCode)) : null);
+    }
 
     public Optional<MockEmployee> findById(@NonNull UUID uuid) {
-        return mockEmployees.stream()
-                .filter(mockEmployee -> Objects.nonNull(mockEmployee.getId())
-                        && mockEmployee.getId().equals(uuid))
-                .findFirst();
+        return mockEmployees.findById(uuid);
     }
 
     public MockEmployee create(@NonNull CreateMockEmployeeInput input) {
@@ -42,17 +159,161 @@ public class MockEmployeeService {
         return mockEmployee;
     }
 
+    /**
+     * Creates every employee and returns them in input order.
+     */
+    public List<MockEmployee> createAll(@NonNull List<CreateMockEmployeeInput> inputs) {
+        checkBatchSize(inputs.size());
+        final var created = inputs.stream()
+                .map(input -> MockEmployee.from(
+                        ServerConfiguration.EMAIL_TEMPLATE.formatted(
+                                faker.twitter().userName().toLowerCase()),
+                        input))
+                .toList();
+        mockEmployees.addAll(created);
+        log.debug("Added {} employees", created.size());
+        return created;
+    }
+
+    /**
+     * Deletes every listed employee and returns those that existed; unknown ids are skipped.
+     */
+    public List<MockEmployee> deleteAllById(@NonNull List<UUID> ids) {
+        checkBatchSize(ids.size());
+        final var removed = mockEmployees.removeAllById(ids);
+        log.debug("Removed {} of {} employees", removed.size(), ids.size());
+        return removed;
+    }
+
     public boolean delete(@NonNull DeleteMockEmployeeInput input) {
-        final var mockEmployee = mockEmployees.stream()
-                .filter(employee -> Objects.nonNull(employee.getName())
-                        && employee.getName().equalsIgnoreCase(input.getName()))
-                .findFirst();
+        final var mockEmployee = mockEmployees.removeFirstByName(input.getName());
         if (mockEmployee.isPresent()) {
-            mockEmployees.remove(mockEmployee.get());
             log.debug("Removed employee: {}", mockEmployee.get());
             return true;
         }
 
         return false;
     }
+
+    public record Tagged<T>(String etag, T value) {}
+
+    private static List<MockEmployee> top(
+            Stream<MockEmployee> matches, Comparator<MockEmployee> comparator, int limit) {
+        // worst kept match at the head; the sequence number breaks ties in favour of roster order
+        final Comparator<Ranked> ranking =
+                Comparator.comparing(Ranked::employee, comparator).thenComparingLong(Ranked::sequence);
+        final var heap = new PriorityQueue<Ranked>(Math.min(limit, 1024) + 1, ranking.reversed());
+        final var sequence = new long[1];
+        matches.forEach(employee -> {
+            heap.add(new Ranked(employee, sequence[0]++));
+            if (heap.size() > limit) {
+                heap.poll();
+            }
+        });
+        final var best = new ArrayList<>(heap);
+        best.sort(ranking);
+        return best.stream().map(Ranked::employee).toList();
+    }
+
+    /**
+     * Packs a row's rank and its position into one long, so that a primitive sort orders rows by the
+     * sort column, puts rows missing it last and keeps ties in roster order.
+     */
+    private static long rankKey(MockEmployeeColumns columns, int row, SortField sort, boolean descending) {
+        final int value = sort == SortField.SALARY ? columns.salary(row) : columns.age(row);
+        // present values lie in (MISSING, MAX_VALUE], so every rank fits in 32 unsigned bits
+        final long rank;
+        if (value == MockEmployeeColumns.MISSING) {
+            rank = 0xFFFF_FFFFL;
+        } else {
+            rank = descending ? (long) Integer.MAX_VALUE - value : (long) value - Integer.MIN_VALUE - 1;
+        }
+        return rank << 31 | row;
+    }
+
+    private static LongStream topKeys(LongStream keys, int limit) {
+        // max-heap of the kept keys in a plain long[], so most rows are rejected with one comparison and no boxing
+        long[] heap = new long[Math.min(limit, 1024)];
+        int size = 0;
+        for (final var it = keys.iterator(); it.hasNext(); ) {
+            final long key = it.nextLong();
+            if (size < limit) {
+                if (size == heap.length) {
+                    heap = Arrays.copyOf(heap, (int) Math.min(limit, heap.length * 2L));
+                }
+                siftUp(heap, size++, key);
+            } else if (key < heap[0]) {
+                siftDown(heap, size, key);
+            }
+        }
+        return Arrays.stream(heap, 0, size).sorted();
+    }
+
+    private static void siftUp(long[] heap, int index, long key) {
+        while (index > 0) {
+            final int parent = (index - 1) >>> 1;
+            if (heap[parent] >= key) {
+                break;
+            }
+            heap[index] = heap[parent];
+            index = parent;
+        }
+        heap[index] = key;
+    }
+
+    /**
+     * Replaces the largest key, at the head, with {@code key} and restores the heap order.
+     */
+    private static void siftDown(long[] heap, int size, long key) {
+        int index = 0;
+        while (true) {
+            int child = 2 * index + 1;
+            if (child >= size) {
+                break;
+            }
+            if (child + 1 < size && heap[child + 1] > heap[child]) {
+                child++;
+            }
+            if (heap[child] <= key) {
+                break;
+            }
+            heap[index] = heap[child];
+            index = child;
+        }
+        heap[index] = key;
+    }
+
+    private static SalaryStats salaryStats(int[] salaries, List<Double> percentiles) {
+        if (salaries.length == 0) {
+            return null;
+        }
+        Arrays.sort(salaries);
+        long sum = 0;
+        for (int salary : salaries) {
+            sum += salary;
+        }
+        final var byPercentile = new LinkedHashMap<String, Integer>();
+        for (double percentile : percentiles) {
+            final int rank = (int) Math.ceil(percentile / 100 * salaries.length);
+            byPercentile.put(
+                    "p" + BigDecimal.valueOf(percentile).stripTrailingZeros().toPlainString(),
+                    salaries[Math.max(rank, 1) - 1]);
+        }
+        return new SalaryStats(
+                salaries[0], salaries[salaries.length - 1], (double) sum / salaries.length, byPercentile);
+    }
+
+    private static void checkPercentile(double percentile) {
+        if (!(percentile > 0 && percentile <= 100)) {
+            throw new IllegalArgumentException("Percentile %s is not in (0, 100]".formatted(percentile));
+        }
+    }
+
+    private record Ranked(MockEmployee employee, long sequence) {}
+
+    private static void checkBatchSize(int size) {
+        if (size > MAX_BATCH_SIZE) {
+            throw new IllegalArgumentException("Batch of %d exceeds the limit of %d".formatted(size, MAX_BATCH_SIZE));
+        }
+    }
 }
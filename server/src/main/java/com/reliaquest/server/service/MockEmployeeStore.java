@@ -0,0 +1,365 @@
+package com.reliaquest.server.service;
+
+import com.reliaquest.server.model.MockEmployee;
+import com.reliaquest.server.model.MockEmployeeChanges;
+import com.reliaquest.server.model.MockEmployeeColumns;
+import com.reliaquest.server.model.MockEmployeeStats;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Deque;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.NavigableSet;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.TreeSet;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentNavigableMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.stream.Stream;
+import lombok.NonNull;
+
+/**
+ * Thread-safe employee store with a primary index keyed by {@link UUID} and a case-insensitive
+ * secondary index on name. Every employee gets an insertion sequence number so iteration keeps list
+ * order and removal does not need a linear scan.
+ *
+ * <p>Writers are serialised by a single lock, which keeps the indexes in step with each other and
+ * bumps the store version. Lookups by id never take the lock. {@link #getAll()} returns an immutable
+ * snapshot taken under the lock the first time it is requested after a write; until the next write,
+ * every caller shares that snapshot without locking.
+ *
+ * <p>Every insert and delete is also appended to a bounded change log tagged with the version it
+ * produced, so that clients holding an older version can catch up with {@link #changesSince(long)}
+ * instead of refetching everything. Once the log overflows, the oldest changes are dropped and
+ * clients behind them get the full roster instead.
+ *
+ * <p>Count, salary and age extremes, per-title counts and a salary histogram are kept up to date by
+ * the same writes, so {@link #stats()} never walks the roster.
+ */
+public class MockEmployeeStore {
+
+    private final ReentrantLock writeLock = new ReentrantLock();
+    private final ConcurrentNavigableMap<Long, MockEmployee> bySequence = new ConcurrentSkipListMap<>();
+    private final Map<UUID, Long> sequenceById = new ConcurrentHashMap<>();
+    private final Map<String, NavigableSet<Long>> sequencesByName = new ConcurrentHashMap<>();
+    private final Deque<Change> changeLog = new ArrayDeque<>();
+    private final int changeLogCapacity;
+
+    private final String epoch = Long.toHexString(ThreadLocalRandom.current().nextLong());
+
+    private long sequence;
+    private long changeLogFloor;
+    private volatile long version;
+    private volatile Snapshot snapshot = new Snapshot(0, List.of());
+    private final RunningEmployeeStats runningStats = new RunningEmployeeStats(SALARY_BUCKET_WIDTH);
+    private volatile MockEmployeeStats stats = runningStats.toStats(0);
+    private volatile Columnar columns = new Columnar(0, MockEmployeeColumns.of(List.of()));
+
+    public static final int DEFAULT_CHANGE_LOG_CAPACITY = 10_000;
+
+    public static final int SALARY_BUCKET_WIDTH = 10_000;
+
+    public MockEmployeeStore() {
+        this(DEFAULT_CHANGE_LOG_CAPACITY);
+    }
+
+    public MockEmployeeStore(int changeLogCapacity) {
+        this.changeLogCapacity = Math.max(0, changeLogCapacity);
+    }
+
+    public MockEmployeeStore(@NonNull Collection<MockEmployee> mockEmployees) {
+        this();
+        mockEmployees.forEach(this::add);
+    }
+
+    /**
+     * Consistent point-in-time copy of every employee, in insertion order.
+     */
+    public List<MockEmployee> getAll() {
+        return snapshot().employees();
+    }
+
+    /**
+     * {@link #getAll()} together with the version it reflects.
+     */
+    public Snapshot snapshot() {
+        final var current = snapshot;
+        if (current.version() == version) {
+            return current;
+        }
+        writeLock.lock();
+        try {
+            if (snapshot.version() != version) {
+                snapshot = new Snapshot(version, List.copyOf(bySequence.values()));
+            }
+            return snapshot;
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    /**
+     * {@link #snapshot()} as columns, for scans. Built outside the lock the first time it is asked for
+     * after a write; callers racing on that first build may each build one, and any of them is correct
+     * for the version it carries.
+     */
+    public MockEmployeeColumns columns() {
+        final var current = columns;
+        final var latest = snapshot();
+        if (current.version() == latest.version()) {
+            return current.columns();
+        }
+        final var built = new Columnar(latest.version(), MockEmployeeColumns.of(latest.employees()));
+        columns = built;
+        return built.columns();
+    }
+
+    /**
+     * Statistics as of the current version. Like {@link #snapshot()}, the first call after a write copies
+     * them under the lock and later callers share that copy; the copy costs in proportion to the number
+     * of titles and salary buckets, not to the roster size.
+     */
+    public MockEmployeeStats stats() {
+        final var current = stats;
+        if (current.version() == version) {
+            return current;
+        }
+        writeLock.lock();
+        try {
+            if (stats.version() != version) {
+                stats = runningStats.toStats(version);
+            }
+            return stats;
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    /**
+     * Up to {@code limit} employees inserted after {@code afterSequence}, in insertion order. Reads
+     * the live index without locking, so consecutive pages reflect writes made in between.
+     */
+    public Slice slice(long afterSequence, int limit) {
+        final var employees = new ArrayList<MockEmployee>(Math.min(limit, 1024));
+        long lastSequence = afterSequence;
+        for (var entry : bySequence.tailMap(afterSequence, false).entrySet()) {
+            if (employees.size() == limit) {
+                return new Slice(employees, lastSequence, true);
+            }
+            employees.add(entry.getValue());
+            lastSequence = entry.getKey();
+        }
+        return new Slice(employees, lastSequence, false);
+    }
+
+    /**
+     * Lazily walks the live index in insertion order without copying it.
+     */
+    public Stream<MockEmployee> stream() {
+        return bySequence.values().stream();
+    }
+
+    public int size() {
+        return bySequence.size();
+    }
+
+    /**
+     * Incremented by every successful write.
+     */
+    public long getVersion() {
+        return version;
+    }
+
+    /**
+     * Random per-store token. Versions restart at zero with every new store, so anything derived
+     * from a version that may outlive the store, such as an ETag, needs the epoch as well.
+     */
+    public String getEpoch() {
+        return epoch;
+    }
+
+    /**
+     * Net inserts and deletes after version {@code since}, up to the current version. A version the
+     * log no longer covers, or one this store never produced, is answered with a reset carrying the
+     * full roster.
+     */
+    public MockEmployeeChanges changesSince(long since) {
+        writeLock.lock();
+        try {
+            if (since < changeLogFloor || since > version) {
+                return new MockEmployeeChanges(version, true, getAll(), List.of());
+            }
+            final var newer = new ArrayDeque<Change>();
+            for (var iterator = changeLog.descendingIterator(); iterator.hasNext(); ) {
+                final var change = iterator.next();
+                if (change.version() <= since) {
+                    break;
+                }
+                newer.addFirst(change);
+            }
+            final var inserted = new LinkedHashMap<UUID, MockEmployee>();
+            final var deleted = new ArrayList<UUID>();
+            for (var change : newer) {
+                final var id = change.employee().getId();
+                if (!change.deleted()) {
+                    inserted.put(id, change.employee());
+                } else if (inserted.remove(id) == null) {
+                    deleted.add(id);
+                }
+            }
+            return new MockEmployeeChanges(version, false, List.copyOf(inserted.values()), List.copyOf(deleted));
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    public Optional<MockEmployee> findById(@NonNull UUID id) {
+        return Optional.ofNullable(sequenceById.get(id)).map(bySequence::get);
+    }
+
+    /**
+     * First employee in list order whose name matches ignoring case.
+     */
+    public Optional<MockEmployee> findFirstByName(@NonNull String name) {
+        writeLock.lock();
+        try {
+            final var sequences = sequencesByName.get(nameKey(name));
+            return sequences == null ? Optional.empty() : Optional.ofNullable(bySequence.get(sequences.first()));
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    public void add(@NonNull MockEmployee mockEmployee) {
+        writeLock.lock();
+        try {
+            insert(mockEmployee);
+            version++;
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    /**
+     * Adds every employee under one lock acquisition and one version bump.
+     */
+    public void addAll(@NonNull Collection<MockEmployee> mockEmployees) {
+        writeLock.lock();
+        try {
+            mockEmployees.forEach(this::insert);
+            version++;
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    /**
+     * Removes the first employee in list order whose name matches ignoring case.
+     */
+    public Optional<MockEmployee> removeFirstByName(@NonNull String name) {
+        writeLock.lock();
+        try {
+            final var sequences = sequencesByName.get(nameKey(name));
+            if (sequences == null) {
+                return Optional.empty();
+            }
+            final var removed = unlink(sequences.first());
+            version++;
+            return Optional.of(removed);
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    /**
+     * Removes every listed employee under one lock acquisition and returns those that existed, in
+     * request order. Unknown ids are skipped.
+     */
+    public List<MockEmployee> removeAllById(@NonNull Collection<UUID> ids) {
+        writeLock.lock();
+        try {
+            final var removed = new ArrayList<MockEmployee>(ids.size());
+            for (var id : ids) {
+                final var existing = sequenceById.get(id);
+                if (existing != null) {
+                    removed.add(unlink(existing));
+                }
+            }
+            if (!removed.isEmpty()) {
+                version++;
+            }
+            return removed;
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    private void insert(MockEmployee mockEmployee) {
+        log(mockEmployee, false);
+        final long next = ++sequence;
+        bySequence.put(next, mockEmployee);
+        runningStats.add(mockEmployee);
+        if (Objects.nonNull(mockEmployee.getId())) {
+            sequenceById.put(mockEmployee.getId(), next);
+        }
+        if (Objects.nonNull(mockEmployee.getName())) {
+            sequencesByName
+                    .computeIfAbsent(nameKey(mockEmployee.getName()), ignored -> new TreeSet<>())
+                    .add(next);
+        }
+    }
+
+    /**
+     * Drops the employee at {@code sequenceNumber} from every index. Caller holds the write lock.
+     */
+    private MockEmployee unlink(long sequenceNumber) {
+        final var removed = bySequence.remove(sequenceNumber);
+        log(removed, true);
+        runningStats.remove(removed);
+        if (Objects.nonNull(removed.getId())) {
+            sequenceById.remove(removed.getId(), sequenceNumber);
+        }
+        if (Objects.nonNull(removed.getName())) {
+            final var key = nameKey(removed.getName());
+            final var sequences = sequencesByName.get(key);
+            sequences.remove(sequenceNumber);
+            if (sequences.isEmpty()) {
+                sequencesByName.remove(key);
+            }
+        }
+        return removed;
+    }
+
+    /**
+     * Records a change made by the write in progress, which will publish {@code version + 1}. Caller
+     * holds the write lock.
+     */
+    private void log(MockEmployee mockEmployee, boolean deleted) {
+        if (Objects.isNull(mockEmployee.getId())) {
+            return;
+        }
+        changeLog.addLast(new Change(version + 1, mockEmployee, deleted));
+        while (changeLog.size() > changeLogCapacity) {
+            changeLogFloor = changeLog.removeFirst().version();
+        }
+    }
+
+    private static String nameKey(String name) {
+        return name.toLowerCase(Locale.ROOT);
+    }
+
+    public record Slice(List<MockEmployee> employees, long lastSequence, boolean hasMore) {}
+
+    private record Change(long version, MockEmployee employee, boolean deleted) {}
+
+    public record Snapshot(long version, List<MockEmployee> employees) {}
+
+    private record Columnar(long version, MockEmployeeColumns columns) {}
+}
@@ -0,0 +1,108 @@
+package com.reliaquest.server.service;
+
+import com.reliaquest.server.model.MockEmployee;
+import com.reliaquest.server.model.MockEmployeeStats;
+import com.reliaquest.server.model.MockEmployeeStats.Summary;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Statistics updated in place as employees are added and removed, so reading them never walks the
+ * roster. Minimum and maximum come from an ordered multiset of values (value to occurrences) so that
+ * removing the current extreme falls back to the next one. Not thread-safe; {@link MockEmployeeStore}
+ * updates and reads it under its write lock.
+ */
+class RunningEmployeeStats {
+
+    private final int salaryBucketWidth;
+
+    private final Values salaries = new Values();
+    private final Values ages = new Values();
+    private final Map<String, Long> countByTitle = new HashMap<>();
+    private final TreeMap<Integer, Long> salaryHistogram = new TreeMap<>();
+    private long count;
+
+    RunningEmployeeStats(int salaryBucketWidth) {
+        if (salaryBucketWidth < 1) {
+            throw new IllegalArgumentException("Salary bucket width must be at least 1");
+        }
+        this.salaryBucketWidth = salaryBucketWidth;
+    }
+
+    void add(MockEmployee employee) {
+        count++;
+        salaries.add(employee.getSalary());
+        ages.add(employee.getAge());
+        if (employee.getTitle() != null) {
+            countByTitle.merge(employee.getTitle(), 1L, Long::sum);
+        }
+        if (employee.getSalary() != null) {
+            salaryHistogram.merge(bucket(employee.getSalary()), 1L, Long::sum);
+        }
+    }
+
+    void remove(MockEmployee employee) {
+        count--;
+        salaries.remove(employee.getSalary());
+        ages.remove(employee.getAge());
+        if (employee.getTitle() != null) {
+            decrement(countByTitle, employee.getTitle());
+        }
+        if (employee.getSalary() != null) {
+            decrement(salaryHistogram, bucket(employee.getSalary()));
+        }
+    }
+
+    /**
+     * Copies the current figures; the cost follows the number of titles and buckets, not employees.
+     */
+    MockEmployeeStats toStats(long version) {
+        return new MockEmployeeStats(
+                version,
+                count,
+                salaries.summary(),
+                ages.summary(),
+                Collections.unmodifiableMap(new TreeMap<>(countByTitle)),
+                salaryBucketWidth,
+                Collections.unmodifiableMap(new TreeMap<>(salaryHistogram)));
+    }
+
+    private int bucket(int salary) {
+        return Math.floorDiv(salary, salaryBucketWidth) * salaryBucketWidth;
+    }
+
+    private static <K> void decrement(Map<K, Long> counts, K key) {
+        counts.computeIfPresent(key, (ignored, current) -> current == 1 ? null : current - 1);
+    }
+
+    private static final class Values {
+
+        private final TreeMap<Integer, Integer> occurrences = new TreeMap<>();
+        private long count;
+        private long sum;
+
+        void add(Integer value) {
+            if (value != null) {
+                occurrences.merge(value, 1, Integer::sum);
+                count++;
+                sum += value;
+            }
+        }
+
+        void remove(Integer value) {
+            if (value != null) {
+                occurrences.computeIfPresent(value, (ignored, n) -> n == 1 ? null : n - 1);
+                count--;
+                sum -= value;
+            }
+        }
+
+        Summary summary() {
+            return count == 0
+                    ? null
+                    : new Summary(occurrences.firstKey(), occurrences.lastKey(), sum, (double) sum / count);
+        }
+    }
+}
@@ -10,36 +10,56 @@ import lombok.Getter;
 import org.springframework.http.HttpStatus;
 import org.springframework.web.servlet.HandlerInterceptor;
 
+/**
+ * Lets {@code requestLimit} requests through, then answers 429 until {@code backoff} has passed since
+ * the last request let through. Either value is picked at random when not configured.
+ */
 public class RandomRequestLimitInterceptor implements HandlerInterceptor {
 
-    private static final int REQUEST_LIMIT = RandomGenerator.getDefault().nextInt(5, 10);
-    private static final Duration REQUEST_BACKOFF_DURATION =
-            Duration.ofSeconds(RandomGenerator.getDefault().nextInt(30, 90));
+    private final int requestLimit;
+    private final Duration backoff;
 
-    private final AtomicReference<RequestLimit> requestLimit = new AtomicReference<>(RequestLimit.init());
+    private final AtomicReference<RequestLimit> currentLimit = new AtomicReference<>(RequestLimit.init());
+
+    public RandomRequestLimitInterceptor(Integer requestLimit, Duration backoff) {
+        this.requestLimit = requestLimit != null
+                ? requestLimit
+                : RandomGenerator.getDefault().nextInt(5, 10);
+        this.backoff = backoff != null
+                ? backoff
+                : Duration.ofSeconds(RandomGenerator.getDefault().nextInt(30, 90));
+    }
+
+    public RandomRequestLimitInterceptor() {
+        this(null, null);
+    }
 
     @Override
     public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
-        if (requestLimit.get().getCount() >= REQUEST_LIMIT) {
-            if (Instant.now()
-                    .minus(REQUEST_BACKOFF_DURATION)
-                    .isBefore(requestLimit.get().getLastRequested())) {
+        if (currentLimit.get().getCount() >= requestLimit) {
+            if (Instant.now().minus(backoff).isBefore(currentLimit.get().getLastRequested())) {
                 response.setStatus(HttpStatus.TOO_MANY_REQUESTS.value());
                 return false;
             }
-            if (Instant.now()
-                    .minus(REQUEST_BACKOFF_DURATION)
-                    .isAfter(requestLimit.get().getLastRequested())) {
-                requestLimit.set(RequestLimit.init());
+            if (Instant.now().minus(backoff).isAfter(currentLimit.get().getLastRequested())) {
+                currentLimit.set(RequestLimit.init());
             }
         } else {
-            requestLimit.getAndUpdate(
+            currentLimit.getAndUpdate(
                     currentRequestLimit -> new RequestLimit(currentRequestLimit.count() + 1, Instant.now()));
         }
 
         return true;
     }
 
+    public int getRequestLimit() {
+        return requestLimit;
+    }
+
+    public Duration getBackoff() {
+        return backoff;
+    }
+
     private record RequestLimit(@Getter int count, @Getter Instant lastRequested) {
         public static RequestLimit init() {
             return new RequestLimit(0, Instant.now());
@@ -0,0 +1,236 @@
+package com.reliaquest.server.controller;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import com.reliaquest.server.model.MockEmployee;
+import com.reliaquest.server.model.MockEmployeeChanges;
+import com.reliaquest.server.model.MockEmployeePage;
+import com.reliaquest.server.model.MockEmployeeQuery;
+import com.reliaquest.server.model.MockEmployeeQuery.SortField;
+import com.reliaquest.server.model.MockEmployeeStats;
+import com.reliaquest.server.model.MockEmployeeStats.Summary;
+import com.reliaquest.server.model.PageCursor;
+import com.reliaquest.server.service.MockEmployeeService;
+import com.reliaquest.server.service.MockEmployeeService.Tagged;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+
+@WebMvcTest(controllers = MockEmployeeController.class, properties = "mock.rate-limit.enabled=false")
+class MockEmployeeControllerTest {
+
+    private static final MediaType SMILE = MediaType.parseMediaType("application/x-jackson-smile");
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @MockBean
+    private MockEmployeeService mockEmployeeService;
+
+    @Test
+    void createEmployees_ShouldRejectBatch_WhenAnyItemIsInvalid() throws Exception {
+        mockMvc.perform(post("/api/v1/employee/batch")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("[{\"name\":\"Jill Jenkins\",\"salary\":1,\"age\":30,\"title\":\"Advisor\"},"
+                                + "{\"name\":\"\",\"salary\":1,\"age\":30,\"title\":\"Advisor\"}]"))
+                .andExpect(status().is5xxServerError());
+
+        verify(mockEmployeeService, never()).createAll(anyList());
+    }
+
+    @Test
+    void deleteEmployees_ShouldReturnDeletedEmployees() throws Exception {
+        final var id = UUID.randomUUID();
+        when(mockEmployeeService.deleteAllById(List.of(id)))
+                .thenReturn(List.of(new MockEmployee(id, "Jill Jenkins", 1, 30, "Advisor", "jill@company.com")));
+
+        mockMvc.perform(delete("/api/v1/employee/batch")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("[\"" + id + "\"]"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data[0].id").value(id.toString()))
+                .andExpect(jsonPath("$.data[0].employee_name").value("Jill Jenkins"));
+    }
+
+    @Test
+    void getChanges_ShouldNotBeTakenForAnId() throws Exception {
+        final var deleted = UUID.randomUUID();
+        when(mockEmployeeService.getChangesSince(7))
+                .thenReturn(new MockEmployeeChanges(9, false, List.of(), List.of(deleted)));
+
+        mockMvc.perform(get("/api/v1/employee/changes").param("since", "7"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.version").value(9))
+                .andExpect(jsonPath("$.data.reset").value(false))
+                .andExpect(jsonPath("$.data.deleted[0]").value(deleted.toString()));
+    }
+
+    @Test
+    void getEmployees_ShouldAnswerNotModified_WhenEtagMatches() throws Exception {
+        final var jill = new MockEmployee(UUID.randomUUID(), "Jill Jenkins", 1, 30, "Advisor", "jill@company.com");
+        when(mockEmployeeService.getTaggedMockEmployees()).thenReturn(new Tagged<>("\"abc-3\"", List.of(jill)));
+
+        mockMvc.perform(get("/api/v1/employee"))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.ETAG, "\"abc-3\""))
+                .andExpect(jsonPath("$.data[0].employee_name").value("Jill Jenkins"));
+
+        mockMvc.perform(get("/api/v1/employee").header(HttpHeaders.IF_NONE_MATCH, "\"abc-3\""))
+                .andExpect(status().isNotModified())
+                .andExpect(header().string(HttpHeaders.ETAG, "\"abc-3\""))
+                .andExpect(content().string(""));
+
+        mockMvc.perform(get("/api/v1/employee").header(HttpHeaders.IF_NONE_MATCH, "\"abc-2\""))
+                .andExpect(status().isOk());
+    }
+
+    @Test
+    void getEmployee_ShouldAnswerSmile_WhenAccepted() throws Exception {
+        final var jill = new MockEmployee(UUID.randomUUID(), "Jill Jenkins", 1, 30, "Advisor", "jill@company.com");
+        when(mockEmployeeService.findById(jill.getId())).thenReturn(Optional.of(jill));
+
+        final var body = mockMvc.perform(
+                        get("/api/v1/employee/{id}", jill.getId()).accept(SMILE))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType(SMILE))
+                .andReturn()
+                .getResponse()
+                .getContentAsByteArray();
+
+        final var smileMapper = new ObjectMapper(new SmileFactory());
+        assertEquals(
+                "Jill Jenkins",
+                smileMapper.readTree(body).at("/data/employee_name").asText());
+    }
+
+    @Test
+    void getEmployee_ShouldDefaultToJson() throws Exception {
+        final var jill = new MockEmployee(UUID.randomUUID(), "Jill Jenkins", 1, 30, "Advisor", "jill@company.com");
+        when(mockEmployeeService.findById(jill.getId())).thenReturn(Optional.of(jill));
+
+        mockMvc.perform(get("/api/v1/employee/{id}", jill.getId()).accept(MediaType.ALL))
+                .andExpect(status().isOk())
+                .andExpect(content().contentTypeCompatibleWith(MediaType.APPLICATION_JSON))
+                .andExpect(jsonPath("$.data.employee_name").value("Jill Jenkins"));
+    }
+
+    @Test
+    void getStats_ShouldNotBeTakenForAnId() throws Exception {
+        when(mockEmployeeService.getStats(true))
+                .thenReturn(new MockEmployeeStats(
+                        4,
+                        2,
+                        new Summary(100, 300, 400, 200.0),
+                        new Summary(30, 40, 70, 35.0),
+                        Map.of("Advisor", 2L),
+                        10_000,
+                        Map.of(0, 2L)));
+
+        mockMvc.perform(get("/api/v1/employee/stats"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.count").value(2))
+                .andExpect(jsonPath("$.data.salary.max").value(300))
+                .andExpect(jsonPath("$.data.countByTitle.Advisor").value(2))
+                .andExpect(jsonPath("$.data.salaryHistogram.0").value(2));
+    }
+
+    @Test
+    void getStats_ShouldLeaveOutTitleCounts_WhenNotAskedFor() throws Exception {
+        when(mockEmployeeService.getStats(false))
+                .thenReturn(new MockEmployeeStats(4, 0, null, null, null, 10_000, Map.of()));
+
+        mockMvc.perform(get("/api/v1/employee/stats").param("countByTitle", "false"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.count").value(0))
+                .andExpect(jsonPath("$.data.countByTitle").doesNotExist())
+                .andExpect(jsonPath("$.data.salary").doesNotExist());
+    }
+
+    @Test
+    void queryEmployees_ShouldPassFiltersAndSortToService() throws Exception {
+        final var jill = new MockEmployee(UUID.randomUUID(), "Jill Jenkins", 1, 30, "Advisor", "jill@company.com");
+        final var expected =
+                new MockEmployeeQuery("jill", true, false, 100, null, null, null, SortField.SALARY, true, 10);
+        when(mockEmployeeService.query(expected)).thenReturn(List.of(jill));
+
+        mockMvc.perform(get("/api/v1/employee/query")
+                        .param("name", "jill")
+                        .param("ignoreCase", "true")
+                        .param("minSalary", "100")
+                        .param("sort", "salary")
+                        .param("order", "desc")
+                        .param("limit", "10"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data[0].employee_name").value("Jill Jenkins"));
+    }
+
+    @Test
+    void queryEmployees_ShouldRejectUnknownSortField() throws Exception {
+        mockMvc.perform(get("/api/v1/employee/query").param("sort", "shoeSize"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.error").value("Unknown sort field 'shoeSize'"));
+    }
+
+    @Test
+    void createEmployees_ShouldAnswerBadRequest_WhenBatchIsOversized() throws Exception {
+        when(mockEmployeeService.createAll(anyList())).thenCallRealMethod();
+        final var item = "{\"name\":\"Jill Jenkins\",\"salary\":1,\"age\":30,\"title\":\"Advisor\"}";
+
+        mockMvc.perform(post("/api/v1/employee/batch")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(batch(item, MockEmployeeService.MAX_BATCH_SIZE + 1)))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.error").value("Batch of 1001 exceeds the limit of 1000"));
+    }
+
+    @Test
+    void deleteEmployees_ShouldAnswerBadRequest_WhenBatchIsOversized() throws Exception {
+        when(mockEmployeeService.deleteAllById(anyList())).thenCallRealMethod();
+
+        mockMvc.perform(delete("/api/v1/employee/batch")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(batch("\"" + UUID.randomUUID() + "\"", MockEmployeeService.MAX_BATCH_SIZE + 1)))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.error").value("Batch of 1001 exceeds the limit of 1000"));
+    }
+
+    @Test
+    void getEmployeePage_ShouldAnswerBadRequest_WhenCursorIsMalformed() throws Exception {
+        when(mockEmployeeService.getMockEmployeePage(anyInt(), anyString())).thenAnswer(invocation -> {
+            PageCursor.decode(invocation.getArgument(1));
+            return new MockEmployeePage(List.of(), null);
+        });
+
+        mockMvc.perform(get("/api/v1/employee").param("limit", "10").param("cursor", "not a cursor"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.error").value("Invalid page cursor: not a cursor"));
+    }
+
+    private static String batch(String item, int size) {
+        return "[" + String.join(",", Collections.nCopies(size, item)) + "]";
+    }
+}
@@ -0,0 +1,65 @@
+package com.reliaquest.server.model;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import org.junit.jupiter.api.Test;
+
+class MockEmployeeColumnsTest {
+
+    private final MockEmployee jill =
+            new MockEmployee(UUID.randomUUID(), "Jill Jenkins", 90000, 45, "Manager", "jill@company.com");
+    private final MockEmployee zoe =
+            new MockEmployee(UUID.randomUUID(), "Zoë Ångström", 70000, 30, "Engineer", "zoe@company.com");
+    private final MockEmployee blank = new MockEmployee(null, null, null, null, null, null);
+    private final MockEmployee bill =
+            new MockEmployee(UUID.randomUUID(), "Bill Bob", 50000, 25, "Engineer", "bill@company.com");
+
+    private final MockEmployeeColumns columns = MockEmployeeColumns.of(List.of(jill, zoe, blank, bill));
+
+    @Test
+    void get_ShouldRebuildEveryEmployeeInOrder() {
+        assertEquals(4, columns.size());
+        assertEquals(jill, columns.get(0));
+        assertEquals(zoe, columns.get(1));
+        assertEquals(blank, columns.get(2));
+        assertEquals(bill, columns.get(3));
+    }
+
+    @Test
+    void of_ShouldMarkMissingValuesAndEncodeTitlesOnce() {
+        assertEquals(MockEmployeeColumns.MISSING, columns.salary(2));
+        assertEquals(MockEmployeeColumns.MISSING, columns.age(2));
+        assertEquals(MockEmployeeColumns.NO_TITLE, columns.titleCode(2));
+        assertNull(columns.id(2));
+
+        assertEquals(List.of("Manager", "Engineer"), columns.titles());
+        assertEquals(columns.titleCode(1), columns.titleCode(3));
+        assertEquals(Map.of("Engineer", 2L), columns.countsByTitle(new long[] {0, 2}));
+    }
+
+    @Test
+    void query_ShouldMatchRowsLikeEmployees() {
+        final var query = new MockEmployeeQuery("zoe", true, true, 60000, null, null, null, null, false, null);
+
+        for (int row = 0; row < columns.size(); row++) {
+            assertEquals(query.matches(columns.get(row)), query.matches(columns, row));
+        }
+        assertTrue(query.matches(columns, 1));
+        assertFalse(query.matches(columns, 2));
+        assertTrue(MockEmployeeQuery.ALL.matches(columns, 2));
+    }
+
+    @Test
+    void dataBytes_ShouldCountEncodedStringsRatherThanObjects() {
+        final var empty = MockEmployeeColumns.of(List.of());
+
+        assertEquals(0, empty.size());
+        assertTrue(columns.dataBytes() < 4 * 200);
+    }
+}
@@ -0,0 +1,265 @@
+package com.reliaquest.server.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.reliaquest.server.model.CreateMockEmployeeInput;
+import com.reliaquest.server.model.DeleteMockEmployeeInput;
+import com.reliaquest.server.model.MockEmployee;
+import com.reliaquest.server.model.MockEmployeeQuery;
+import com.reliaquest.server.model.MockEmployeeQuery.SortField;
+import java.util.Collections;
+import java.util.List;
+import java.util.Locale;
+import java.util.Random;
+import java.util.UUID;
+import net.datafaker.Faker;
+import org.junit.jupiter.api.Test;
+
+class MockEmployeeServiceTest {
+
+    private final MockEmployeeService mockEmployeeService =
+            new MockEmployeeService(new Faker(Locale.ENGLISH), new MockEmployeeStore());
+
+    @Test
+    void create_ShouldMakeEmployeeFindableById() {
+        final var created = mockEmployeeService.create(input("Jill Jenkins"));
+
+        assertEquals(created, mockEmployeeService.findById(created.getId()).orElseThrow());
+        assertEquals(1, mockEmployeeService.getMockEmployees().size());
+        assertTrue(created.getEmail().endsWith("@company.com"));
+    }
+
+    @Test
+    void delete_ShouldRemoveEmployeeByName() {
+        final var created = mockEmployeeService.create(input("Jill Jenkins"));
+
+        assertTrue(mockEmployeeService.delete(deleteInput("jill jenkins")));
+        assertTrue(mockEmployeeService.findById(created.getId()).isEmpty());
+        assertFalse(mockEmployeeService.delete(deleteInput("jill jenkins")));
+    }
+
+    @Test
+    void getTaggedMockEmployees_ShouldChangeTagOnlyWhenRosterChanges() {
+        final var before = mockEmployeeService.getTaggedMockEmployees();
+        assertEquals(before.etag(), mockEmployeeService.getTaggedMockEmployees().etag());
+
+        mockEmployeeService.create(input("Jill Jenkins"));
+
+        final var after = mockEmployeeService.getTaggedMockEmployees();
+        assertNotEquals(before.etag(), after.etag());
+        assertEquals(1, after.value().size());
+        assertNotEquals(
+                after.etag(),
+                new MockEmployeeService(new Faker(Locale.ENGLISH), new MockEmployeeStore())
+                        .getTaggedMockEmployees()
+                        .etag());
+    }
+
+    @Test
+    void createAll_ShouldCreateEveryEmployeeInOrder() {
+        final var created = mockEmployeeService.createAll(List.of(input("Jill Jenkins"), input("Bill Bob")));
+
+        assertEquals(
+                List.of("Jill Jenkins", "Bill Bob"),
+                created.stream().map(MockEmployee::getName).toList());
+        assertEquals(created, mockEmployeeService.getMockEmployees());
+    }
+
+    @Test
+    void deleteAllById_ShouldReturnOnlyExistingEmployees() {
+        final var jill = mockEmployeeService.create(input("Jill Jenkins"));
+
+        assertEquals(List.of(jill), mockEmployeeService.deleteAllById(List.of(UUID.randomUUID(), jill.getId())));
+        assertTrue(mockEmployeeService.getMockEmployees().isEmpty());
+    }
+
+    @Test
+    void deleteAllById_ShouldRejectOversizedBatch() {
+        final var ids = Collections.nCopies(MockEmployeeService.MAX_BATCH_SIZE + 1, UUID.randomUUID());
+
+        assertThrows(IllegalArgumentException.class, () -> mockEmployeeService.deleteAllById(ids));
+    }
+
+    @Test
+    void getMockEmployeePage_ShouldWalkRosterInInsertionOrder() {
+        final var first = mockEmployeeService.create(input("Jill Jenkins"));
+        final var second = mockEmployeeService.create(input("Bill Bob"));
+        final var third = mockEmployeeService.create(input("Tiger Nixon"));
+
+        final var page = mockEmployeeService.getMockEmployeePage(2, null);
+        assertEquals(List.of(first, second), page.employees());
+        assertNotNull(page.nextCursor());
+
+        final var last = mockEmployeeService.getMockEmployeePage(2, page.nextCursor());
+        assertEquals(List.of(third), last.employees());
+        assertNull(last.nextCursor());
+    }
+
+    @Test
+    void getMockEmployeePage_ShouldSkipEmployeesDeletedBetweenPages() {
+        mockEmployeeService.create(input("Jill Jenkins"));
+        mockEmployeeService.create(input("Bill Bob"));
+        final var third = mockEmployeeService.create(input("Tiger Nixon"));
+
+        final var page = mockEmployeeService.getMockEmployeePage(1, null);
+        mockEmployeeService.delete(deleteInput("Bill Bob"));
+
+        assertEquals(
+                List.of(third),
+                mockEmployeeService.getMockEmployeePage(5, page.nextCursor()).employees());
+    }
+
+    @Test
+    void getMockEmployeePage_ShouldRejectMalformedCursor() {
+        assertThrows(IllegalArgumentException.class, () -> mockEmployeeService.getMockEmployeePage(5, "not-a-cursor"));
+    }
+
+    @Test
+    void streamMockEmployees_ShouldYieldEveryEmployee() {
+        final var first = mockEmployeeService.create(input("Jill Jenkins"));
+        final var second = mockEmployeeService.create(input("Bill Bob"));
+
+        assertEquals(
+                List.of(first, second),
+                mockEmployeeService.streamMockEmployees().toList());
+    }
+
+    @Test
+    void query_ShouldFilterByFoldedNameAndRanges() {
+        mockEmployeeService.create(input("José Álvarez", 90000, 30, "Engineer"));
+        final var jose = mockEmployeeService.create(input("Jose Alvarez", 120000, 40, "Engineer"));
+        mockEmployeeService.create(input("Bill Bob", 120000, 40, "Engineer"));
+
+        final var query = new MockEmployeeQuery("JOSE", true, true, 100000, null, 35, 45, null, false, null);
+
+        assertEquals(List.of(jose), mockEmployeeService.query(query));
+        assertEquals(
+                2,
+                mockEmployeeService
+                        .query(new MockEmployeeQuery("jose", true, true, null, null, null, null, null, false, null))
+                        .size());
+        assertEquals(
+                1,
+                mockEmployeeService
+                        .query(new MockEmployeeQuery("josé", true, false, null, null, null, null, null, false, null))
+                        .size());
+    }
+
+    @Test
+    void query_ShouldKeepTopMatchesInOrder_WhenSortedWithLimit() {
+        final var low = mockEmployeeService.create(input("Low", 10, 30, "Clerk"));
+        final var high = mockEmployeeService.create(input("High", 30, 30, "Clerk"));
+        final var firstTie = mockEmployeeService.create(input("Tie One", 20, 30, "Clerk"));
+        final var secondTie = mockEmployeeService.create(input("Tie Two", 20, 30, "Clerk"));
+
+        assertEquals(
+                List.of(high, firstTie),
+                mockEmployeeService.query(
+                        new MockEmployeeQuery(null, false, false, null, null, null, null, SortField.SALARY, true, 2)));
+        assertEquals(
+                List.of(low, firstTie, secondTie, high),
+                mockEmployeeService.query(new MockEmployeeQuery(
+                        null, false, false, null, null, null, null, SortField.SALARY, false, null)));
+    }
+
+    @Test
+    void query_ShouldMatchFullSort_WhenLimitIsBelowOrAboveHeapCapacity() {
+        final var random = new Random(7);
+        for (int i = 0; i < 2000; i++) {
+            mockEmployeeService.create(input("Salaried " + i, 1 + random.nextInt(500), 30, "Clerk"));
+        }
+        final var sorted = mockEmployeeService.query(
+                new MockEmployeeQuery(null, false, false, null, null, null, null, SortField.SALARY, true, null));
+
+        for (int limit : new int[] {1, 7, 1500}) {
+            assertEquals(
+                    sorted.subList(0, limit),
+                    mockEmployeeService.query(new MockEmployeeQuery(
+                            null, false, false, null, null, null, null, SortField.SALARY, true, limit)));
+        }
+    }
+
+    @Test
+    void query_ShouldRankEmployeesMissingTheSortFieldLast() {
+        final var store = new MockEmployeeStore();
+        final var service = new MockEmployeeService(new Faker(Locale.ENGLISH), store);
+        final var unpaid = MockEmployee.from("unpaid@company.com", input("Unpaid", 1, 30, "Clerk")).toBuilder()
+                .salary(null)
+                .build();
+        final var low = MockEmployee.from("low@company.com", input("Low", Integer.MIN_VALUE + 1, 30, "Clerk"));
+        final var high = MockEmployee.from("high@company.com", input("High", Integer.MAX_VALUE, 30, "Clerk"));
+        store.addAll(List.of(unpaid, high, low));
+
+        assertEquals(
+                List.of(high, low, unpaid),
+                service.query(new MockEmployeeQuery(
+                        null, false, false, null, null, null, null, SortField.SALARY, true, null)));
+        assertEquals(
+                List.of(low, high),
+                service.query(
+                        new MockEmployeeQuery(null, false, false, null, null, null, null, SortField.SALARY, false, 2)));
+    }
+
+    @Test
+    void query_ShouldRejectUnknownSortField() {
+        assertThrows(IllegalArgumentException.class, () -> SortField.parse("shoeSize"));
+        assertEquals(SortField.SALARY, SortField.parse("salary"));
+    }
+
+    @Test
+    void aggregate_ShouldSummarizeMatchingEmployees() {
+        for (int salary = 1; salary <= 100; salary++) {
+            mockEmployeeService.create(
+                    input("Employee " + salary, salary * 1000, 30, salary <= 25 ? "Lead" : "Engineer"));
+        }
+
+        final var aggregates = mockEmployeeService.aggregate(MockEmployeeQuery.ALL, List.of(50.0, 99.9), true);
+
+        assertEquals(100, aggregates.count());
+        assertEquals(1000, aggregates.salary().min());
+        assertEquals(100000, aggregates.salary().max());
+        assertEquals(50500.0, aggregates.salary().average());
+        assertEquals(50000, aggregates.salary().percentiles().get("p50"));
+        assertEquals(100000, aggregates.salary().percentiles().get("p99.9"));
+        assertEquals(75L, aggregates.countByTitle().get("Engineer"));
+        assertEquals(25L, aggregates.countByTitle().get("Lead"));
+    }
+
+    @Test
+    void aggregate_ShouldOmitSalary_WhenNothingMatches() {
+        final var aggregates = mockEmployeeService.aggregate(
+                new MockEmployeeQuery(null, false, false, 1, 2, null, null, null, false, null), List.of(50.0), false);
+
+        assertEquals(0, aggregates.count());
+        assertNull(aggregates.salary());
+        assertNull(aggregates.countByTitle());
+        assertThrows(
+                IllegalArgumentException.class,
+                () -> mockEmployeeService.aggregate(MockEmployeeQuery.ALL, List.of(0.0), true));
+    }
+
+    private static CreateMockEmployeeInput input(String name) {
+        return input(name, 139082, 48, "Financial Advisor");
+    }
+
+    private static CreateMockEmployeeInput input(String name, int salary, int age, String title) {
+        final var input = new CreateMockEmployeeInput();
+        input.setName(name);
+        input.setSalary(salary);
+        input.setAge(age);
+        input.setTitle(title);
+        return input;
+    }
+
+    private static DeleteMockEmployeeInput deleteInput(String name) {
+        final var input = new DeleteMockEmployeeInput();
+        input.setName(name);
+        return input;
+    }
+}
@@ -0,0 +1,136 @@
+package com.reliaquest.server.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.reliaquest.server.model.MockEmployee;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+class MockEmployeeStoreStressTest {
+
+    private static final int WRITERS = 8;
+    private static final int READERS = 8;
+    private static final int EMPLOYEES_PER_WRITER = 5_000;
+
+    private final ExecutorService executor = Executors.newFixedThreadPool(WRITERS + READERS);
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    void concurrentWritesAndReads_ShouldKeepIndexesAndSnapshotsConsistent() throws Exception {
+        final var store = new MockEmployeeStore();
+        final var start = new CountDownLatch(1);
+        final var writersDone = new AtomicBoolean();
+        final var snapshotsChecked = new AtomicInteger();
+
+        final List<Future<?>> writers = new ArrayList<>();
+        for (int writer = 0; writer < WRITERS; writer++) {
+            final int writerId = writer;
+            writers.add(executor.submit(() -> {
+                start.await();
+                for (int i = 0; i < EMPLOYEES_PER_WRITER; i++) {
+                    final var employee = employee("writer-%d-%d".formatted(writerId, i));
+                    store.add(employee);
+                    assertEquals(employee, store.findById(employee.getId()).orElseThrow());
+                    if (i % 2 == 1) {
+                        assertTrue(store.removeFirstByName("WRITER-%d-%d".formatted(writerId, i - 1))
+                                .isPresent());
+                    }
+                }
+                return null;
+            }));
+        }
+
+        final List<Future<?>> readers = new ArrayList<>();
+        for (int reader = 0; reader < READERS; reader++) {
+            readers.add(executor.submit((Callable<Void>) () -> {
+                start.await();
+                while (!writersDone.get()) {
+                    final var snapshot = store.getAll();
+                    final var ids = new HashSet<UUID>();
+                    for (MockEmployee employee : snapshot) {
+                        assertTrue(ids.add(employee.getId()), "duplicate employee in snapshot");
+                    }
+                    snapshotsChecked.incrementAndGet();
+                }
+                return null;
+            }));
+        }
+
+        start.countDown();
+        for (Future<?> writer : writers) {
+            writer.get(60, TimeUnit.SECONDS);
+        }
+        writersDone.set(true);
+        for (Future<?> reader : readers) {
+            reader.get(60, TimeUnit.SECONDS);
+        }
+
+        final int expected = WRITERS * EMPLOYEES_PER_WRITER / 2;
+        assertEquals(expected, store.size());
+        assertEquals(expected, store.getAll().size());
+        assertEquals((long) WRITERS * EMPLOYEES_PER_WRITER * 3 / 2, store.getVersion());
+        for (MockEmployee employee : store.getAll()) {
+            assertTrue(employee.getName().endsWith("1")
+                    || employee.getName().endsWith("3")
+                    || employee.getName().endsWith("5")
+                    || employee.getName().endsWith("7")
+                    || employee.getName().endsWith("9"));
+            assertEquals(employee, store.findById(employee.getId()).orElseThrow());
+            assertEquals(employee, store.findFirstByName(employee.getName()).orElseThrow());
+        }
+        assertTrue(snapshotsChecked.get() > 0);
+    }
+
+    @Test
+    void concurrentDeletesOfSameName_ShouldRemoveEachEmployeeExactlyOnce() throws Exception {
+        final int duplicates = 10_000;
+        final var store = new MockEmployeeStore();
+        for (int i = 0; i < duplicates; i++) {
+            store.add(employee("Tiger Nixon"));
+        }
+
+        final var removed = new AtomicInteger();
+        final List<Future<?>> deleters = new ArrayList<>();
+        for (int i = 0; i < WRITERS + READERS; i++) {
+            deleters.add(executor.submit(() -> {
+                while (store.removeFirstByName("tiger nixon").isPresent()) {
+                    removed.incrementAndGet();
+                }
+            }));
+        }
+        for (Future<?> deleter : deleters) {
+            deleter.get(60, TimeUnit.SECONDS);
+        }
+
+        assertEquals(duplicates, removed.get());
+        assertTrue(store.getAll().isEmpty());
+    }
+
+    private static MockEmployee employee(String name) {
+        return MockEmployee.builder()
+                .id(UUID.randomUUID())
+                .name(name)
+                .salary(50000)
+                .age(30)
+                .title("Engineer")
+                .email("employee@company.com")
+                .build();
+    }
+}
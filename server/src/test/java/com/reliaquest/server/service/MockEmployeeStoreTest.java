@@ -0,0 +1,171 @@
+package com.reliaquest.server.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.reliaquest.server.model.MockEmployee;
+import com.reliaquest.server.model.MockEmployeeStats.Summary;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import org.junit.jupiter.api.Test;
+
+class MockEmployeeStoreTest {
+
+    private final MockEmployee tiger = employee("Tiger Nixon");
+    private final MockEmployee bill = employee("Bill Bob");
+    private final MockEmployee secondTiger = employee("tiger nixon");
+
+    private final MockEmployeeStore store = new MockEmployeeStore(List.of(tiger, bill, secondTiger));
+
+    @Test
+    void getAll_ShouldKeepInsertionOrder() {
+        assertEquals(List.of(tiger, bill, secondTiger), store.getAll());
+        assertEquals(3, store.size());
+    }
+
+    @Test
+    void findById_ShouldUsePrimaryIndex() {
+        assertEquals(bill, store.findById(bill.getId()).orElseThrow());
+        assertTrue(store.findById(UUID.randomUUID()).isEmpty());
+    }
+
+    @Test
+    void removeFirstByName_ShouldRemoveEarliestCaseInsensitiveMatch() {
+        assertEquals(tiger, store.removeFirstByName("TIGER NIXON").orElseThrow());
+
+        assertEquals(List.of(bill, secondTiger), store.getAll());
+        assertTrue(store.findById(tiger.getId()).isEmpty());
+        assertEquals(secondTiger, store.findFirstByName("Tiger Nixon").orElseThrow());
+    }
+
+    @Test
+    void removeFirstByName_ShouldReturnEmpty_WhenNameUnknown() {
+        assertTrue(store.removeFirstByName("Jill Jenkins").isEmpty());
+        assertEquals(3, store.size());
+    }
+
+    @Test
+    void removeAllById_ShouldUnlinkFromEveryIndexUnderOneVersionBump() {
+        final long version = store.getVersion();
+
+        assertEquals(
+                List.of(secondTiger, bill),
+                store.removeAllById(List.of(secondTiger.getId(), UUID.randomUUID(), bill.getId())));
+
+        assertEquals(version + 1, store.getVersion());
+        assertEquals(List.of(tiger), store.getAll());
+        assertEquals(tiger, store.findFirstByName("tiger nixon").orElseThrow());
+        assertTrue(store.findFirstByName("Bill Bob").isEmpty());
+    }
+
+    @Test
+    void addAll_ShouldAppendInOrder() {
+        final var jill = employee("Jill Jenkins");
+        final var anna = employee("Anna Lee");
+
+        store.addAll(List.of(jill, anna));
+
+        assertEquals(List.of(tiger, bill, secondTiger, jill, anna), store.getAll());
+        assertEquals(anna, store.findById(anna.getId()).orElseThrow());
+    }
+
+    @Test
+    void add_ShouldAppendAndIndexEmployee() {
+        final var jill = employee("Jill Jenkins");
+        store.add(jill);
+
+        assertEquals(jill, store.getAll().get(3));
+        assertEquals(jill, store.findById(jill.getId()).orElseThrow());
+        assertEquals(jill, store.findFirstByName("jill jenkins").orElseThrow());
+    }
+
+    @Test
+    void changesSince_ShouldReturnNetInsertsAndDeletes() {
+        final long since = store.getVersion();
+        final var jill = employee("Jill Jenkins");
+        final var anna = employee("Anna Lee");
+        store.add(jill);
+        store.add(anna);
+        store.removeAllById(List.of(bill.getId(), anna.getId()));
+
+        final var changes = store.changesSince(since);
+
+        assertFalse(changes.reset());
+        assertEquals(store.getVersion(), changes.version());
+        assertEquals(List.of(jill), changes.inserted());
+        assertEquals(List.of(bill.getId()), changes.deleted());
+        assertTrue(store.changesSince(store.getVersion()).inserted().isEmpty());
+    }
+
+    @Test
+    void changesSince_ShouldResetWhenLogNoLongerCoversVersion() {
+        final var small = new MockEmployeeStore(2);
+        small.add(tiger);
+        small.add(bill);
+        small.add(secondTiger);
+
+        final var behind = small.changesSince(0);
+        assertTrue(behind.reset());
+        assertEquals(List.of(tiger, bill, secondTiger), behind.inserted());
+
+        assertFalse(small.changesSince(1).reset());
+        assertEquals(List.of(bill, secondTiger), small.changesSince(1).inserted());
+        assertTrue(small.changesSince(small.getVersion() + 1).reset());
+    }
+
+    @Test
+    void stats_ShouldFollowInsertsAndDeletes() {
+        final var jill = employee("Jill Jenkins", 120_000, 45, "Manager");
+        final var anna = employee("Anna Lee", 120_000, 25, "Engineer");
+        store.addAll(List.of(jill, anna));
+
+        var stats = store.stats();
+        assertEquals(store.getVersion(), stats.version());
+        assertEquals(5, stats.count());
+        assertEquals(new Summary(50_000, 120_000, 390_000, 78_000.0), stats.salary());
+        assertEquals(new Summary(25, 45, 160, 32.0), stats.age());
+        assertEquals(Map.of("Engineer", 4L, "Manager", 1L), stats.countByTitle());
+        assertEquals(Map.of(50_000, 3L, 120_000, 2L), stats.salaryHistogram());
+        assertSame(stats, store.stats());
+
+        store.removeAllById(List.of(jill.getId()));
+        stats = store.stats();
+        assertEquals(120_000, stats.salary().max());
+        assertEquals(Map.of("Engineer", 4L), stats.countByTitle());
+
+        store.removeAllById(List.of(anna.getId()));
+        stats = store.stats();
+        assertEquals(new Summary(50_000, 50_000, 150_000, 50_000.0), stats.salary());
+        assertEquals(30, stats.age().min());
+        assertEquals(Map.of(50_000, 3L), stats.salaryHistogram());
+    }
+
+    @Test
+    void stats_ShouldOmitSummaries_WhenStoreIsEmpty() {
+        store.removeAllById(List.of(tiger.getId(), bill.getId(), secondTiger.getId()));
+
+        final var stats = store.stats();
+        assertEquals(0, stats.count());
+        assertNull(stats.salary());
+        assertTrue(stats.countByTitle().isEmpty());
+    }
+
+    private static MockEmployee employee(String name) {
+        return employee(name, 50000, 30, "Engineer");
+    }
+
+    private static MockEmployee employee(String name, int salary, int age, String title) {
+        return MockEmployee.builder()
+                .id(UUID.randomUUID())
+                .name(name)
+                .salary(salary)
+                .age(age)
+                .title(title)
+                .email("employee@company.com")
+                .build();
+    }
+}
@@ -0,0 +1,35 @@
+package com.reliaquest.server.web;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.Duration;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+class RandomRequestLimitInterceptorTest {
+
+    @Test
+    void preHandle_ShouldRejectRequestsOverConfiguredLimit() {
+        final var interceptor = new RandomRequestLimitInterceptor(2, Duration.ofMinutes(1));
+
+        assertTrue(interceptor.preHandle(new MockHttpServletRequest(), new MockHttpServletResponse(), null));
+        assertTrue(interceptor.preHandle(new MockHttpServletRequest(), new MockHttpServletResponse(), null));
+
+        final var rejected = new MockHttpServletResponse();
+        assertFalse(interceptor.preHandle(new MockHttpServletRequest(), rejected, null));
+        assertEquals(HttpStatus.TOO_MANY_REQUESTS.value(), rejected.getStatus());
+    }
+
+    @Test
+    void constructor_ShouldPickRandomLimitsWithinOriginalRanges_WhenUnset() {
+        final var interceptor = new RandomRequestLimitInterceptor();
+
+        assertTrue(interceptor.getRequestLimit() >= 5 && interceptor.getRequestLimit() < 10);
+        assertTrue(interceptor.getBackoff().toSeconds() >= 30
+                && interceptor.getBackoff().toSeconds() < 90);
+    }
+}